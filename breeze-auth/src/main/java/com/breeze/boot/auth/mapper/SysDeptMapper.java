@@ -16,13 +16,9 @@
 
 package com.breeze.boot.auth.mapper;
 
-import com.breeze.boot.auth.model.bo.SysDeptBO;
 import com.breeze.boot.auth.model.entity.SysDept;
 import com.breeze.boot.mybatis.mapper.BreezeBaseMapper;
 import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
-
-import java.util.List;
 
 /**
  * 系统部门映射器
@@ -33,20 +29,4 @@ import java.util.List;
 @Mapper
 public interface SysDeptMapper extends BreezeBaseMapper<SysDept> {
 
-    /**
-     * 查询部门
-     *
-     * @param id id
-     * @return {@link List}<{@link SysDeptBO}>
-     */
-    List<SysDeptBO> selectDeptById(@Param("id") Long id);
-
-    /**
-     * 查询部门
-     *
-     * @param parentId 父id
-     * @return {@link List}<{@link SysDeptBO}>
-     */
-    List<SysDeptBO> selectDeptByParentId(@Param("parentId") Long parentId);
-
 }
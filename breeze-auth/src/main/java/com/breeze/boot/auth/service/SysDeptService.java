@@ -18,7 +18,6 @@ package com.breeze.boot.auth.service;
 
 import cn.hutool.core.lang.tree.Tree;
 import com.baomidou.mybatisplus.extension.service.IService;
-import com.breeze.boot.auth.model.bo.SysDeptBO;
 import com.breeze.boot.auth.model.entity.SysDept;
 import com.breeze.boot.auth.model.form.DeptForm;
 import com.breeze.boot.auth.model.query.DeptQuery;
@@ -74,14 +73,6 @@ public interface SysDeptService extends IService<SysDept> {
      */
     List<Long> listDeptByParentId(Long deptId);
 
-    /**
-     * 列出子部门id
-     *
-     * @param deptId 部门id
-     * @return {@link List }<{@link SysDeptBO }>
-     */
-    List<SysDeptBO> listSubDeptId(Long deptId);
-
     /**
      * 部门下拉框
      *
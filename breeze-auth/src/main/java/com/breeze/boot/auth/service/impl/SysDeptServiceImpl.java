@@ -24,25 +24,27 @@ import cn.hutool.core.util.StrUtil;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.breeze.boot.auth.mapper.SysDeptMapper;
-import com.breeze.boot.auth.model.bo.SysDeptBO;
 import com.breeze.boot.auth.model.converter.SysDeptConverter;
 import com.breeze.boot.auth.model.entity.SysDept;
 import com.breeze.boot.auth.model.form.DeptForm;
 import com.breeze.boot.auth.model.query.DeptQuery;
 import com.breeze.boot.auth.service.SysDeptService;
 import com.breeze.boot.core.enums.ResultCode;
+import com.breeze.boot.core.exception.BreezeBizException;
 import com.breeze.boot.core.utils.AssertUtil;
+import com.breeze.boot.core.utils.BreezeTenantHolder;
 import com.breeze.boot.core.utils.Result;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.compress.utils.Lists;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.breeze.boot.core.constants.CoreConstants.ROOT;
@@ -58,8 +60,24 @@ import static com.breeze.boot.core.enums.ResultCode.IS_USED;
 @RequiredArgsConstructor
 public class SysDeptServiceImpl extends ServiceImpl<SysDeptMapper, SysDept> implements SysDeptService {
 
+    /**
+     * 未设置租户时的缓存 key
+     */
+    private static final Long NO_TENANT = -1L;
+
     private final SysDeptConverter sysDeptConverter;
 
+    /**
+     * 部门树索引，按租户缓存
+     * <p>
+     * 一次查询全部部门的 id / parent_id 构建内存索引，部门变更时失效重建；
+     * 多节点部署时其他节点依赖过期时间兜底
+     * </p>
+     */
+    private final Cache<Long, DeptTreeIndex> deptTreeIndexCache = CacheBuilder.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
     /**
      * 部门列表
      *
@@ -98,14 +116,18 @@ public class SysDeptServiceImpl extends ServiceImpl<SysDeptMapper, SysDept> impl
     @Override
     public Boolean saveDept(DeptForm form) {
         SysDept sysDept = this.sysDeptConverter.form2Entity(form);
-        return this.save(sysDept);
+        boolean save = this.save(sysDept);
+        this.evictDeptTreeIndex();
+        return save;
     }
 
     @Override
     public Boolean modifyDept(@Valid Long id, DeptForm form) {
         SysDept sysDept = this.sysDeptConverter.form2Entity(form);
         sysDept.setId(id);
-        return this.updateById(sysDept);
+        boolean update = this.updateById(sysDept);
+        this.evictDeptTreeIndex();
+        return update;
     }
 
     /**
@@ -120,21 +142,22 @@ public class SysDeptServiceImpl extends ServiceImpl<SysDeptMapper, SysDept> impl
         AssertUtil.isTrue(CollUtil.isEmpty(deptEntityList), IS_USED);
         boolean remove = this.removeById(id);
         AssertUtil.isTrue(remove, ResultCode.FAIL);
+        this.evictDeptTreeIndex();
         return Result.ok(Boolean.TRUE, "删除成功");
     }
 
+    /**
+     * 查询本级以及所有下级部门ID
+     *
+     * @param deptId 部门ID
+     * @return {@link List}<{@link Long}>
+     */
     @Override
     public List<Long> listDeptByParentId(Long deptId) {
-        List<SysDeptBO> deptBOList = this.baseMapper.selectDeptById(deptId);
-        if(CollUtil.isEmpty(deptBOList)){
+        if (Objects.isNull(deptId)) {
             return Lists.newArrayList();
         }
-        return this.findPropertyInTree(deptBOList.get(0));
-    }
-
-    @Override
-    public List<SysDeptBO> listSubDeptId(Long deptId) {
-        return this.baseMapper.selectDeptById(deptId);
+        return this.getDeptTreeIndex().listSubTree(deptId);
     }
 
     /**
@@ -148,18 +171,58 @@ public class SysDeptServiceImpl extends ServiceImpl<SysDeptMapper, SysDept> impl
         return Result.ok(this.listDept(DeptQuery.builder().id(id).build()));
     }
 
-    public List<Long> findPropertyInTree(SysDeptBO node) {
-        List<Long> result = new ArrayList<>();
-        if (node != null) {
-            result.add(node.getId()); // 将当前节点的属性值添加到结果中
-            if (node.getSubDeptList() != null) {
-                for (SysDeptBO child : node.getSubDeptList()) {
-                    // 递归查询子节点的属性值并添加到结果中
-                    result.addAll(findPropertyInTree(child));
+    private DeptTreeIndex getDeptTreeIndex() {
+        Long tenantId = Optional.ofNullable(BreezeTenantHolder.getTenant()).orElse(NO_TENANT);
+        try {
+            return this.deptTreeIndexCache.get(tenantId, () -> new DeptTreeIndex(this.list(Wrappers.<SysDept>lambdaQuery()
+                    .select(SysDept::getId, SysDept::getParentId))));
+        } catch (ExecutionException e) {
+            throw new BreezeBizException(ResultCode.FAIL);
+        }
+    }
+
+    private void evictDeptTreeIndex() {
+        this.deptTreeIndexCache.invalidate(Optional.ofNullable(BreezeTenantHolder.getTenant()).orElse(NO_TENANT));
+    }
+
+    /**
+     * 部门树索引，父ID -> 子ID 列表
+     */
+    private static class DeptTreeIndex {
+
+        private final Set<Long> deptIds = new HashSet<>();
+
+        private final Map<Long, List<Long>> childrenMap = new HashMap<>();
+
+        DeptTreeIndex(List<SysDept> deptList) {
+            for (SysDept sysDept : deptList) {
+                this.deptIds.add(sysDept.getId());
+                this.childrenMap.computeIfAbsent(sysDept.getParentId(), key -> new ArrayList<>()).add(sysDept.getId());
+            }
+        }
+
+        /**
+         * 广度优先获取本级以及所有下级部门ID，部门不存在返回空
+         */
+        List<Long> listSubTree(Long deptId) {
+            List<Long> result = new ArrayList<>();
+            if (!this.deptIds.contains(deptId)) {
+                return result;
+            }
+            Set<Long> visited = new HashSet<>();
+            Deque<Long> queue = new ArrayDeque<>();
+            queue.add(deptId);
+            while (!queue.isEmpty()) {
+                Long current = queue.poll();
+                // 防止脏数据成环
+                if (!visited.add(current)) {
+                    continue;
                 }
+                result.add(current);
+                queue.addAll(this.childrenMap.getOrDefault(current, Collections.emptyList()));
             }
+            return result;
         }
-        return result;
     }
 
 }
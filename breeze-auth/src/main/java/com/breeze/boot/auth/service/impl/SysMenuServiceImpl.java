@@ -36,6 +36,7 @@ import com.breeze.boot.auth.service.SysRoleMenuService;
 import com.breeze.boot.core.enums.ResultCode;
 import com.breeze.boot.core.utils.AssertUtil;
 import com.breeze.boot.core.utils.Result;
+import com.breeze.boot.satoken.spt.BreezePermissionCache;
 import com.breeze.boot.satoken.utils.BreezeStpUtil;
 import com.google.common.collect.Maps;
 import lombok.RequiredArgsConstructor;
@@ -65,6 +66,11 @@ public class SysMenuServiceImpl extends ServiceImpl<SysMenuMapper, SysMenu> impl
      */
     private final SysRoleMenuService sysRoleMenuService;
 
+    /**
+     * 角色权限二级缓存
+     */
+    private final BreezePermissionCache permissionCache;
+
     /**
      * 用户菜单权限列表
      *
@@ -167,7 +173,12 @@ public class SysMenuServiceImpl extends ServiceImpl<SysMenuMapper, SysMenu> impl
     public Result<Boolean> modifyMenu(Long id, MenuForm form) {
         SysMenu sysMenu = this.sysMenuConverter.form2Entity(form);
         sysMenu.setId(id);
-        return Result.ok(this.updateById(sysMenu));
+        boolean update = this.updateById(sysMenu);
+        if (update) {
+            // 权限标识可能变更，清除所有角色权限缓存
+            this.permissionCache.evictAll();
+        }
+        return Result.ok(update);
     }
 
     /**
@@ -184,6 +195,7 @@ public class SysMenuServiceImpl extends ServiceImpl<SysMenuMapper, SysMenu> impl
         AssertUtil.isTrue(remove, ResultCode.FAIL);
         // 删除已经关联的角色的菜单
         this.sysRoleMenuService.remove(Wrappers.<SysRoleMenu>lambdaQuery().eq(SysRoleMenu::getMenuId, id));
+        this.permissionCache.evictAll();
         return Result.ok(Boolean.TRUE, "删除成功");
     }
 
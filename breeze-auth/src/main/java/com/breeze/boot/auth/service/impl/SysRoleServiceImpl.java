@@ -38,6 +38,7 @@ import com.breeze.boot.auth.service.SysRoleRowPermissionService;
 import com.breeze.boot.auth.service.SysRoleService;
 import com.breeze.boot.core.utils.AssertUtil;
 import com.breeze.boot.core.utils.Result;
+import com.breeze.boot.satoken.spt.BreezePermissionCache;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import lombok.RequiredArgsConstructor;
@@ -77,6 +78,11 @@ public class SysRoleServiceImpl extends ServiceImpl<SysRoleMapper, SysRole> impl
      */
     private final SysRoleRowPermissionService sysRoleRowPermissionService;
 
+    /**
+     * 角色权限二级缓存
+     */
+    private final BreezePermissionCache permissionCache;
+
     /**
      * 列表页面
      *
@@ -173,6 +179,7 @@ public class SysRoleServiceImpl extends ServiceImpl<SysRoleMapper, SysRole> impl
                 if (permissionList != null) {
                     SaManager.getSaTokenDao().delete(PERMISSIONS + sysRole.getRoleCode());
                 }
+                this.permissionCache.evictRole(sysRole.getRoleCode());
             }
         }
         return Result.ok(Boolean.TRUE, "删除成功");
@@ -229,6 +236,7 @@ public class SysRoleServiceImpl extends ServiceImpl<SysRoleMapper, SysRole> impl
                 permissionList = this.sysMenuService.listUserPermissionByRoleCode(sysRole.getRoleCode());
                 SaManager.getSaTokenDao().updateObject(PERMISSIONS + sysRole.getRoleCode(), permissionList);
             }
+            this.permissionCache.evictRole(sysRole.getRoleCode());
         }
         return Result.ok(batch);
     }
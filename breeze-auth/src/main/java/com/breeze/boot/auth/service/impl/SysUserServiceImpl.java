@@ -25,7 +25,6 @@ import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.breeze.boot.auth.mapper.SysUserMapper;
-import com.breeze.boot.auth.model.bo.SysDeptBO;
 import com.breeze.boot.auth.model.bo.UserBO;
 import com.breeze.boot.auth.model.bo.UserRoleBO;
 import com.breeze.boot.auth.model.converter.SysUserConverter;
@@ -45,20 +44,24 @@ import com.breeze.boot.core.utils.AesUtil;
 import com.breeze.boot.core.utils.AssertUtil;
 import com.breeze.boot.core.utils.EasyExcelExport;
 import com.breeze.boot.core.utils.Result;
+import com.breeze.boot.satoken.spt.BreezePermissionCache;
 import com.breeze.boot.satoken.model.UserInfoDTO;
 import com.breeze.boot.satoken.propertise.AesSecretProperties;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
+import static com.breeze.boot.core.constants.CacheConstants.PERMISSIONS;
 import static com.breeze.boot.core.constants.CacheConstants.ROLE_PERMISSION;
 import static com.breeze.boot.core.enums.DataPermissionType.CUSTOMIZES;
 import static com.breeze.boot.core.enums.ResultCode.*;
@@ -105,6 +108,17 @@ public class SysUserServiceImpl extends ServiceImpl<SysUserMapper, SysUser> impl
      */
     private final SysRoleRowPermissionService sysRoleRowPermissionService;
 
+    /**
+     * 角色权限二级缓存
+     */
+    private final BreezePermissionCache permissionCache;
+
+    /**
+     * 登录用户信息并行加载线程池
+     */
+    @Qualifier("loginLoaderExecutor")
+    private final Executor loginLoaderExecutor;
+
     /**
      * 列表页面
      *
@@ -203,6 +217,7 @@ public class SysUserServiceImpl extends ServiceImpl<SysUserMapper, SysUser> impl
                 userRoleCodeList = userRoleBOList.stream().map(UserRoleBO::getRoleCode).collect(Collectors.toList());
                 SaManager.getSaTokenDao().updateObject(ROLE_PERMISSION + id, userRoleCodeList);
             }
+            this.permissionCache.evictUser(id);
         }
         return saveBatch;
     }
@@ -257,6 +272,8 @@ public class SysUserServiceImpl extends ServiceImpl<SysUserMapper, SysUser> impl
         if (remove) {
             // 删除用户角色关系
             this.sysUserRoleService.remove(Wrappers.<SysUserRole>lambdaQuery().in(SysUserRole::getUserId, sysUser.getId()));
+            SaManager.getSaTokenDao().delete(ROLE_PERMISSION + sysUser.getId());
+            this.permissionCache.evictUser(sysUser.getId());
         }
     }
 
@@ -277,6 +294,8 @@ public class SysUserServiceImpl extends ServiceImpl<SysUserMapper, SysUser> impl
                 .map(roleId -> SysUserRole.builder().roleId(roleId).userId(sysUser.getId()).build())
                 .collect(Collectors.toList());
         this.sysUserRoleService.saveBatch(collect);
+        SaManager.getSaTokenDao().delete(ROLE_PERMISSION + sysUser.getId());
+        this.permissionCache.evictUser(sysUser.getId());
         return Result.ok(Boolean.TRUE, "分配成功");
     }
 
@@ -394,57 +413,57 @@ public class SysUserServiceImpl extends ServiceImpl<SysUserMapper, SysUser> impl
             List<UserRoleBO> userRoleBOList = Optional.ofNullable(sysRoleService.listRoleByUserId(sysUser.getId()))
                     .orElse(Collections.emptyList());
             AssertUtil.isTrue(CollUtil.isNotEmpty(userRoleBOList), USERS_ROLE_IS_NULL);
+            // 以下查询互不依赖，并行加载，每个任务只写 userInfo 的不同字段
             // 获取部门名称
-            this.setDeptName(sysUser, userInfo);
+            CompletableFuture<Void> deptNameFuture = CompletableFuture.runAsync(() -> this.setDeptName(sysUser, userInfo), this.loginLoaderExecutor);
             // 获取子级部门
-            this.setSubDeptId(sysUser, userInfo);
+            CompletableFuture<Void> subDeptFuture = CompletableFuture.runAsync(() -> this.setSubDeptId(sysUser, userInfo), this.loginLoaderExecutor);
             // 权限
-            this.setAuthorities(userRoleBOList, userInfo);
+            CompletableFuture<Void> authoritiesFuture = CompletableFuture.runAsync(() -> this.setAuthorities(userRoleBOList, userInfo), this.loginLoaderExecutor);
+            // 用户的角色的行数据权限
+            CompletableFuture<Void> rowPermissionFuture = CompletableFuture.runAsync(() -> this.setRowPermission(userRoleBOList, userInfo), this.loginLoaderExecutor);
             // 角色CODE
             this.setRoleCode(userRoleBOList, userInfo);
             // 用户的角色ID
             this.setUsersRoleId(userRoleBOList, userInfo);
-            // 用户的角色的行数据权限
-            this.setRowPermission(userRoleBOList, userInfo);
+            CompletableFuture.allOf(deptNameFuture, subDeptFuture, authoritiesFuture, rowPermissionFuture).join();
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
         return userInfo;
     }
 
-    private static void traverseTree(SysDeptBO node, Set<Long> ids) {
-        if (Objects.isNull(node)) {
-            return;
-        }
-        // 添加当前节点的 ID 到列表
-        ids.add(node.getId());
-        // 递归遍历所有子节点
-        for (SysDeptBO child : node.getSubDeptList()) {
-            traverseTree(child, ids);
-        }
-    }
-
-    // 递归遍历树形结构并获取所有节点的 ID
-    public static Set<Long> getAllNodeIds(SysDeptBO root) {
-        Set<Long> ids = Sets.newHashSet();
-        traverseTree(root, ids);
-        return ids;
-    }
-
     private void setSubDeptId(SysUser sysUser, UserInfoDTO userInfo) {
         Long deptId = sysUser.getDeptId();
         if (Objects.isNull(deptId)) {
             return;
         }
-        List<SysDeptBO> sysDeptList = this.sysDeptService.listSubDeptId(deptId);
-        if (CollUtil.isEmpty(sysDeptList)) {
+        List<Long> deptIdList = this.sysDeptService.listDeptByParentId(deptId);
+        if (CollUtil.isEmpty(deptIdList)) {
             return;
         }
-        userInfo.setSubDeptId(getAllNodeIds(sysDeptList.get(0)));
+        userInfo.setSubDeptId(Sets.newHashSet(deptIdList));
     }
 
+    /**
+     * 优先使用已缓存的角色权限，只查询未缓存的角色
+     */
     private void setAuthorities(List<UserRoleBO> userRoleBOList, UserInfoDTO userInfo) {
-        userInfo.setAuthorities(this.sysMenuService.listUserMenuPermission(userRoleBOList));
+        Set<String> authorities = Sets.newHashSet();
+        List<UserRoleBO> uncachedRoleList = Lists.newArrayList();
+        for (UserRoleBO userRoleBO : userRoleBOList) {
+            @SuppressWarnings("unchecked")
+            List<String> permissionList = (List<String>) SaManager.getSaTokenDao().getObject(PERMISSIONS + userRoleBO.getRoleCode());
+            if (permissionList == null) {
+                uncachedRoleList.add(userRoleBO);
+            } else {
+                authorities.addAll(permissionList);
+            }
+        }
+        if (CollUtil.isNotEmpty(uncachedRoleList)) {
+            authorities.addAll(this.sysMenuService.listUserMenuPermission(uncachedRoleList));
+        }
+        userInfo.setAuthorities(authorities);
     }
 
     private void setDeptName(SysUser sysUser, UserInfoDTO userInfo) {
@@ -465,6 +484,11 @@ public class SysUserServiceImpl extends ServiceImpl<SysUserMapper, SysUser> impl
     private void setRowPermission(List<UserRoleBO> userRoleBOList, UserInfoDTO userInfo) {
         userInfo.setPermissionType(this.getMaxPermissionScope(userRoleBOList));
         Set<Long> roleIdSet = this.getHasNormalPermissionRoleId(userRoleBOList);
+        if (CollUtil.isEmpty(roleIdSet)) {
+            // 没有自定义权限的角色时行数据权限编码不会被使用，无需查询
+            userInfo.setRowPermissionCode(Sets.newHashSet());
+            return;
+        }
         Set<String> permissionCodeSet = this.sysRoleRowPermissionService.listRowPermission(roleIdSet);
         userInfo.setRowPermissionCode(permissionCodeSet);
     }
@@ -114,4 +114,24 @@ public interface Const {
      * 点选文字个数
      */
     String CAPTCHA_WORD_COUNT = "captcha.word.count";
+
+    /**
+     * 预生成验证码池开关 0禁用 1启用
+     */
+    String CAPTCHA_POOL_ENABLE = "captcha.pool.enable";
+
+    /**
+     * 每种验证码预生成的数量
+     */
+    String CAPTCHA_POOL_SIZE = "captcha.pool.size";
+
+    /**
+     * 可用数量低于该值时后台补充
+     */
+    String CAPTCHA_POOL_LOW_WATER = "captcha.pool.low.water";
+
+    /**
+     * 每种验证码的补充线程数
+     */
+    String CAPTCHA_POOL_WORKERS = "captcha.pool.workers";
 }
@@ -41,4 +41,26 @@ public interface CaptchaCacheService {
         return 0L;
     }
 
+    /**
+     * 限流，窗口内已放行次数未达到上限时计入本次请求
+     * 默认以 get/set/increment 实现固定窗口，非原子操作，实现类应当覆盖为原子实现
+     *
+     * @param key           key
+     * @param limit         窗口内允许的请求数
+     * @param windowSeconds 窗口长度（秒）
+     * @return boolean 是否放行
+     */
+    default boolean tryAcquire(String key, long limit, long windowSeconds) {
+        String count = get(key);
+        if (count == null) {
+            set(key, "1", windowSeconds);
+            return limit > 0;
+        }
+        if (Long.parseLong(count) >= limit) {
+            return false;
+        }
+        increment(key, 1L);
+        return true;
+    }
+
 }
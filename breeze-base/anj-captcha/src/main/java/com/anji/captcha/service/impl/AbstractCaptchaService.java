@@ -47,6 +47,7 @@ public abstract class AbstractCaptchaService implements CaptchaService {
     protected static String cacheType = "local";
     protected static int captchaInterferenceOptions = 0;
     private static FrequencyLimitHandler limitHandler;
+    protected CaptchaChallengePool challengePool;//预生成验证码池
     protected Logger logger = LoggerFactory.getLogger(getClass());
     protected Font waterMarkFont;//水印字体
     protected Font clickWordFont;//点选文字字体
@@ -136,6 +137,13 @@ public abstract class AbstractCaptchaService implements CaptchaService {
             logger.info("初始化local缓存...");
             CacheUtil.init(Integer.parseInt(config.getProperty(Const.CAPTCHA_CACAHE_MAX_NUMBER, "1000")),
                     Long.parseLong(config.getProperty(Const.CAPTCHA_TIMING_CLEAR_SECOND, "180")));
+        } else if (cacheType.equals("bounded")) {
+            logger.info("初始化bounded缓存...");
+            CaptchaCacheService cacheService = getCacheService(cacheType);
+            if (cacheService instanceof CaptchaCacheServiceBoundedImpl) {
+                ((CaptchaCacheServiceBoundedImpl) cacheService).init(
+                        Integer.parseInt(config.getProperty(Const.CAPTCHA_CACAHE_MAX_NUMBER, "1000")));
+            }
         }
         if (config.getProperty(Const.HISTORY_DATA_CLEAR_ENABLE, "0").equals("1")) {
             logger.info("历史资源清除开关...开启..." + captchaType());
@@ -154,6 +162,66 @@ public abstract class AbstractCaptchaService implements CaptchaService {
         }
     }
 
+    /**
+     * 初始化预生成验证码池，子类在自身初始化（字体等）完成后调用
+     *
+     * @param config
+     */
+    protected void initChallengePool(Properties config) {
+        if (!"1".equals(config.getProperty(Const.CAPTCHA_POOL_ENABLE, "0")) || challengePool != null) {
+            return;
+        }
+        int size = Integer.parseInt(config.getProperty(Const.CAPTCHA_POOL_SIZE, "100"));
+        int lowWater = Integer.parseInt(config.getProperty(Const.CAPTCHA_POOL_LOW_WATER, String.valueOf(size / 2)));
+        int workers = Integer.parseInt(config.getProperty(Const.CAPTCHA_POOL_WORKERS, "1"));
+        challengePool = new CaptchaChallengePool(captchaType(), size, lowWater, workers, this::generateChallenge);
+        challengePool.start();
+    }
+
+    /**
+     * 生成一个验证码，不写入缓存，支持预生成的子类覆盖
+     *
+     * @return 生成失败返回 null
+     */
+    protected CaptchaChallengePool.Challenge generateChallenge() {
+        return null;
+    }
+
+    /**
+     * 取出（开启预生成时）或同步生成一个验证码，并写入坐标缓存
+     *
+     * @return 生成失败返回 null
+     */
+    protected CaptchaVO nextCaptcha() {
+        CaptchaChallengePool.Challenge challenge = challengePool != null ? challengePool.take() : generateChallenge();
+        if (challenge == null) {
+            return null;
+        }
+        CaptchaVO dataVO = challenge.getCaptcha();
+        String codeKey = String.format(REDIS_CAPTCHA_KEY, dataVO.getToken());
+        getCacheService(cacheType).set(codeKey, challenge.getPointJson(), EXPIRESIN_SECONDS);
+        logger.debug("token：{},point:{}", dataVO.getToken(), challenge.getPointJson());
+        return dataVO;
+    }
+
+    /**
+     * 预生成验证码池，未开启时为 null
+     *
+     * @return CaptchaChallengePool
+     */
+    public CaptchaChallengePool getChallengePool() {
+        return challengePool;
+    }
+
+    /**
+     * 关闭预生成验证码池的补充线程，由 Spring 容器关闭时调用
+     */
+    public void shutdown() {
+        if (challengePool != null) {
+            challengePool.shutdown();
+        }
+    }
+
     protected CaptchaCacheService getCacheService(String cacheType) {
         return CaptchaServiceFactory.getCache(cacheType);
     }
@@ -220,12 +288,7 @@ public abstract class AbstractCaptchaService implements CaptchaService {
     protected void afterValidateFail(CaptchaVO data) {
         if (limitHandler != null) {
             // 验证失败 分钟内计数
-            String fails = String.format(FrequencyLimitHandler.LIMIT_KEY, "FAIL", data.getClientUid());
-            CaptchaCacheService cs = getCacheService(cacheType);
-            if (!cs.exists(fails)) {
-                cs.set(fails, "1", 60);
-            }
-            cs.increment(fails, 1);
+            limitHandler.recordFail(data);
         }
     }
 
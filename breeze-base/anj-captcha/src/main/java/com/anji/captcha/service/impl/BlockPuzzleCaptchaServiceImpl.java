@@ -18,7 +18,6 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.util.Base64;
-import java.util.Objects;
 import java.util.Properties;
 import java.util.Random;
 
@@ -61,26 +60,26 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
     }
 
     /**
-     * @param oriImage      原图
-     * @param templateImage 模板图
-     * @param newImage      新抠出的小图
-     * @param x             随机扣取坐标X
-     * @param y             随机扣取坐标y
+     * @param oriImage       原图
+     * @param templatePixels 模板图 ARGB 像素，按行存储
+     * @param xLength        模板图宽度
+     * @param yLength        模板图高度
+     * @param newImage       新抠出的小图
+     * @param x              随机扣取坐标X
+     * @param y              随机扣取坐标y
      * @throws Exception
      */
-    private static void cutByTemplate(BufferedImage oriImage, BufferedImage templateImage, BufferedImage newImage, int x, int y) {
+    private static void cutByTemplate(BufferedImage oriImage, int[] templatePixels, int xLength, int yLength, BufferedImage newImage, int x, int y) {
         //临时数组遍历用于高斯模糊存周边像素值
         int[][] martrix = new int[3][3];
         int[] values = new int[9];
 
-        int xLength = templateImage.getWidth();
-        int yLength = templateImage.getHeight();
         // 模板图像宽度
         for (int i = 0; i < xLength; i++) {
             // 模板图片高度
             for (int j = 0; j < yLength; j++) {
                 // 如果模板图像当前像素点不是透明色 copy源文件信息到目标图片中
-                int rgb = templateImage.getRGB(i, j);
+                int rgb = templatePixels[j * xLength + i];
                 if (rgb < 0) {
                     newImage.setRGB(i, j, oriImage.getRGB(x + i, y + j));
 
@@ -94,8 +93,8 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
                 if (i == (xLength - 1) || j == (yLength - 1)) {
                     continue;
                 }
-                int rightRgb = templateImage.getRGB(i + 1, j);
-                int downRgb = templateImage.getRGB(i, j + 1);
+                int rightRgb = templatePixels[j * xLength + i + 1];
+                int downRgb = templatePixels[(j + 1) * xLength + i];
                 //描边处理，,取带像素和无像素的界点，判断该点是不是临界轮廓点,如果是设置该坐标像素是白色
                 if ((rgb >= 0 && rightRgb < 0) || (rgb < 0 && rightRgb >= 0) || (rgb >= 0 && downRgb < 0) || (rgb < 0 && downRgb >= 0)) {
                     newImage.setRGB(i, j, Color.white.getRGB());
@@ -109,25 +108,25 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
     /**
      * 干扰抠图处理
      *
-     * @param oriImage      原图
-     * @param templateImage 模板图
-     * @param x             随机扣取坐标X
-     * @param y             随机扣取坐标y
+     * @param oriImage       原图
+     * @param templatePixels 模板图 ARGB 像素，按行存储
+     * @param xLength        模板图宽度
+     * @param yLength        模板图高度
+     * @param x              随机扣取坐标X
+     * @param y              随机扣取坐标y
      * @throws Exception
      */
-    private static void interferenceByTemplate(BufferedImage oriImage, BufferedImage templateImage, int x, int y) {
+    private static void interferenceByTemplate(BufferedImage oriImage, int[] templatePixels, int xLength, int yLength, int x, int y) {
         //临时数组遍历用于高斯模糊存周边像素值
         int[][] martrix = new int[3][3];
         int[] values = new int[9];
 
-        int xLength = templateImage.getWidth();
-        int yLength = templateImage.getHeight();
         // 模板图像宽度
         for (int i = 0; i < xLength; i++) {
             // 模板图片高度
             for (int j = 0; j < yLength; j++) {
                 // 如果模板图像当前像素点不是透明色 copy源文件信息到目标图片中
-                int rgb = templateImage.getRGB(i, j);
+                int rgb = templatePixels[j * xLength + i];
                 if (rgb < 0) {
                     //抠图区域高斯模糊
                     readPixel(oriImage, x + i, y + j, values);
@@ -138,8 +137,8 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
                 if (i == (xLength - 1) || j == (yLength - 1)) {
                     continue;
                 }
-                int rightRgb = templateImage.getRGB(i + 1, j);
-                int downRgb = templateImage.getRGB(i, j + 1);
+                int rightRgb = templatePixels[j * xLength + i + 1];
+                int downRgb = templatePixels[(j + 1) * xLength + i];
                 //描边处理，,取带像素和无像素的界点，判断该点是不是临界轮廓点,如果是设置该坐标像素是白色
                 if ((rgb >= 0 && rightRgb < 0) || (rgb < 0 && rightRgb >= 0) || (rgb >= 0 && downRgb < 0) || (rgb < 0 && downRgb >= 0)) {
                     oriImage.setRGB(x + i, y + j, Color.white.getRGB());
@@ -206,6 +205,7 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
     @Override
     public void init(Properties config) {
         super.init(config);
+        initChallengePool(config);
     }
 
     @Override
@@ -224,12 +224,29 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
         if (!validatedReq(r)) {
             return r;
         }
-        //原生图片
-        BufferedImage originalImage = ImageUtils.getOriginal();
-        if (null == originalImage) {
+        if (ImageUtils.getOriginalPool().isEmpty() || ImageUtils.getSlidingBlockPool().isEmpty()) {
             logger.error("滑动底图未初始化成功，请检查路径");
             return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_BASEMAP_NULL);
         }
+        CaptchaVO captcha = nextCaptcha();
+        if (captcha == null
+                || StringUtils.isBlank(captcha.getJigsawImageBase64())
+                || StringUtils.isBlank(captcha.getOriginalImageBase64())) {
+            return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_ERROR);
+        }
+        return ResponseModel.successData(captcha);
+    }
+
+    @Override
+    protected CaptchaChallengePool.Challenge generateChallenge() {
+        //原生图片
+        BufferedImage originalImage = ImageUtils.getOriginal();
+        //抠图图片
+        ImagePool jigsawPool = ImageUtils.getSlidingBlockPool();
+        int jigsawIndex = jigsawPool.randomIndex();
+        if (null == originalImage || jigsawIndex < 0) {
+            return null;
+        }
         //设置水印
         Graphics backgroundGraphics = originalImage.getGraphics();
         int width = originalImage.getWidth();
@@ -237,21 +254,7 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
         backgroundGraphics.setFont(waterMarkFont);
         backgroundGraphics.setColor(Color.white);
         backgroundGraphics.drawString(waterMark, width - getEnOrChLength(waterMark), height - (HAN_ZI_SIZE / 2) + 7);
-
-        //抠图图片
-        String jigsawImageBase64 = ImageUtils.getslidingBlock();
-        BufferedImage jigsawImage = ImageUtils.getBase64StrToImage(jigsawImageBase64);
-        if (null == jigsawImage) {
-            logger.error("滑动底图未初始化成功，请检查路径");
-            return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_BASEMAP_NULL);
-        }
-        CaptchaVO captcha = pictureTemplatesCut(originalImage, jigsawImage, jigsawImageBase64);
-        if (captcha == null
-                || StringUtils.isBlank(captcha.getJigsawImageBase64())
-                || StringUtils.isBlank(captcha.getOriginalImageBase64())) {
-            return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_ERROR);
-        }
-        return ResponseModel.successData(captcha);
+        return pictureTemplatesCut(originalImage, jigsawPool, jigsawIndex);
     }
 
     @Override
@@ -324,14 +327,32 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
         return ResponseModel.success();
     }
 
+    /**
+     * 使用与拼图不同的模板生成干扰图，模板不足两张时不生成
+     */
+    private static void interference(BufferedImage originalImage, ImagePool jigsawPool, int jigsawIndex, int x) {
+        int index = jigsawPool.randomIndexExcept(jigsawIndex);
+        if (index < 0) {
+            return;
+        }
+        BufferedImage template = jigsawPool.get(index);
+        interferenceByTemplate(originalImage, jigsawPool.getPixels(index), template.getWidth(), template.getHeight(), x, 0);
+    }
+
     /**
      * 根据模板切图
      *
+     * @param originalImage 底图副本
+     * @param jigsawPool    预解码的滑块模板
+     * @param jigsawIndex   本次使用的模板下标
+     * @return 生成的验证码，坐标未写入缓存
      * @throws Exception
      */
-    public CaptchaVO pictureTemplatesCut(BufferedImage originalImage, BufferedImage jigsawImage, String jigsawImageBase64) {
+    public CaptchaChallengePool.Challenge pictureTemplatesCut(BufferedImage originalImage, ImagePool jigsawPool, int jigsawIndex) {
         try {
             CaptchaVO dataVO = new CaptchaVO();
+            BufferedImage jigsawImage = jigsawPool.get(jigsawIndex);
+            int[] jigsawPixels = jigsawPool.getPixels(jigsawIndex);
 
             int originalWidth = originalImage.getWidth();
             int originalHeight = originalImage.getHeight();
@@ -351,7 +372,7 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
             //如果需要生成RGB格式，需要做如下配置,Transparency 设置透明
             newJigsawImage = graphics.getDeviceConfiguration().createCompatibleImage(jigsawWidth, jigsawHeight, Transparency.TRANSLUCENT);
             // 新建的图像根据模板颜色赋值,源图生成遮罩
-            cutByTemplate(originalImage, jigsawImage, newJigsawImage, x, 0);
+            cutByTemplate(originalImage, jigsawPixels, jigsawWidth, jigsawHeight, newJigsawImage, x, 0);
             if (captchaInterferenceOptions > 0) {
                 int position = 0;
                 if (originalWidth - x - 5 > jigsawWidth * 2) {
@@ -361,24 +382,11 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
                     //在原扣图左边插入干扰图
                     position = RandomUtils.getRandomInt(100, x - jigsawWidth - 5);
                 }
-                while (true) {
-                    String s = ImageUtils.getslidingBlock();
-                    if (!jigsawImageBase64.equals(s)) {
-                        interferenceByTemplate(originalImage, Objects.requireNonNull(ImageUtils.getBase64StrToImage(s)), position, 0);
-                        break;
-                    }
-                }
+                interference(originalImage, jigsawPool, jigsawIndex, position);
             }
             if (captchaInterferenceOptions > 1) {
-                while (true) {
-                    String s = ImageUtils.getslidingBlock();
-                    if (!jigsawImageBase64.equals(s)) {
-                        Integer randomInt = RandomUtils.getRandomInt(jigsawWidth, 100 - jigsawWidth);
-                        interferenceByTemplate(originalImage, Objects.requireNonNull(ImageUtils.getBase64StrToImage(s)),
-                                randomInt, 0);
-                        break;
-                    }
-                }
+                Integer randomInt = RandomUtils.getRandomInt(jigsawWidth, 100 - jigsawWidth);
+                interference(originalImage, jigsawPool, jigsawIndex, randomInt);
             }
 
 
@@ -405,11 +413,8 @@ public class BlockPuzzleCaptchaServiceImpl extends AbstractCaptchaService {
 //            base64StrToImage(encoder.encodeToString(oriCopyImages), "D:\\原图.png");
 //            base64StrToImage(encoder.encodeToString(jigsawImages), "D:\\滑动.png");
 
-            //将坐标信息存入redis中
-            String codeKey = String.format(REDIS_CAPTCHA_KEY, dataVO.getToken());
-            CaptchaServiceFactory.getCache(cacheType).set(codeKey, JsonUtil.toJSONString(point), EXPIRESIN_SECONDS);
-            logger.debug("token：{},point:{}", dataVO.getToken(), JsonUtil.toJSONString(point));
-            return dataVO;
+            //坐标信息在取出时存入缓存
+            return new CaptchaChallengePool.Challenge(dataVO, JsonUtil.toJSONString(point));
         } catch (Exception e) {
             e.printStackTrace();
             return null;
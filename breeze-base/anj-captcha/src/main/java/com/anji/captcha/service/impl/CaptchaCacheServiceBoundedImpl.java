@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.anji.captcha.service.impl;
+
+import com.anji.captcha.service.CaptchaCacheService;
+import com.anji.captcha.util.BoundedTtlCache;
+import com.anji.captcha.util.SlidingWindowLimiter;
+
+/**
+ * 有界本地缓存，单节点部署时替代 {@link CaptchaCacheServiceMemImpl}
+ * <p>
+ * 条目按各自的过期时间失效，超过容量时按 LRU 淘汰，不会像 local 那样达到阈值后清空全部验证码。
+ * 通过 captcha.cacheType=bounded 启用，容量取 captcha.cache.number。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public class CaptchaCacheServiceBoundedImpl implements CaptchaCacheService {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final SlidingWindowLimiter limiter = new SlidingWindowLimiter();
+
+    private volatile BoundedTtlCache cache = new BoundedTtlCache(DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * 按配置的容量重建缓存，仅在验证码服务初始化时调用
+     *
+     * @param maximumSize 最大条目数
+     */
+    public void init(int maximumSize) {
+        this.cache = new BoundedTtlCache(maximumSize);
+    }
+
+    @Override
+    public void set(String key, String value, long expiresInSeconds) {
+        cache.set(key, value, expiresInSeconds);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return cache.exists(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        cache.delete(key);
+    }
+
+    @Override
+    public String get(String key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public Long increment(String key, long val) {
+        return cache.increment(key, val);
+    }
+
+    @Override
+    public boolean tryAcquire(String key, long limit, long windowSeconds) {
+        return limiter.tryAcquire(key, limit, windowSeconds);
+    }
+
+    @Override
+    public String type() {
+        return "bounded";
+    }
+}
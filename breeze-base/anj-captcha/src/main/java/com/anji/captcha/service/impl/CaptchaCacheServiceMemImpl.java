@@ -2,6 +2,7 @@ package com.anji.captcha.service.impl;
 
 import com.anji.captcha.service.CaptchaCacheService;
 import com.anji.captcha.util.CacheUtil;
+import com.anji.captcha.util.SlidingWindowLimiter;
 
 /**
  * 对于分布式部署的应用，我们建议应用自己实现CaptchaCacheService，比如用Redis，参考service/spring-boot代码示例。
@@ -13,6 +14,9 @@ import com.anji.captcha.util.CacheUtil;
  * @since 2020-05-12
  */
 public class CaptchaCacheServiceMemImpl implements CaptchaCacheService {
+
+    private final SlidingWindowLimiter limiter = new SlidingWindowLimiter();
+
     @Override
     public void set(String key, String value, long expiresInSeconds) {
         CacheUtil.set(key, value, expiresInSeconds);
@@ -40,6 +44,11 @@ public class CaptchaCacheServiceMemImpl implements CaptchaCacheService {
         return ret;
     }
 
+    @Override
+    public boolean tryAcquire(String key, long limit, long windowSeconds) {
+        return limiter.tryAcquire(key, limit, windowSeconds);
+    }
+
     @Override
     public String type() {
         return "local";
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.anji.captcha.service.impl;
+
+import com.anji.captcha.model.vo.CaptchaVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 预生成验证码池
+ * <p>
+ * 后台线程提前完成抠图、PNG 编码以及 Base64 编码，get 请求只需出队并写入坐标缓存。
+ * 可用数量低于低水位时触发补充，补满到容量为止；池为空时调用方同步生成，并记为一次饥饿。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public class CaptchaChallengePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaptchaChallengePool.class);
+
+    private final String captchaType;
+
+    private final int capacity;
+
+    private final int lowWater;
+
+    private final int workers;
+
+    private final Supplier<Challenge> generator;
+
+    private final ExecutorService executor;
+
+    private final Queue<Challenge> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger available = new AtomicInteger();
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong starvedCount = new AtomicLong();
+
+    private final AtomicLong generatedCount = new AtomicLong();
+
+    public CaptchaChallengePool(String captchaType, int capacity, int lowWater, int workers, Supplier<Challenge> generator) {
+        this.captchaType = captchaType;
+        this.capacity = Math.max(1, capacity);
+        this.lowWater = Math.min(Math.max(0, lowWater), this.capacity);
+        this.workers = Math.max(1, workers);
+        this.generator = generator;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.workers, r -> {
+            Thread thread = new Thread(r, "thd-captcha-pool-" + captchaType + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 启动并补满
+     */
+    public void start() {
+        this.refill();
+        logger.info("验证码预生成池启动: type={}, capacity={}, lowWater={}, workers={}", this.captchaType, this.capacity, this.lowWater, this.workers);
+    }
+
+    /**
+     * 取出一个验证码，池为空时同步生成
+     *
+     * @return Challenge 生成失败返回 null
+     */
+    public Challenge take() {
+        Challenge challenge = this.queue.poll();
+        if (challenge != null) {
+            this.hitCount.incrementAndGet();
+            if (this.available.decrementAndGet() < this.lowWater) {
+                this.refill();
+            }
+            return challenge;
+        }
+        this.starvedCount.incrementAndGet();
+        logger.debug("验证码预生成池为空，同步生成: type={}", this.captchaType);
+        this.refill();
+        return this.generator.get();
+    }
+
+    /**
+     * 关闭补充线程
+     */
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    private void refill() {
+        if (this.executor.isShutdown()) {
+            // 已关闭时只同步生成，不再提交补充任务
+            return;
+        }
+        while (true) {
+            int active = this.activeWorkers.get();
+            if (active >= this.workers) {
+                return;
+            }
+            if (this.activeWorkers.compareAndSet(active, active + 1)) {
+                break;
+            }
+        }
+        try {
+            this.executor.execute(this::fill);
+        } catch (RuntimeException e) {
+            this.activeWorkers.decrementAndGet();
+            logger.warn("验证码预生成池补充任务提交失败: type={}", this.captchaType, e);
+        }
+    }
+
+    private void fill() {
+        try {
+            while (!Thread.currentThread().isInterrupted() && this.available.get() < this.capacity) {
+                Challenge challenge = this.generator.get();
+                if (challenge == null) {
+                    logger.warn("验证码预生成失败，停止本轮补充: type={}", this.captchaType);
+                    return;
+                }
+                this.queue.offer(challenge);
+                this.available.incrementAndGet();
+                this.generatedCount.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            logger.error("验证码预生成异常: type={}", this.captchaType, e);
+        } finally {
+            this.activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 当前可用数量
+     *
+     * @return int
+     */
+    public int getAvailable() {
+        return this.available.get();
+    }
+
+    /**
+     * 从池中直接取到的次数
+     *
+     * @return long
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * 池为空、同步生成的次数
+     *
+     * @return long
+     */
+    public long getStarvedCount() {
+        return this.starvedCount.get();
+    }
+
+    /**
+     * 后台生成的总数
+     *
+     * @return long
+     */
+    public long getGeneratedCount() {
+        return this.generatedCount.get();
+    }
+
+    /**
+     * 预生成的验证码，出队后才写入坐标缓存，过期时间从出队开始计算
+     */
+    public static class Challenge {
+
+        /**
+         * 返回给前端的数据（图片、文字、密钥、token）
+         */
+        private final CaptchaVO captcha;
+
+        /**
+         * 写入缓存的坐标 JSON
+         */
+        private final String pointJson;
+
+        public Challenge(CaptchaVO captcha, String pointJson) {
+            this.captcha = captcha;
+            this.pointJson = pointJson;
+        }
+
+        public CaptchaVO getCaptcha() {
+            return captcha;
+        }
+
+        public String getPointJson() {
+            return pointJson;
+        }
+    }
+
+}
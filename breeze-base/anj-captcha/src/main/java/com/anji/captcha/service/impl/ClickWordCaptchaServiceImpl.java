@@ -92,6 +92,7 @@ public class ClickWordCaptchaServiceImpl extends AbstractCaptchaService {
             logger.error("load font error:{}", ex);
         }
         this.wordTotalCount = Integer.valueOf(config.getProperty(Const.CAPTCHA_WORD_COUNT, "4"));
+        initChallengePool(config);
     }
 
     @Override
@@ -105,12 +106,11 @@ public class ClickWordCaptchaServiceImpl extends AbstractCaptchaService {
         if (!validatedReq(r)) {
             return r;
         }
-        BufferedImage bufferedImage = ImageUtils.getPicClick();
-        if (null == bufferedImage) {
+        if (ImageUtils.getPicClickPool().isEmpty()) {
             logger.error("滑动底图未初始化成功，请检查路径");
             return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_BASEMAP_NULL);
         }
-        CaptchaVO imageData = getImageData(bufferedImage);
+        CaptchaVO imageData = nextCaptcha();
         if (imageData == null
                 || StringUtils.isBlank(imageData.getOriginalImageBase64())) {
             return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_ERROR);
@@ -118,6 +118,15 @@ public class ClickWordCaptchaServiceImpl extends AbstractCaptchaService {
         return ResponseModel.successData(imageData);
     }
 
+    @Override
+    protected CaptchaChallengePool.Challenge generateChallenge() {
+        BufferedImage bufferedImage = ImageUtils.getPicClick();
+        if (null == bufferedImage) {
+            return null;
+        }
+        return getImageData(bufferedImage);
+    }
+
     @Override
     public ResponseModel check(CaptchaVO captchaVO) {
         ResponseModel r = super.check(captchaVO);
@@ -229,7 +238,7 @@ public class ClickWordCaptchaServiceImpl extends AbstractCaptchaService {
         this.fontColorRandom = fontColorRandom;
     }
 
-    private CaptchaVO getImageData(BufferedImage backgroundImage) {
+    private CaptchaChallengePool.Challenge getImageData(BufferedImage backgroundImage) {
         CaptchaVO dataVO = new CaptchaVO();
         List<String> wordList = new ArrayList<String>();
         List<PointVO> pointList = new ArrayList();
@@ -293,11 +302,9 @@ public class ClickWordCaptchaServiceImpl extends AbstractCaptchaService {
         dataVO.setWordList(wordList);
         dataVO.setToken(RandomUtils.getUUID());
         dataVO.setSecretKey(secretKey);
-        //将坐标信息存入redis中
-        String codeKey = String.format(REDIS_CAPTCHA_KEY, dataVO.getToken());
-        CaptchaServiceFactory.getCache(cacheType).set(codeKey, JsonUtil.toJSONString(pointList), EXPIRESIN_SECONDS);
+        //坐标信息在取出时存入缓存
 //        base64StrToImage(getImageToBase64Str(backgroundImage), "D:\\点击.png");
-        return dataVO;
+        return new CaptchaChallengePool.Challenge(dataVO, JsonUtil.toJSONString(pointList));
     }
 
     private Set<String> getRandomWords(int wordCount) {
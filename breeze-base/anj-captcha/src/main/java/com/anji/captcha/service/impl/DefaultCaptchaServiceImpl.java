@@ -44,6 +44,19 @@ public class DefaultCaptchaServiceImpl extends AbstractCaptchaService {
         }
     }
 
+    @Override
+    public void shutdown() {
+        for (String s : CaptchaServiceFactory.instances.keySet()) {
+            if (captchaType().equals(s)) {
+                continue;
+            }
+            CaptchaService service = getService(s);
+            if (service instanceof AbstractCaptchaService) {
+                ((AbstractCaptchaService) service).shutdown();
+            }
+        }
+    }
+
     private CaptchaService getService(String captchaType) {
         return CaptchaServiceFactory.instances.get(captchaType);
     }
@@ -7,7 +7,6 @@ import com.anji.captcha.model.vo.CaptchaVO;
 import com.anji.captcha.service.CaptchaCacheService;
 import com.anji.captcha.util.StringUtils;
 
-import java.util.Objects;
 import java.util.Properties;
 
 /**
@@ -18,6 +17,11 @@ public interface FrequencyLimitHandler {
 
     String LIMIT_KEY = "AJ.CAPTCHA.REQ.LIMIT-%s-%s";
 
+    /**
+     * 限流窗口（秒）
+     */
+    long WINDOW_SECONDS = 60L;
+
     /**
      * get 接口限流
      *
@@ -42,6 +46,13 @@ public interface FrequencyLimitHandler {
      */
     ResponseModel validateVerify(CaptchaVO captchaVO);
 
+    /**
+     * 校验失败计数，失败次数过多时锁定get接口
+     *
+     * @param captchaVO
+     */
+    void recordFail(CaptchaVO captchaVO);
+
 
     /***
      * 验证码接口限流:
@@ -75,36 +86,15 @@ public interface FrequencyLimitHandler {
             if (StringUtils.isEmpty(d.getClientUid())) {
                 return null;
             }
-            String getKey = getClientCId(d, "GET");
-            String lockKey = getClientCId(d, "LOCK");
             // 失败次数过多，锁定
-            if (Objects.nonNull(cacheService.get(lockKey))) {
+            if (cacheService.exists(getClientCId(d, "LOCK"))) {
                 return ResponseModel.errorMsg(RepCodeEnum.API_REQ_LOCK_GET_ERROR);
             }
-            String getCnts = cacheService.get(getKey);
-            if (Objects.isNull(getCnts)) {
-                cacheService.set(getKey, "1", 60L);
-                getCnts = "1";
-            }
-            cacheService.increment(getKey, 1L);
             // 1分钟内请求次数过多
-            if (Long.parseLong(getCnts) > Long.parseLong(config.getProperty(Const.REQ_GET_MINUTE_LIMIT, "120"))) {
+            long limit = Long.parseLong(config.getProperty(Const.REQ_GET_MINUTE_LIMIT, "120"));
+            if (!cacheService.tryAcquire(getClientCId(d, "GET"), limit, WINDOW_SECONDS)) {
                 return ResponseModel.errorMsg(RepCodeEnum.API_REQ_LIMIT_GET_ERROR);
             }
-
-            // 失败次数验证
-            String failKey = getClientCId(d, "FAIL");
-            String failCnts = cacheService.get(failKey);
-            // 没有验证失败，通过校验
-            if (Objects.isNull(failCnts)) {
-                return null;
-            }
-            // 1分钟内失败5次
-            if (Long.parseLong(failCnts) > Long.parseLong(config.getProperty(Const.REQ_GET_LOCK_LIMIT, "5"))) {
-                // get接口锁定5分钟
-                cacheService.set(lockKey, "1", Long.parseLong(config.getProperty(Const.REQ_GET_LOCK_SECONDS, "300")));
-                return ResponseModel.errorMsg(RepCodeEnum.API_REQ_LOCK_GET_ERROR);
-            }
             return null;
         }
 
@@ -114,18 +104,8 @@ public interface FrequencyLimitHandler {
             if (StringUtils.isEmpty(d.getClientUid())) {
                 return null;
             }
-            /*String getKey = getClientCId(d, "GET");
-            if(Objects.isNull(cacheService.get(getKey))){
-                return ResponseModel.errorMsg(RepCodeEnum.API_REQ_INVALID);
-            }*/
-            String key = getClientCId(d, "CHECK");
-            String v = cacheService.get(key);
-            if (Objects.isNull(v)) {
-                cacheService.set(key, "1", 60);
-                v = "1";
-            }
-            cacheService.increment(key, 1);
-            if (Long.parseLong(v) > Long.parseLong(config.getProperty(Const.REQ_CHECK_MINUTE_LIMIT, "600"))) {
+            long limit = Long.parseLong(config.getProperty(Const.REQ_CHECK_MINUTE_LIMIT, "600"));
+            if (!cacheService.tryAcquire(getClientCId(d, "CHECK"), limit, WINDOW_SECONDS)) {
                 return ResponseModel.errorMsg(RepCodeEnum.API_REQ_LIMIT_CHECK_ERROR);
             }
             return null;
@@ -133,22 +113,25 @@ public interface FrequencyLimitHandler {
 
         @Override
         public ResponseModel validateVerify(CaptchaVO d) {
-            /*String getKey = getClientCId(d, "GET");
-            if(Objects.isNull(cacheService.get(getKey))){
-                return ResponseModel.errorMsg(RepCodeEnum.API_REQ_INVALID);
-            }*/
-            String key = getClientCId(d, "VERIFY");
-            String v = cacheService.get(key);
-            if (Objects.isNull(v)) {
-                cacheService.set(key, "1", 60);
-                v = "1";
-            }
-            cacheService.increment(key, 1);
-            if (Long.parseLong(v) > Long.parseLong(config.getProperty(Const.REQ_VALIDATE_MINUTE_LIMIT, "600"))) {
+            long limit = Long.parseLong(config.getProperty(Const.REQ_VALIDATE_MINUTE_LIMIT, "600"));
+            if (!cacheService.tryAcquire(getClientCId(d, "VERIFY"), limit, WINDOW_SECONDS)) {
                 return ResponseModel.errorMsg(RepCodeEnum.API_REQ_LIMIT_VERIFY_ERROR);
             }
             return null;
         }
+
+        @Override
+        public void recordFail(CaptchaVO d) {
+            // 无客户端身份标识，不限制
+            if (StringUtils.isEmpty(d.getClientUid())) {
+                return;
+            }
+            // 1分钟内失败超过5次，get接口锁定5分钟
+            long limit = Long.parseLong(config.getProperty(Const.REQ_GET_LOCK_LIMIT, "5"));
+            if (!cacheService.tryAcquire(getClientCId(d, "FAIL"), limit, WINDOW_SECONDS)) {
+                cacheService.set(getClientCId(d, "LOCK"), "1", Long.parseLong(config.getProperty(Const.REQ_GET_LOCK_SECONDS, "300")));
+            }
+        }
     }
 
 }
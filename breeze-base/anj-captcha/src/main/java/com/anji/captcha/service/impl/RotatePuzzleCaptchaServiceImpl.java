@@ -52,9 +52,7 @@ public class RotatePuzzleCaptchaServiceImpl extends AbstractCaptchaService {
         }
 
         //抠图图片
-        String rotateBlockImageBase64 = ImageUtils.getRotateBlock();
-        BufferedImage rotateBlockImage = ImageUtils.getBase64StrToImage(rotateBlockImageBase64);
-        if (null == rotateBlockImage) {
+        if (ImageUtils.getRotateBlockPool().isEmpty()) {
             logger.error("旋转拼图旋转块底图未初始化成功，请检查路径");
             return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_BASEMAP_NULL);
         }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.anji.captcha.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 有界、按条目过期的本地缓存
+ * <p>
+ * 按 key 的哈希分段，每段是一个访问顺序的 LinkedHashMap，超过容量时淘汰最久未访问的条目，
+ * 过期条目在读取时惰性删除，写入时顺带清理链表头部的过期条目。
+ * 与 {@link CacheUtil} 不同，达到上限不会清空整个缓存，也不需要定时全量扫描。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public final class BoundedTtlCache {
+
+    private static final int SEGMENTS = 16;
+
+    /**
+     * 每次写入最多顺带清理的过期条目数
+     */
+    private static final int SWEEP_LIMIT = 4;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    public BoundedTtlCache(int maximumSize) {
+        int segmentSize = Math.max(1, (maximumSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            this.segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * 写入
+     *
+     * @param key              key
+     * @param value            value
+     * @param expiresInSeconds 过期时间（秒），小于等于0不过期
+     */
+    public void set(String key, String value, long expiresInSeconds) {
+        long expireAt = expiresInSeconds > 0 ? System.currentTimeMillis() + expiresInSeconds * 1000 : 0L;
+        this.segmentFor(key).put(key, value, expireAt);
+    }
+
+    public String get(String key) {
+        return this.segmentFor(key).get(key);
+    }
+
+    public boolean exists(String key) {
+        return this.get(key) != null;
+    }
+
+    public void delete(String key) {
+        this.segmentFor(key).remove(key);
+    }
+
+    /**
+     * 数值增量，保留原有过期时间，key 不存在或已过期时从 0 开始且不过期
+     *
+     * @param key key
+     * @param val 增量
+     * @return Long
+     */
+    public Long increment(String key, long val) {
+        return this.segmentFor(key).update(key, current -> current + val);
+    }
+
+    /**
+     * 当前条目数（包含尚未清理的过期条目）
+     *
+     * @return int
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : this.segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(String key) {
+        int h = key.hashCode();
+        return this.segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private static final class Entry {
+
+        private final String value;
+
+        private final long expireAt;
+
+        Entry(String value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+        boolean isExpired(long now) {
+            return this.expireAt > 0 && this.expireAt <= now;
+        }
+    }
+
+    private static final class Segment {
+
+        private final LinkedHashMap<String, Entry> map;
+
+        Segment(int maximumSize) {
+            this.map = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        synchronized void put(String key, String value, long expireAt) {
+            this.sweep(System.currentTimeMillis());
+            this.map.put(key, new Entry(value, expireAt));
+        }
+
+        synchronized String get(String key) {
+            Entry entry = this.map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(System.currentTimeMillis())) {
+                this.map.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized void remove(String key) {
+            this.map.remove(key);
+        }
+
+        synchronized Long update(String key, LongUnaryOperator operator) {
+            long now = System.currentTimeMillis();
+            Entry entry = this.map.get(key);
+            long expireAt = 0L;
+            long current = 0L;
+            if (entry != null && !entry.isExpired(now)) {
+                expireAt = entry.expireAt;
+                current = Long.parseLong(entry.value);
+            }
+            long next = operator.applyAsLong(current);
+            this.map.put(key, new Entry(String.valueOf(next), expireAt));
+            return next;
+        }
+
+        synchronized int size() {
+            return this.map.size();
+        }
+
+        /**
+         * 清理链表头部（最久未访问）的过期条目，遇到未过期的即停止
+         */
+        private void sweep(long now) {
+            Iterator<Entry> iterator = this.map.values().iterator();
+            for (int i = 0; i < SWEEP_LIMIT && iterator.hasNext(); i++) {
+                if (!iterator.next().isExpired(now)) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+}
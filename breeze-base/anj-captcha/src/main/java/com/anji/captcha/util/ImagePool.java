@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.anji.captcha.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预解码的底图池
+ * <p>
+ * 初始化时把 Base64 底图一次性解码为 {@link BufferedImage}，并缓存 ARGB 像素数组，
+ * 生成验证码时按下标取图，需要修改的底图直接复制栅格数据，不再每次请求 Base64 解码以及 ImageIO.read。
+ * 池中的图片和像素数组是共享的，只读使用。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public final class ImagePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePool.class);
+
+    private static final ImagePool EMPTY = new ImagePool(new BufferedImage[0], new int[0][]);
+
+    private final BufferedImage[] images;
+
+    private final int[][] pixels;
+
+    private ImagePool(BufferedImage[] images, int[][] pixels) {
+        this.images = images;
+        this.pixels = pixels;
+    }
+
+    public static ImagePool empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 解码底图
+     *
+     * @param base64Images 文件名 -> Base64
+     * @return ImagePool
+     */
+    public static ImagePool of(Map<String, String> base64Images) {
+        List<BufferedImage> images = new ArrayList<>(base64Images.size());
+        for (Map.Entry<String, String> entry : base64Images.entrySet()) {
+            BufferedImage image = ImageUtils.getBase64StrToImage(entry.getValue());
+            if (image == null) {
+                logger.warn("底图解码失败: {}", entry.getKey());
+                continue;
+            }
+            images.add(image);
+        }
+        int[][] pixels = new int[images.size()][];
+        for (int i = 0; i < images.size(); i++) {
+            BufferedImage image = images.get(i);
+            pixels[i] = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        }
+        return new ImagePool(images.toArray(new BufferedImage[0]), pixels);
+    }
+
+    public int size() {
+        return this.images.length;
+    }
+
+    public boolean isEmpty() {
+        return this.images.length == 0;
+    }
+
+    /**
+     * 随机下标，池为空时返回 -1
+     *
+     * @return int
+     */
+    public int randomIndex() {
+        return this.isEmpty() ? -1 : RandomUtils.getRandomInt(this.images.length);
+    }
+
+    /**
+     * 与给定下标不同的随机下标，池中不足两张时返回 -1
+     *
+     * @param exclude 排除的下标
+     * @return int
+     */
+    public int randomIndexExcept(int exclude) {
+        if (this.images.length < 2) {
+            return -1;
+        }
+        return (exclude + 1 + RandomUtils.getRandomInt(this.images.length - 1)) % this.images.length;
+    }
+
+    /**
+     * 共享的只读图片
+     *
+     * @param index 下标
+     * @return BufferedImage
+     */
+    public BufferedImage get(int index) {
+        return this.images[index];
+    }
+
+    /**
+     * 共享的只读 ARGB 像素，按行存储
+     *
+     * @param index 下标
+     * @return int[]
+     */
+    public int[] getPixels(int index) {
+        return this.pixels[index];
+    }
+
+    /**
+     * 可修改的副本，保留原图的颜色模型，直接复制栅格数据
+     *
+     * @param index 下标
+     * @return BufferedImage
+     */
+    public BufferedImage copy(int index) {
+        BufferedImage source = this.images[index];
+        WritableRaster raster = source.copyData(source.getRaster().createCompatibleWritableRaster());
+        return new BufferedImage(source.getColorModel(), raster, source.isAlphaPremultiplied(), null);
+    }
+
+}
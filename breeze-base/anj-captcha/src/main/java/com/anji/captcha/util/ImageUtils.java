@@ -28,6 +28,11 @@ public class ImageUtils {
     private static final Map<String, String> slidingBlockCacheMap = new ConcurrentHashMap(); //滑块
     private static final Map<String, String> picClickCacheMap = new ConcurrentHashMap(); //点选文字
     private static final Map<String, String[]> fileNameMap = new ConcurrentHashMap<>();
+    private static volatile ImagePool originalRotatePool = ImagePool.empty();  //旋转底图
+    private static volatile ImagePool rotateBlockPool = ImagePool.empty(); //旋转块
+    private static volatile ImagePool originalPool = ImagePool.empty();  //滑块底图
+    private static volatile ImagePool slidingBlockPool = ImagePool.empty(); //滑块
+    private static volatile ImagePool picClickPool = ImagePool.empty(); //点选文字
 
     public static void cacheImage(String captchaOriginalPathJigsaw, String captchaOriginalPathClick, String captchaOriginalPathRotate) {
         // 旋转拼图
@@ -58,6 +63,7 @@ public class ImageUtils {
         fileNameMap.put(CaptchaBaseMapEnum.PIC_CLICK.getCodeValue(), picClickCacheMap.keySet().toArray(new String[0]));
         fileNameMap.put(CaptchaBaseMapEnum.ROTATE.getCodeValue(), originalRotateCacheMap.keySet().toArray(new String[0]));
         fileNameMap.put(CaptchaBaseMapEnum.ROTATE_BLOCK.getCodeValue(), rotateBlockCacheMap.keySet().toArray(new String[0]));
+        decodeImages();
         logger.info("初始化底图:{}", JsonUtil.toJSONString(fileNameMap));
     }
 
@@ -68,17 +74,25 @@ public class ImageUtils {
         fileNameMap.put(CaptchaBaseMapEnum.ORIGINAL.getCodeValue(), originalCacheMap.keySet().toArray(new String[0]));
         fileNameMap.put(CaptchaBaseMapEnum.SLIDING_BLOCK.getCodeValue(), slidingBlockCacheMap.keySet().toArray(new String[0]));
         fileNameMap.put(CaptchaBaseMapEnum.PIC_CLICK.getCodeValue(), picClickCacheMap.keySet().toArray(new String[0]));
+        decodeImages();
         logger.info("自定义resource底图:{}", JsonUtil.toJSONString(fileNameMap));
     }
 
+    /**
+     * 底图预解码，请求时直接从池中复制像素
+     */
+    private static synchronized void decodeImages() {
+        originalRotatePool = ImagePool.of(originalRotateCacheMap);
+        rotateBlockPool = ImagePool.of(rotateBlockCacheMap);
+        originalPool = ImagePool.of(originalCacheMap);
+        slidingBlockPool = ImagePool.of(slidingBlockCacheMap);
+        picClickPool = ImagePool.of(picClickCacheMap);
+    }
+
     public static BufferedImage getRotate() {
-        String[] strings = fileNameMap.get(CaptchaBaseMapEnum.ROTATE.getCodeValue());
-        if (null == strings || strings.length == 0) {
-            return null;
-        }
-        Integer randomInt = RandomUtils.getRandomInt(0, strings.length);
-        String s = originalRotateCacheMap.get(strings[randomInt]);
-        return getBase64StrToImage(s);
+        ImagePool pool = originalRotatePool;
+        int index = pool.randomIndex();
+        return index < 0 ? null : pool.copy(index);
     }
 
     public static String getRotateBlock() {
@@ -92,13 +106,9 @@ public class ImageUtils {
     }
 
     public static BufferedImage getOriginal() {
-        String[] strings = fileNameMap.get(CaptchaBaseMapEnum.ORIGINAL.getCodeValue());
-        if (null == strings || strings.length == 0) {
-            return null;
-        }
-        Integer randomInt = RandomUtils.getRandomInt(0, strings.length);
-        String s = originalCacheMap.get(strings[randomInt]);
-        return getBase64StrToImage(s);
+        ImagePool pool = originalPool;
+        int index = pool.randomIndex();
+        return index < 0 ? null : pool.copy(index);
     }
 
     public static String getslidingBlock() {
@@ -112,13 +122,45 @@ public class ImageUtils {
     }
 
     public static BufferedImage getPicClick() {
-        String[] strings = fileNameMap.get(CaptchaBaseMapEnum.PIC_CLICK.getCodeValue());
-        if (null == strings || strings.length == 0) {
-            return null;
-        }
-        Integer randomInt = RandomUtils.getRandomInt(0, strings.length);
-        String s = picClickCacheMap.get(strings[randomInt]);
-        return getBase64StrToImage(s);
+        ImagePool pool = picClickPool;
+        int index = pool.randomIndex();
+        return index < 0 ? null : pool.copy(index);
+    }
+
+    /**
+     * 预解码的滑块底图，取图请使用 {@link #getOriginal()}
+     *
+     * @return ImagePool
+     */
+    public static ImagePool getOriginalPool() {
+        return originalPool;
+    }
+
+    /**
+     * 预解码的点选文字底图，取图请使用 {@link #getPicClick()}
+     *
+     * @return ImagePool
+     */
+    public static ImagePool getPicClickPool() {
+        return picClickPool;
+    }
+
+    /**
+     * 预解码的滑块模板，只读使用
+     *
+     * @return ImagePool
+     */
+    public static ImagePool getSlidingBlockPool() {
+        return slidingBlockPool;
+    }
+
+    /**
+     * 预解码的旋转块，只读使用
+     *
+     * @return ImagePool
+     */
+    public static ImagePool getRotateBlockPool() {
+        return rotateBlockPool;
     }
 
     /**
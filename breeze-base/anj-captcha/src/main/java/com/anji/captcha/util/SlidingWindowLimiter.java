@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.anji.captcha.util;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 内存滑动窗口限流，单节点部署（cacheType=local）时使用
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public final class SlidingWindowLimiter {
+
+    /**
+     * 每隔多少次调用清理一次已经过期的窗口
+     */
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * 尝试获取许可，窗口内已放行次数未达到上限时计入本次请求
+     *
+     * @param key           限流 key
+     * @param limit         窗口内允许的请求数
+     * @param windowSeconds 窗口长度（秒）
+     * @return boolean 是否放行
+     */
+    public boolean tryAcquire(String key, long limit, long windowSeconds) {
+        long now = System.currentTimeMillis();
+        long windowMillis = windowSeconds * 1000;
+        if (this.calls.incrementAndGet() % PURGE_INTERVAL == 0) {
+            this.purge(now);
+        }
+        boolean[] acquired = new boolean[1];
+        // compute 在同一个 key 上串行执行，与清理互斥，不会计入已经被移除的窗口
+        this.windows.compute(key, (k, window) -> {
+            if (window == null) {
+                window = new Window(windowMillis);
+            }
+            acquired[0] = window.tryAcquire(now, limit);
+            return window;
+        });
+        return acquired[0];
+    }
+
+    private void purge(long now) {
+        for (String key : this.windows.keySet()) {
+            this.windows.computeIfPresent(key, (k, window) -> window.isExpired(now) ? null : window);
+        }
+    }
+
+    private static final class Window {
+
+        private final long windowMillis;
+
+        private final ArrayDeque<Long> timestamps = new ArrayDeque<>();
+
+        Window(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        boolean tryAcquire(long now, long limit) {
+            this.evict(now);
+            if (this.timestamps.size() >= limit) {
+                return false;
+            }
+            this.timestamps.addLast(now);
+            return true;
+        }
+
+        boolean isExpired(long now) {
+            this.evict(now);
+            return this.timestamps.isEmpty();
+        }
+
+        private void evict(long now) {
+            while (!this.timestamps.isEmpty() && this.timestamps.peekFirst() <= now - this.windowMillis) {
+                this.timestamps.pollFirst();
+            }
+        }
+    }
+
+}
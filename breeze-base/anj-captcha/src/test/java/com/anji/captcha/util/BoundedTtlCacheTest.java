@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.anji.captcha.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 有界、按条目过期的本地缓存测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class BoundedTtlCacheTest {
+
+    @Test
+    void expiresEntryAfterTtl() throws InterruptedException {
+        BoundedTtlCache cache = new BoundedTtlCache(16);
+        cache.set("expire", "v", 1);
+        cache.set("forever", "v", 0);
+        assertThat(cache.get("expire")).isEqualTo("v");
+        Thread.sleep(1100);
+        assertThat(cache.get("expire")).isNull();
+        assertThat(cache.exists("expire")).isFalse();
+        assertThat(cache.get("forever")).isEqualTo("v");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedInsteadOfClearing() {
+        BoundedTtlCache cache = new BoundedTtlCache(16 * 4);
+        for (int i = 0; i < 10_000; i++) {
+            cache.set("key" + i, "v" + i, 60);
+            // 持续访问的 key 不会被淘汰
+            assertThat(cache.get("key0")).isEqualTo("v0");
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(16 * 4);
+        assertThat(cache.get("key9999")).isEqualTo("v9999");
+        assertThat(cache.get("key1")).isNull();
+    }
+
+    @Test
+    void incrementKeepsExpireTime() throws InterruptedException {
+        BoundedTtlCache cache = new BoundedTtlCache(16);
+        assertThat(cache.increment("missing", 2)).isEqualTo(2L);
+        assertThat(cache.increment("missing", 3)).isEqualTo(5L);
+
+        cache.set("count", "1", 1);
+        assertThat(cache.increment("count", 1)).isEqualTo(2L);
+        Thread.sleep(1100);
+        assertThat(cache.get("count")).isNull();
+        assertThat(cache.increment("count", 1)).isEqualTo(1L);
+    }
+
+    @Test
+    void deleteRemovesEntry() {
+        BoundedTtlCache cache = new BoundedTtlCache(16);
+        cache.set("key", "v", 60);
+        cache.delete("key");
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+}
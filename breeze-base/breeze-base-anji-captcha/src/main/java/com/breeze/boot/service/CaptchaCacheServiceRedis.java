@@ -1,6 +1,7 @@
 package com.breeze.boot.service;
 
 import com.anji.captcha.service.CaptchaCacheService;
+import com.breeze.boot.redis.limiter.RedisRateLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
@@ -27,6 +28,12 @@ public class CaptchaCacheServiceRedis implements CaptchaCacheService {
     @Autowired
     private StringRedisTemplate stringRedisTemplate;
 
+    /**
+     * redis 滑动窗口限流
+     */
+    @Autowired
+    private RedisRateLimiter redisRateLimiter;
+
     /**
      * 类型
      *
@@ -92,4 +99,17 @@ public class CaptchaCacheServiceRedis implements CaptchaCacheService {
     public Long increment(String key, long val) {
         return stringRedisTemplate.opsForValue().increment(key, val);
     }
+
+    /**
+     * 限流，单次 Lua 脚本原子完成
+     *
+     * @param key           KEY
+     * @param limit         窗口内允许的请求数
+     * @param windowSeconds 窗口长度（秒）
+     * @return boolean
+     */
+    @Override
+    public boolean tryAcquire(String key, long limit, long windowSeconds) {
+        return redisRateLimiter.tryAcquire(key, limit, windowSeconds);
+    }
 }
@@ -16,9 +16,12 @@
 
 package com.breeze.boot.core.config;
 
+import com.alibaba.ttl.TtlRunnable;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.ThreadPoolExecutor;
@@ -31,9 +34,11 @@ import java.util.concurrent.ThreadPoolExecutor;
  */
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(ThreadPoolProperties.class)
 public class ThreadPoolConfiguration {
 
     @Bean
+    @Primary
     public ThreadPoolTaskExecutor threadPoolTaskExecutor() {
         log.info("---------- 开始加载线程池 ----------");
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
@@ -56,4 +61,26 @@ public class ThreadPoolConfiguration {
         log.info("---------- 线程池加载完成 ----------");
         return threadPoolTaskExecutor;
     }
+
+    /**
+     * 登录用户信息并行加载线程池，任务经 TTL 包装以传递租户
+     *
+     * @param threadPoolProperties 线程池属性
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor loginLoaderExecutor(ThreadPoolProperties threadPoolProperties) {
+        ThreadPoolProperties.Pool pool = threadPoolProperties.getLoginLoader();
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(pool.getCorePoolSize());
+        threadPoolTaskExecutor.setMaxPoolSize(pool.getMaxPoolSize());
+        threadPoolTaskExecutor.setQueueCapacity(pool.getQueueCapacity());
+        threadPoolTaskExecutor.setKeepAliveSeconds(pool.getKeepAliveSeconds());
+        threadPoolTaskExecutor.setThreadNamePrefix("breeze-login-loader-");
+        threadPoolTaskExecutor.setTaskDecorator(TtlRunnable::get);
+        // 队列满时由调用线程执行
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolTaskExecutor.initialize();
+        return threadPoolTaskExecutor;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 线程池属性
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "breeze.thread-pool")
+public class ThreadPoolProperties {
+
+    /**
+     * 登录用户信息并行加载线程池
+     */
+    private Pool loginLoader = new Pool();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * 核心线程数
+         */
+        private int corePoolSize = 4;
+
+        /**
+         * 最大线程数
+         */
+        private int maxPoolSize = 8;
+
+        /**
+         * 队列容量
+         */
+        private int queueCapacity = 64;
+
+        /**
+         * 空闲线程存活时间（秒）
+         */
+        private int keepAliveSeconds = 60;
+
+    }
+
+}
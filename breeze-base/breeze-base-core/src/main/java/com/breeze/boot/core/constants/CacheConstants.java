@@ -38,6 +38,11 @@ public class CacheConstants {
      */
     public static final String VALIDATE_EMAIL_CODE = "breeze:login:validate_email_code:";
 
+    /**
+     * 登录限流
+     */
+    public static final String LOGIN_LIMIT = "breeze:login:limit:";
+
     /**
      * 行权限缓存
      */
@@ -53,4 +58,9 @@ public class CacheConstants {
      */
     public static final String PERMISSIONS = "Authorization:user-permissions:permission:";
 
+    /**
+     * 权限本地缓存失效通知频道
+     */
+    public static final String PERMISSION_INVALIDATE_CHANNEL = "Authorization:permission:invalidate";
+
 }
@@ -221,7 +221,12 @@ public enum ResultCode {
      */
     SQL_PARSE_EXCEPTION("result.sql.parse.exception", "sql转换错误" ),
 
-    LOCK_EXCEPTION("result.lock.fail.exception" , "您提交太快，请稍等再提交");
+    LOCK_EXCEPTION("result.lock.fail.exception" , "您提交太快，请稍等再提交"),
+
+    /**
+     * 请求过于频繁
+     */
+    TOO_MANY_REQUESTS("result.too.many.requests", "请求过于频繁，请稍后再试");
 
     private final String key;
 
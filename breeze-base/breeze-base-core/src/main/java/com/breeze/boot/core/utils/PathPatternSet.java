@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.core.utils;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.*;
+
+/**
+ * 预编译的路径匹配集合
+ * <p>
+ * 启动时一次性把忽略路径分为三类：不含通配符的精确路径放入哈希表；形如 /a/b/** 的前缀路径按路径段放入前缀树；
+ * 其余路径编译为 {@link PathPattern}，PathPatternParser 不支持的写法（如 /**&#47;*.js）回退为 {@link AntPathMatcher}。
+ * 常见情况只需按路径长度走一遍，不再每次请求逐条调用 AntPathMatcher。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public final class PathPatternSet {
+
+    private static final PathPatternSet EMPTY = new PathPatternSet(Collections.emptyList());
+
+    private static final String MULTI_WILDCARD = "/**";
+
+    private static final AntPathMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+
+    /**
+     * 精确路径
+     */
+    private final Set<String> exactPaths = new HashSet<>();
+
+    /**
+     * 前缀路径树
+     */
+    private final Node prefixRoot = new Node();
+
+    /**
+     * 编译后的路径模式
+     */
+    private final List<PathPattern> pathPatterns = new ArrayList<>();
+
+    /**
+     * PathPatternParser 无法解析的模式
+     */
+    private final List<String> antPatterns = new ArrayList<>();
+
+    private final int size;
+
+    private PathPatternSet(Collection<String> patterns) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String pattern : patterns) {
+            if (StringUtils.hasText(pattern)) {
+                distinct.add(pattern.trim());
+            }
+        }
+        for (String pattern : distinct) {
+            this.add(pattern);
+        }
+        this.size = distinct.size();
+    }
+
+    /**
+     * 构建路径匹配集合
+     *
+     * @param patterns 路径模式，允许为空
+     * @return {@link PathPatternSet}
+     */
+    public static PathPatternSet of(Collection<String> patterns) {
+        if (CollectionUtils.isEmpty(patterns)) {
+            return EMPTY;
+        }
+        return new PathPatternSet(patterns);
+    }
+
+    /**
+     * 路径是否命中任意一个模式
+     *
+     * @param path 请求路径
+     * @return boolean
+     */
+    public boolean matches(String path) {
+        if (this.size == 0 || path == null) {
+            return false;
+        }
+        if (this.exactPaths.contains(path) || this.matchPrefix(path)) {
+            return true;
+        }
+        if (!this.pathPatterns.isEmpty()) {
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (PathPattern pathPattern : this.pathPatterns) {
+                if (pathPattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+        }
+        for (String antPattern : this.antPatterns) {
+            if (ANT_PATH_MATCHER.match(antPattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 模式数量
+     *
+     * @return int
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void add(String pattern) {
+        if (!hasWildcard(pattern)) {
+            this.exactPaths.add(pattern);
+            return;
+        }
+        if (pattern.endsWith(MULTI_WILDCARD)) {
+            String prefix = pattern.substring(0, pattern.length() - MULTI_WILDCARD.length());
+            if (!hasWildcard(prefix)) {
+                Node node = this.prefixRoot;
+                for (String segment : StringUtils.tokenizeToStringArray(prefix, "/")) {
+                    node = node.children.computeIfAbsent(segment, key -> new Node());
+                }
+                node.terminal = true;
+                return;
+            }
+        }
+        try {
+            this.pathPatterns.add(PathPatternParser.defaultInstance.parse(pattern));
+        } catch (PatternParseException e) {
+            this.antPatterns.add(pattern);
+        }
+    }
+
+    /**
+     * 按路径段遍历前缀树，经过任意终止节点即命中，/a/** 同时匹配 /a 本身
+     */
+    private boolean matchPrefix(String path) {
+        Node node = this.prefixRoot;
+        int length = path.length();
+        int start = 0;
+        while (true) {
+            if (node.terminal) {
+                return true;
+            }
+            while (start < length && path.charAt(start) == '/') {
+                start++;
+            }
+            if (start >= length) {
+                return false;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.children.get(path.substring(start, end));
+            if (node == null) {
+                return false;
+            }
+            start = end;
+        }
+    }
+
+    private static boolean hasWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>(4);
+
+        private boolean terminal;
+
+    }
+
+}
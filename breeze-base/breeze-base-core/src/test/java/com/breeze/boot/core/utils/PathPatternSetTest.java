@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 预编译的路径匹配集合测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class PathPatternSetTest {
+
+    private static final List<String> PATTERNS = Arrays.asList(
+            "/login", " /captcha/get ", "", null, "/swagger-ui/**", "/v3/api-docs/**", "/druid/**",
+            "/ws/*/info", "/static/**/*.js", "/**/*.css", "/auth/{type}/callback");
+
+    private static final List<String> PATHS = Arrays.asList(
+            "/login", "/login/", "/loginx", "/captcha/get", "/swagger-ui", "/swagger-ui/index.html",
+            "/swagger-uix/index.html", "/v3/api-docs", "/v3/api-docs/group/a", "/druid//sql.html",
+            "/ws/1/info", "/ws/1/2/info", "/static/a/b/app.js", "/static/app.json", "/a/b/site.css",
+            "/auth/github/callback", "/auth/github/x/callback", "/sys/user/list", "/");
+
+    @Test
+    void matchesSameAsAntPathMatcher() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        PathPatternSet patternSet = PathPatternSet.of(PATTERNS);
+        for (String path : PATHS) {
+            boolean expected = PATTERNS.stream()
+                    .filter(pattern -> pattern != null && !pattern.isBlank())
+                    .anyMatch(pattern -> antPathMatcher.match(pattern.trim(), path));
+            assertThat(patternSet.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void prefixPatternMatchesItself() {
+        PathPatternSet patternSet = PathPatternSet.of(List.of("/oauth2/**"));
+        assertThat(patternSet.matches("/oauth2")).isTrue();
+        assertThat(patternSet.matches("/oauth2/token")).isTrue();
+        assertThat(patternSet.matches("/oauth2x/token")).isFalse();
+    }
+
+    @Test
+    void ignoresBlankAndDuplicatePatterns() {
+        PathPatternSet patternSet = PathPatternSet.of(Arrays.asList("/login", "/login ", " ", null));
+        assertThat(patternSet.size()).isEqualTo(1);
+        assertThat(PathPatternSet.of(null).matches("/login")).isFalse();
+        assertThat(patternSet.matches(null)).isFalse();
+    }
+
+}
@@ -17,11 +17,14 @@
 package com.breeze.boot.log;
 
 import com.breeze.boot.log.aspect.SysLogAspect;
+import com.breeze.boot.log.aspect.SysLogParamProperties;
+import com.breeze.boot.log.aspect.SysLogParamWriter;
 import com.breeze.boot.log.events.PublisherSaveSysLogEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -38,6 +41,7 @@ import org.springframework.context.annotation.Import;
 @RequiredArgsConstructor
 @ConditionalOnWebApplication
 @Import(PublisherSaveSysLogEvent.class)
+@EnableConfigurationProperties(SysLogParamProperties.class)
 @ConditionalOnProperty(prefix = "breeze.log", value = "enable", havingValue = "true")
 public class EnableSysLogConfiguration {
 
@@ -46,15 +50,28 @@ public class EnableSysLogConfiguration {
      */
     private final PublisherSaveSysLogEvent publisherSaveSysLogEvent;
 
+    /**
+     * 系统日志入参序列化
+     *
+     * @param properties 系统日志入参序列化属性
+     * @return {@link SysLogParamWriter}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SysLogParamWriter sysLogParamWriter(SysLogParamProperties properties) {
+        return new SysLogParamWriter(properties);
+    }
+
     /**
      * 系统日志AOP Bean
      *
+     * @param sysLogParamWriter 系统日志入参序列化
      * @return {@link SysLogAspect}
      */
     @Bean
     @ConditionalOnMissingBean
-    public SysLogAspect sysLogAspect() {
-        return new SysLogAspect(publisherSaveSysLogEvent);
+    public SysLogAspect sysLogAspect(SysLogParamWriter sysLogParamWriter) {
+        return new SysLogAspect(publisherSaveSysLogEvent, sysLogParamWriter);
     }
 
 }
@@ -21,8 +21,6 @@ import com.breeze.boot.log.annotation.BreezeSysLog;
 import com.breeze.boot.log.bo.SysLogBO;
 import com.breeze.boot.log.events.PublisherSaveSysLogEvent;
 import com.breeze.boot.log.events.SysLogSaveEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -47,17 +45,19 @@ import static com.breeze.boot.log.enums.LogEnum.Result.SUCCESS;
 @Aspect
 public class SysLogAspect {
 
-    private final ObjectMapper mapper = new ObjectMapper();
-
     /**
      * 发布保存系统的日志事件
      */
     private final PublisherSaveSysLogEvent publisherSaveSysLogEvent;
 
+    /**
+     * 入参序列化
+     */
+    private final SysLogParamWriter sysLogParamWriter;
 
-    public SysLogAspect(PublisherSaveSysLogEvent publisherSaveSysLogEvent) {
+    public SysLogAspect(PublisherSaveSysLogEvent publisherSaveSysLogEvent, SysLogParamWriter sysLogParamWriter) {
         this.publisherSaveSysLogEvent = publisherSaveSysLogEvent;
-        this.mapper.registerModules(new JavaTimeModule());
+        this.sysLogParamWriter = sysLogParamWriter;
     }
 
     /**
@@ -92,8 +92,8 @@ public class SysLogAspect {
         } finally {
             stopWatch.stop();
             sysLogBO.setTime(String.valueOf(stopWatch.getTotalTimeSeconds()));
+            this.printLog(methodName, sysLogBO, stopWatch);
             this.publisherSaveSysLogEvent.publisherEvent(new SysLogSaveEvent(sysLogBO));
-            this.printLog(methodName, this.write(param), stopWatch);
         }
         return obj;
     }
@@ -117,18 +117,23 @@ public class SysLogAspect {
                 .resultMsg("")
                 .ip(request.getRemoteAddr())
                 .requestType(request.getMethod())
-                .paramContent(this.write(param))
+                .paramContentSupplier(() -> this.sysLogParamWriter.write(param))
                 .result(SUCCESS.getCode())
                 .build();
     }
 
     /**
-     * 打印日志
+     * 打印日志，开启 debug 时才在当前线程序列化入参，结果复用于日志保存
      *
-     * @param stopWatch 时间监听
+     * @param methodName 方法名称
+     * @param sysLogBO   系统日志BO
+     * @param stopWatch  时间监听
      */
-    private void printLog(String methodName, String jsonString, StopWatch stopWatch) {
-        log.info("传入参数：\n {}", jsonString);
+    private void printLog(String methodName, SysLogBO sysLogBO, StopWatch stopWatch) {
+        if (log.isDebugEnabled()) {
+            sysLogBO.resolveParamContent();
+            log.debug("传入参数：\n {}", sysLogBO.getParamContent());
+        }
         log.trace("方法名称: {} 执行时间: {}", methodName, stopWatch.getTotalTimeMillis());
     }
 
@@ -143,18 +148,4 @@ public class SysLogAspect {
         return attributes.getRequest();
     }
 
-    /**
-     * 写
-     *
-     * @param data 数据
-     * @return {@link String}
-     */
-    public String write(Object data) {
-        try {
-            return this.mapper.writeValueAsString(data);
-        } catch (Exception ex) {
-            throw new IllegalArgumentException(ex.getMessage(), ex);
-        }
-    }
-
 }
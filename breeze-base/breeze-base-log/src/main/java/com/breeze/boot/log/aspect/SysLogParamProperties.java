@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.log.aspect;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 系统日志入参序列化属性
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "breeze.log.param")
+public class SysLogParamProperties {
+
+    /**
+     * 入参 JSON 最大字节数，超出部分截断
+     */
+    private int maxBytes = 4096;
+
+    /**
+     * 不序列化的参数类型（全限定类名，包含子类），只记录类型名
+     */
+    private List<String> skipTypes = new ArrayList<>(List.of(
+            "jakarta.servlet.ServletRequest",
+            "jakarta.servlet.ServletResponse",
+            "org.springframework.web.multipart.MultipartFile",
+            "org.springframework.validation.BindingResult",
+            "java.io.InputStream",
+            "java.io.OutputStream",
+            "java.io.Reader",
+            "java.io.Writer"
+    ));
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.log.aspect;
+
+import com.breeze.boot.core.utils.MapperUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 系统日志入参序列化
+ * <p>
+ * 基于 {@link MapperUtils} 的 ObjectMapper 流式写出，超过字节上限立即中断并在完整字符处截断，
+ * 大集合不会被完整序列化；请求、响应、上传文件、流等类型无论是参数本身还是嵌套字段都只记录类型名。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Slf4j
+public class SysLogParamWriter {
+
+    private static final String TRUNCATED = "...(truncated)";
+
+    private final int maxBytes;
+
+    /**
+     * 注册了跳过类型序列化器的 ObjectMapper，嵌套字段同样生效
+     */
+    private final ObjectMapper mapper;
+
+    @SuppressWarnings("unchecked")
+    public SysLogParamWriter(SysLogParamProperties properties) {
+        this.maxBytes = properties.getMaxBytes();
+        SimpleModule module = new SimpleModule("SysLogSkipTypes");
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        for (String skipType : properties.getSkipTypes()) {
+            if (ClassUtils.isPresent(skipType, classLoader)) {
+                // SimpleSerializers 按类、父类以及接口匹配，子类同样跳过
+                module.addSerializer((Class<Object>) ClassUtils.resolveClassName(skipType, classLoader), SkippedTypeSerializer.INSTANCE);
+            }
+        }
+        this.mapper = MapperUtils.getMapper().copy().registerModule(module);
+    }
+
+    /**
+     * 序列化入参
+     *
+     * @param params 入参
+     * @return {@link String} 超过上限时截断
+     */
+    public String write(Object[] params) {
+        LimitedOutputStream out = new LimitedOutputStream(this.maxBytes);
+        try (JsonGenerator generator = this.mapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (Object param : params) {
+                this.mapper.writeValue(generator, param);
+            }
+            generator.writeEndArray();
+        } catch (IOException | RuntimeException e) {
+            // Jackson 会把输出流抛出的异常包装，按是否超过上限区分截断与序列化失败
+            if (out.isExceeded()) {
+                return out.toString() + TRUNCATED;
+            }
+            log.warn("系统日志入参序列化失败: {}", e.getMessage());
+            return out.size() > 0 ? out.toString() + TRUNCATED : "";
+        }
+        return out.toString();
+    }
+
+    /**
+     * 跳过的类型只写出类型名
+     */
+    private static class SkippedTypeSerializer extends StdSerializer<Object> {
+
+        static final SkippedTypeSerializer INSTANCE = new SkippedTypeSerializer();
+
+        SkippedTypeSerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString("[" + value.getClass().getSimpleName() + "]");
+        }
+
+    }
+
+    /**
+     * 超过上限时抛出 {@link LimitExceededException} 中断序列化，已写出的内容保留到上限为止
+     */
+    private static class LimitedOutputStream extends ByteArrayOutputStream {
+
+        private final int limit;
+
+        private boolean exceeded;
+
+        LimitedOutputStream(int limit) {
+            super(Math.min(limit, 1024));
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (this.count >= this.limit) {
+                this.exceeded = true;
+                throw new LimitExceededException();
+            }
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            int remaining = this.limit - this.count;
+            if (len > remaining) {
+                super.write(b, off, remaining);
+                this.exceeded = true;
+                throw new LimitExceededException();
+            }
+            super.write(b, off, len);
+        }
+
+        boolean isExceeded() {
+            return this.exceeded;
+        }
+
+        /**
+         * 按字节截断可能切断多字节字符，回退到最后一个完整字符之后
+         */
+        @Override
+        public synchronized String toString() {
+            return new String(this.buf, 0, this.completeLength(), StandardCharsets.UTF_8);
+        }
+
+        private int completeLength() {
+            int start = this.count - 1;
+            // 跳过末尾的后续字节 10xxxxxx，找到最后一个字符的首字节
+            while (start >= 0 && (this.buf[start] & 0xC0) == 0x80) {
+                start--;
+            }
+            if (start < 0) {
+                return 0;
+            }
+            int lead = this.buf[start] & 0xFF;
+            int length = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : 2;
+            return start + length <= this.count ? this.count : start;
+        }
+
+    }
+
+    private static class LimitExceededException extends RuntimeException {
+
+        LimitExceededException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
@@ -20,6 +20,7 @@ import com.alibaba.excel.annotation.ExcelIgnore;
 import com.alibaba.excel.annotation.ExcelProperty;
 import com.alibaba.excel.converters.localdatetime.LocalDateTimeStringConverter;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,6 +30,7 @@ import lombok.NoArgsConstructor;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
 /**
  * 系统日志BO
@@ -90,6 +92,14 @@ public class SysLogBO implements Serializable {
      */
     private String paramContent;
 
+    /**
+     * 延迟序列化的入参，由日志写入线程调用 {@link #resolveParamContent()} 生成 paramContent
+     */
+    @JsonIgnore
+    @ExcelIgnore
+    @Schema(hidden = true)
+    private transient Supplier<String> paramContentSupplier;
+
     /**
      * 结果 0 失败 1 成功
      */
@@ -105,6 +115,13 @@ public class SysLogBO implements Serializable {
      */
     private String resultMsg;
 
+    /**
+     * 租户ID，放入写入缓冲时从请求线程获取，写入线程按租户分组保存
+     */
+    @ExcelIgnore
+    @Schema(hidden = true)
+    private Long tenantId;
+
     /**
      * 创建人
      */
@@ -127,4 +144,14 @@ public class SysLogBO implements Serializable {
     @ExcelProperty(value = "创建时间", converter = LocalDateTimeStringConverter.class)
     private LocalDateTime createTime;
 
+    /**
+     * 生成延迟序列化的入参，只执行一次
+     */
+    public void resolveParamContent() {
+        if (this.paramContent == null && this.paramContentSupplier != null) {
+            this.paramContent = this.paramContentSupplier.get();
+        }
+        this.paramContentSupplier = null;
+    }
+
 }
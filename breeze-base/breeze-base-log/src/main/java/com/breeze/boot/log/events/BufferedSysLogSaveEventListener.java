@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.log.events;
+
+import com.breeze.boot.log.bo.SysLogBO;
+import com.breeze.boot.log.sink.SysLogSink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 缓冲写入的系统日志保存事件监听器
+ * <p>
+ * 同步放入 {@link SysLogSink}，由写入线程批量保存，不再每条日志提交一个异步任务
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@RequiredArgsConstructor
+public class BufferedSysLogSaveEventListener {
+
+    private final SysLogSink sysLogSink;
+
+    /**
+     * 应用程序事件
+     *
+     * @param sysLogSaveEvent 事件
+     */
+    @EventListener(SysLogSaveEvent.class)
+    public void onApplicationEvent(SysLogSaveEvent sysLogSaveEvent) {
+        this.sysLogSink.offer((SysLogBO) sysLogSaveEvent.getSource());
+    }
+
+}
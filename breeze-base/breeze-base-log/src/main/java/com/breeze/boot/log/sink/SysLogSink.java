@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.log.sink;
+
+import com.breeze.boot.core.utils.BreezeTenantHolder;
+import com.breeze.boot.log.bo.SysLogBO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 系统日志写入缓冲
+ * <p>
+ * 请求线程只把日志放入有界队列，由单独的写入线程按数量或时间攒批，一次批量插入。
+ * 突发流量下不再每条日志一个异步任务，也不会因为线程池队列满由请求线程自己执行 INSERT。
+ * 队列满时按 {@link SysLogSinkProperties.OverflowPolicy} 处理，并记录队列深度以及丢弃数量。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Slf4j
+public class SysLogSink implements InitializingBean, DisposableBean {
+
+    /**
+     * 批量保存
+     */
+    private final Consumer<List<SysLogBO>> batchConsumer;
+
+    private final SysLogSinkProperties properties;
+
+    private final BlockingQueue<SysLogBO> queue;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    private final AtomicLong flushedCount = new AtomicLong();
+
+    private volatile boolean running;
+
+    private Thread drainThread;
+
+    public SysLogSink(Consumer<List<SysLogBO>> batchConsumer, SysLogSinkProperties properties) {
+        this.batchConsumer = batchConsumer;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+    }
+
+    /**
+     * 放入一条日志
+     *
+     * @param sysLogBO 系统日志BO
+     */
+    public void offer(SysLogBO sysLogBO) {
+        if (sysLogBO.getTenantId() == null) {
+            // 写入线程没有租户上下文，在请求线程记录租户
+            sysLogBO.setTenantId(BreezeTenantHolder.getTenant());
+        }
+        if (this.queue.offer(sysLogBO)) {
+            return;
+        }
+        switch (this.properties.getOverflowPolicy()) {
+            case BLOCK:
+                this.offerBlocking(sysLogBO);
+                break;
+            case SAMPLE:
+                if (this.overflowCount.incrementAndGet() % this.properties.getSampleRate() == 0) {
+                    this.offerDropOldest(sysLogBO);
+                } else {
+                    this.droppedCount.incrementAndGet();
+                }
+                break;
+            default:
+                this.offerDropOldest(sysLogBO);
+        }
+    }
+
+    /**
+     * 当前队列深度
+     *
+     * @return int
+     */
+    public int getQueueDepth() {
+        return this.queue.size();
+    }
+
+    /**
+     * 累计丢弃的日志数量
+     *
+     * @return long
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.get();
+    }
+
+    /**
+     * 累计写入的日志数量
+     *
+     * @return long
+     */
+    public long getFlushedCount() {
+        return this.flushedCount.get();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.running = true;
+        this.drainThread = new Thread(this::drain, "breeze-sys-log-drain");
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.running = false;
+        this.drainThread.interrupt();
+        this.drainThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void offerBlocking(SysLogBO sysLogBO) {
+        try {
+            if (!this.queue.offer(sysLogBO, this.properties.getBlockTimeout(), TimeUnit.MILLISECONDS)) {
+                this.droppedCount.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.droppedCount.incrementAndGet();
+        }
+    }
+
+    private void offerDropOldest(SysLogBO sysLogBO) {
+        while (!this.queue.offer(sysLogBO)) {
+            if (this.queue.poll() != null) {
+                this.droppedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void drain() {
+        int batchSize = this.properties.getBatchSize();
+        long flushInterval = this.properties.getFlushInterval();
+        List<SysLogBO> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                long wait = batch.isEmpty() ? flushInterval : deadline - System.currentTimeMillis();
+                SysLogBO sysLogBO = wait > 0 ? this.queue.poll(wait, TimeUnit.MILLISECONDS) : null;
+                if (sysLogBO != null) {
+                    if (batch.isEmpty()) {
+                        deadline = System.currentTimeMillis() + flushInterval;
+                    }
+                    batch.add(sysLogBO);
+                    this.queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // 停止时被中断，继续把剩余的日志写完
+            }
+            if (batch.size() >= batchSize || (!batch.isEmpty() && (!this.running || System.currentTimeMillis() >= deadline))) {
+                this.flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.flush(batch);
+        }
+    }
+
+    private void flush(List<SysLogBO> batch) {
+        // 同一批次可能包含多个租户的日志，按租户分组并设置租户上下文后分别保存
+        Map<Long, List<SysLogBO>> tenantBatches = new LinkedHashMap<>();
+        for (SysLogBO sysLogBO : batch) {
+            tenantBatches.computeIfAbsent(sysLogBO.getTenantId(), key -> new ArrayList<>()).add(sysLogBO);
+        }
+        tenantBatches.forEach(this::flushTenant);
+    }
+
+    private void flushTenant(Long tenantId, List<SysLogBO> batch) {
+        try {
+            if (tenantId != null) {
+                BreezeTenantHolder.setTenant(tenantId);
+            }
+            batch.forEach(SysLogBO::resolveParamContent);
+            this.batchConsumer.accept(batch);
+            this.flushedCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            this.droppedCount.addAndGet(batch.size());
+            log.error("批量保存系统日志失败，租户: {}，条数: {}", tenantId, batch.size(), e);
+        } finally {
+            BreezeTenantHolder.clean();
+        }
+    }
+
+}
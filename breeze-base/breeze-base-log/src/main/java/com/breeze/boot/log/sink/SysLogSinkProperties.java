@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.log.sink;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 系统日志写入缓冲属性
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "breeze.log.sink")
+public class SysLogSinkProperties {
+
+    /**
+     * 缓冲区容量
+     */
+    private int capacity = 4096;
+
+    /**
+     * 每批最多写入的日志条数
+     */
+    private int batchSize = 200;
+
+    /**
+     * 攒批的最长等待时间（毫秒）
+     */
+    private long flushInterval = 1000;
+
+    /**
+     * 缓冲区满时的处理策略
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * SAMPLE 策略下，溢出的日志每 sampleRate 条保留 1 条
+     */
+    private int sampleRate = 10;
+
+    /**
+     * BLOCK 策略下最长阻塞时间（毫秒），超时后丢弃
+     */
+    private long blockTimeout = 100;
+
+    /**
+     * 缓冲区满时的处理策略
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * 丢弃最早的日志，放入新的日志
+         */
+        DROP_OLDEST,
+
+        /**
+         * 按比例采样保留溢出的日志，其余丢弃
+         */
+        SAMPLE,
+
+        /**
+         * 阻塞调用线程直到有空位或超时
+         */
+        BLOCK
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.log.aspect;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 系统日志入参序列化测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class SysLogParamWriterTest {
+
+    private static final String TRUNCATED = "...(truncated)";
+
+    @Test
+    void truncateAtCodePointBoundary() {
+        // ["中文..."]，中文每个字符 3 个字节，覆盖截断落在字符中间的每一种位置
+        for (int maxBytes = 3; maxBytes < 12; maxBytes++) {
+            SysLogParamWriter writer = new SysLogParamWriter(properties(maxBytes));
+            String content = writer.write(new Object[]{"中文参数中文参数"});
+            assertThat(content).endsWith(TRUNCATED).doesNotContain("�");
+            String kept = content.substring(0, content.length() - TRUNCATED.length());
+            assertThat(kept.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(maxBytes);
+            assertThat("[\"中文参数中文参数\"]").startsWith(kept);
+        }
+    }
+
+    @Test
+    void skipTypesApplyToNestedFields() {
+        SysLogParamWriter writer = new SysLogParamWriter(properties(4096));
+        InputStream stream = new ByteArrayInputStream(new byte[]{1, 2, 3});
+        String content = writer.write(new Object[]{stream, new Upload("a.txt", stream)});
+        assertThat(content).isEqualTo("[\"[ByteArrayInputStream]\",{\"name\":\"a.txt\",\"file\":\"[ByteArrayInputStream]\"}]");
+    }
+
+    private static SysLogParamProperties properties(int maxBytes) {
+        SysLogParamProperties properties = new SysLogParamProperties();
+        properties.setMaxBytes(maxBytes);
+        return properties;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Upload {
+
+        private final String name;
+
+        private final InputStream file;
+
+    }
+
+}
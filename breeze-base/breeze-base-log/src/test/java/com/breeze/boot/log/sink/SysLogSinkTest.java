@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.log.sink;
+
+import com.breeze.boot.core.utils.BreezeTenantHolder;
+import com.breeze.boot.log.bo.SysLogBO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 系统日志写入缓冲测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class SysLogSinkTest {
+
+    @AfterEach
+    void clean() {
+        BreezeTenantHolder.clean();
+    }
+
+    @Test
+    void flushGroupsLogsByTenant() throws Exception {
+        // 租户 -> 保存时写入线程上的租户上下文以及日志标题
+        Map<Long, List<String>> saved = new ConcurrentHashMap<>();
+        List<Long> mismatched = new ArrayList<>();
+        SysLogSink sink = new SysLogSink(batch -> {
+            Long tenantId = BreezeTenantHolder.getTenant();
+            for (SysLogBO sysLogBO : batch) {
+                if (!sysLogBO.getTenantId().equals(tenantId)) {
+                    mismatched.add(sysLogBO.getTenantId());
+                }
+                saved.computeIfAbsent(tenantId, key -> new ArrayList<>()).add(sysLogBO.getLogTitle());
+            }
+        }, new SysLogSinkProperties());
+
+        BreezeTenantHolder.setTenant(1L);
+        sink.offer(SysLogBO.builder().logTitle("a1").build());
+        sink.offer(SysLogBO.builder().logTitle("a2").build());
+        BreezeTenantHolder.setTenant(2L);
+        sink.offer(SysLogBO.builder().logTitle("b1").build());
+        BreezeTenantHolder.setTenant(1L);
+        sink.offer(SysLogBO.builder().logTitle("a3").build());
+        BreezeTenantHolder.clean();
+
+        // 启动写入线程后立即停止，剩余日志在停止时写完
+        sink.afterPropertiesSet();
+        sink.destroy();
+
+        assertThat(mismatched).isEmpty();
+        assertThat(saved).containsOnlyKeys(1L, 2L);
+        assertThat(saved.get(1L)).containsExactly("a1", "a2", "a3");
+        assertThat(saved.get(2L)).containsExactly("b1");
+        assertThat(sink.getFlushedCount()).isEqualTo(4);
+        assertThat(sink.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void failedTenantDoesNotDropOtherTenants() throws Exception {
+        Map<Long, Integer> saved = new ConcurrentHashMap<>();
+        SysLogSink sink = new SysLogSink(batch -> {
+            Long tenantId = BreezeTenantHolder.getTenant();
+            if (tenantId == 2L) {
+                throw new IllegalStateException("insert failed");
+            }
+            saved.merge(tenantId, batch.size(), Integer::sum);
+        }, new SysLogSinkProperties());
+
+        BreezeTenantHolder.setTenant(1L);
+        sink.offer(SysLogBO.builder().logTitle("a1").build());
+        BreezeTenantHolder.setTenant(2L);
+        sink.offer(SysLogBO.builder().logTitle("b1").build());
+        BreezeTenantHolder.clean();
+
+        sink.afterPropertiesSet();
+        sink.destroy();
+
+        assertThat(saved).containsOnly(Map.entry(1L, 1));
+        assertThat(sink.getFlushedCount()).isEqualTo(1);
+        assertThat(sink.getDroppedCount()).isEqualTo(1);
+    }
+
+}
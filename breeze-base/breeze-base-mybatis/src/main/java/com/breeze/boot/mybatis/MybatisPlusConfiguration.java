@@ -27,9 +27,14 @@ import com.breeze.boot.core.enums.ResultCode;
 import com.breeze.boot.core.utils.AssertUtil;
 import com.breeze.boot.core.utils.BreezeTenantHolder;
 import com.breeze.boot.mybatis.aspect.DymicSqlAspect;
+import com.breeze.boot.mybatis.config.AuditLogProperties;
 import com.breeze.boot.mybatis.config.BreezeLogicSqlInjector;
+import com.breeze.boot.mybatis.config.SqlTemplateCacheProperties;
 import com.breeze.boot.mybatis.config.TenantProperties;
 import com.breeze.boot.mybatis.events.PublisherSaveSysAuditLogEvent;
+import com.breeze.boot.mybatis.events.SysAuditLogBuffer;
+import com.breeze.boot.mybatis.metadata.MappedStatementMetadataRegistry;
+import com.breeze.boot.mybatis.metadata.SqlTemplateCache;
 import com.breeze.boot.mybatis.plugins.BreezeAuditInnerInterceptor;
 import com.breeze.boot.mybatis.plugins.BreezeDataPermissionInterceptor;
 import com.breeze.boot.mybatis.plugins.BreezeListConditionInterceptor;
@@ -38,6 +43,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.LongValue;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -53,10 +61,12 @@ import static com.breeze.boot.core.constants.CoreConstants.TENANT_ID_COLUMN;
 @Slf4j
 @RequiredArgsConstructor
 @Import(PublisherSaveSysAuditLogEvent.class)
-@EnableConfigurationProperties(TenantProperties.class)
+@EnableConfigurationProperties({TenantProperties.class, SqlTemplateCacheProperties.class, AuditLogProperties.class})
 public class MybatisPlusConfiguration {
 
     private final TenantProperties tenantProperties;
+    private final SqlTemplateCacheProperties sqlTemplateCacheProperties;
+    private final AuditLogProperties auditLogProperties;
     private final PublisherSaveSysAuditLogEvent publisherSaveSysAuditLogEvent;
 
     /**
@@ -72,24 +82,63 @@ public class MybatisPlusConfiguration {
         return new DymicSqlAspect();
     }
 
+    /**
+     * MappedStatement 元数据注册表
+     *
+     * @param sqlSessionFactoryProvider sql会话工厂
+     * @return {@link MappedStatementMetadataRegistry}
+     */
+    @Bean
+    public MappedStatementMetadataRegistry mappedStatementMetadataRegistry(ObjectProvider<SqlSessionFactory> sqlSessionFactoryProvider) {
+        return new MappedStatementMetadataRegistry(sqlSessionFactoryProvider);
+    }
+
+    /**
+     * SQL 模板缓存，命中/未命中次数可通过该 bean 获取
+     *
+     * @return {@link SqlTemplateCache}
+     */
+    @Bean
+    public SqlTemplateCache sqlTemplateCache() {
+        return new SqlTemplateCache(this.sqlTemplateCacheProperties.getMaxSize());
+    }
+
+    /**
+     * 审计日志缓冲区
+     *
+     * @return {@link SysAuditLogBuffer}
+     */
+    @Bean
+    public SysAuditLogBuffer sysAuditLogBuffer() {
+        return new SysAuditLogBuffer(this.publisherSaveSysAuditLogEvent, this.auditLogProperties.getCapacity(),
+                this.auditLogProperties.getBatchSize(), this.auditLogProperties.getFlushInterval());
+    }
+
     /**
      * mybatis +拦截器
      *
+     * @param mappedStatementMetadataRegistry MappedStatement 元数据注册表
+     * @param sqlTemplateCache                SQL 模板缓存
+     * @param sysAuditLogBuffer               审计日志缓冲区
+     * @param sqlSessionTemplateProvider      SqlSessionTemplate 提供者，审计读取旧数据时经过插件链
      * @return {@link MybatisPlusInterceptor}
      */
     @Bean
-    public MybatisPlusInterceptor mybatisPlusInterceptor() {
+    public MybatisPlusInterceptor mybatisPlusInterceptor(MappedStatementMetadataRegistry mappedStatementMetadataRegistry,
+                                                         SqlTemplateCache sqlTemplateCache,
+                                                         SysAuditLogBuffer sysAuditLogBuffer,
+                                                         ObjectProvider<SqlSessionTemplate> sqlSessionTemplateProvider) {
         MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
         // 数据审计
-        interceptor.addInnerInterceptor(new BreezeAuditInnerInterceptor(publisherSaveSysAuditLogEvent));
+        interceptor.addInnerInterceptor(new BreezeAuditInnerInterceptor(sysAuditLogBuffer, sqlSessionTemplateProvider));
         // 乐观锁
         interceptor.addInnerInterceptor(new OptimisticLockerInnerInterceptor());
         // 防止全表删除更新
         interceptor.addInnerInterceptor(new BlockAttackInnerInterceptor());
         // 0. 自动拼装查询条件拦截器提前,减少后续无权限数据的处理
-        interceptor.addInnerInterceptor(new BreezeListConditionInterceptor());
+        interceptor.addInnerInterceptor(new BreezeListConditionInterceptor(mappedStatementMetadataRegistry, sqlTemplateCache));
         // 1. 数据权限拦截器提前,减少后续无权限数据的处理
-        interceptor.addInnerInterceptor(new BreezeDataPermissionInterceptor());
+        interceptor.addInnerInterceptor(new BreezeDataPermissionInterceptor(mappedStatementMetadataRegistry, sqlTemplateCache));
         // 2. 租户拦截器其次
         interceptor.addInnerInterceptor(this.tenantLineInnerInterceptor(this.tenantProperties));
         // 3. 分页拦截器放最后
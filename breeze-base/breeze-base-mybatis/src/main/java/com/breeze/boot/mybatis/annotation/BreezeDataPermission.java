@@ -53,4 +53,13 @@ public @interface BreezeDataPermission {
      */
     DataRole own() default DataRole.USER_ID;
 
+    /**
+     * 权限字段所属表的别名
+     * <p>
+     * 配置后权限条件直接下推到该表的 WHERE 中，可以走索引；
+     * 未配置、别名不存在或者 UNION 等集合查询时，使用子查询包装过滤
+     * </p>
+     */
+    String alias() default "";
+
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.mybatis.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 审计日志缓冲属性
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "breeze.audit-log")
+public class AuditLogProperties {
+
+    /**
+     * 缓冲区容量，满了之后由调用线程直接投递
+     */
+    private int capacity = 1024;
+
+    /**
+     * 每批最多的审计记录数
+     */
+    private int batchSize = 100;
+
+    /**
+     * 攒批的最长等待时间（毫秒）
+     */
+    private long flushInterval = 1000;
+
+}
@@ -19,6 +19,7 @@ package com.breeze.boot.mybatis.config;
 import cn.dev33.satoken.stp.StpUtil;
 import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
 import com.breeze.boot.core.model.UserPrincipal;
+import com.breeze.boot.mybatis.metadata.EntityMetadata;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.ibatis.reflection.MetaObject;
 
@@ -37,13 +38,13 @@ public class MybatisMetaObjectHandler implements MetaObjectHandler {
 
     @Override
     public void insertFill(MetaObject metaObject) {
-        if (metaObject.hasGetter("createBy")) {
+        if (hasProperty(metaObject, "createBy")) {
             this.strictInsertFill(metaObject, "createBy", this::getUserCode, String.class);
         }
-        if (metaObject.hasGetter("createName")) {
+        if (hasProperty(metaObject, "createName")) {
             this.strictInsertFill(metaObject, "createName", this::getUsername, String.class);
         }
-        if (metaObject.hasGetter("createTime")) {
+        if (hasProperty(metaObject, "createTime")) {
             this.strictInsertFill(metaObject, "createTime", LocalDateTime::now, LocalDateTime.class);
         }
     }
@@ -51,17 +52,25 @@ public class MybatisMetaObjectHandler implements MetaObjectHandler {
     @Override
     public void updateFill(MetaObject metaObject) {
         // 普通更新操作
-        if (metaObject.hasGetter("updateBy")) {
+        if (hasProperty(metaObject, "updateBy")) {
             this.strictUpdateFill(metaObject, "updateBy", this::getUserCode, String.class);
         }
-        if (metaObject.hasGetter("updateName")) {
+        if (hasProperty(metaObject, "updateName")) {
             this.strictUpdateFill(metaObject, "updateName", this::getUsername, String.class);
         }
-        if (metaObject.hasGetter("updateTime")) {
+        if (hasProperty(metaObject, "updateTime")) {
             this.strictUpdateFill(metaObject, "updateTime", LocalDateTime::now, LocalDateTime.class);
         }
     }
 
+    /**
+     * 实体优先使用缓存的实体元数据判断，其余参数（如 Map）仍按 MetaObject 判断
+     */
+    private static boolean hasProperty(MetaObject metaObject, String property) {
+        EntityMetadata metadata = EntityMetadata.of(metaObject.getOriginalObject().getClass());
+        return metadata != null ? metadata.hasProperty(property) : metaObject.hasGetter(property);
+    }
+
     private String getUsername() {
         boolean login = StpUtil.isLogin();
         if (login) {
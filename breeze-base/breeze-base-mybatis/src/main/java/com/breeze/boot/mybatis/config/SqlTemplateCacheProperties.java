@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.mybatis.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SQL 解析模板缓存属性
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "breeze.sql-template-cache")
+public class SqlTemplateCacheProperties {
+
+    /**
+     * 最多缓存的 SQL 模板数量
+     */
+    private long maxSize = 512;
+
+}
@@ -16,6 +16,7 @@
 
 package com.breeze.boot.mybatis.config;
 
+import com.breeze.boot.core.model.BaseProperties;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -31,7 +32,7 @@ import java.util.List;
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "breeze.tenant")
-public class TenantProperties {
+public class TenantProperties extends BaseProperties {
 
     /**
      * 增加租户的表
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.mybatis.events;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 审计日志缓冲区
+ * <p>
+ * 审计拦截器只把差异放入有界队列，由单独的线程按数量或时间攒批后发布一次
+ * {@link SysAuditLogSaveEvent}，批量写入审计日志，不再每次更新一个异步任务、一次插入。
+ * 队列满时由调用线程直接投递，保证审计不丢失。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Slf4j
+public class SysAuditLogBuffer implements InitializingBean, DisposableBean {
+
+    private final PublisherSaveSysAuditLogEvent publisherSaveSysAuditLogEvent;
+
+    private final BlockingQueue<SysAuditLogEntry> queue;
+
+    private final int batchSize;
+
+    private final long flushInterval;
+
+    private volatile boolean running;
+
+    private Thread drainThread;
+
+    public SysAuditLogBuffer(PublisherSaveSysAuditLogEvent publisherSaveSysAuditLogEvent, int capacity, int batchSize, long flushInterval) {
+        this.publisherSaveSysAuditLogEvent = publisherSaveSysAuditLogEvent;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * 放入一条审计差异
+     *
+     * @param entry 字段差异以及更新时间
+     */
+    public void offer(SysAuditLogEntry entry) {
+        if (!this.queue.offer(entry)) {
+            log.warn("审计日志缓冲区已满，由当前线程直接投递");
+            this.publish(Collections.singletonList(entry));
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.running = true;
+        this.drainThread = new Thread(this::drain, "breeze-audit-log-drain");
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.running = false;
+        this.drainThread.interrupt();
+        this.drainThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drain() {
+        List<SysAuditLogEntry> batch = new ArrayList<>(this.batchSize);
+        long deadline = 0;
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                long wait = batch.isEmpty() ? this.flushInterval : deadline - System.currentTimeMillis();
+                SysAuditLogEntry entry = wait > 0 ? this.queue.poll(wait, TimeUnit.MILLISECONDS) : null;
+                if (entry != null) {
+                    if (batch.isEmpty()) {
+                        deadline = System.currentTimeMillis() + this.flushInterval;
+                    }
+                    batch.add(entry);
+                    this.queue.drainTo(batch, this.batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // 停止时被中断，继续把剩余的审计记录写完
+            }
+            if (batch.size() >= this.batchSize || (!batch.isEmpty() && (!this.running || System.currentTimeMillis() >= deadline))) {
+                this.publish(batch);
+                batch = new ArrayList<>(this.batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.publish(batch);
+        }
+    }
+
+    private void publish(List<SysAuditLogEntry> batch) {
+        try {
+            this.publisherSaveSysAuditLogEvent.publisherEvent(new SysAuditLogSaveEvent(batch));
+        } catch (Exception e) {
+            log.error("投递审计日志失败，条数: {}", batch.size(), e);
+        }
+    }
+
+}
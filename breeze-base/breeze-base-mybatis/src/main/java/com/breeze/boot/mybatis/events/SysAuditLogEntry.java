@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.mybatis.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 审计日志缓冲项
+ * <p>
+ * 一次更新的字段差异以及更新提交的时间，时间在拦截器中记录，不受缓冲攒批延迟影响。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+@AllArgsConstructor
+public class SysAuditLogEntry implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 字段 -> 新旧值
+     */
+    private final Map<String, Map<String, Object>> diffData;
+
+    /**
+     * 更新提交的时间
+     */
+    private final LocalDateTime time;
+
+}
@@ -18,7 +18,7 @@ package com.breeze.boot.mybatis.events;
 
 import org.springframework.context.ApplicationEvent;
 
-import java.util.Map;
+import java.util.List;
 
 /**
  * 本地日志保存事件
@@ -31,10 +31,10 @@ public class SysAuditLogSaveEvent extends ApplicationEvent {
     /**
      * 系统审计日志保存事件
      *
-     * @param auditMap 系统审计日志BO
+     * @param auditList 一批审计差异，每一项为一次更新的字段差异以及更新时间
      */
-    public SysAuditLogSaveEvent(Map<String, Map<String, Object>> auditMap) {
-        super(auditMap);
+    public SysAuditLogSaveEvent(List<SysAuditLogEntry> auditList) {
+        super(auditList);
     }
 
 }
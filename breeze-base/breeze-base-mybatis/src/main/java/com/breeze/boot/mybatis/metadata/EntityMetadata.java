@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.mybatis.metadata;
+
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.ReflectionKit;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 实体元数据
+ * <p>
+ * 基于 MyBatis-Plus {@link TableInfoHelper} 的表信息，为主键以及所有表字段预先生成 {@link MethodHandle} 取值器，
+ * 审计、自动填充以及后续的差异比较、导出等逻辑共用，取值时不再反射遍历字段、也不再 setAccessible。
+ * 只缓存已经解析出表信息的实体，未解析的类下次仍会重新获取。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public final class EntityMetadata {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * 审计时不比较的字段
+     */
+    private static final Set<String> AUDIT_EXCLUDED_PROPERTIES = Set.of("createTime", "createBy", "createUserName", "updateBy", "updateTime", "updateUserName", "isDelete", "deleteBy", "version");
+
+    private static final Map<Class<?>, EntityMetadata> METADATA_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 实体类型
+     */
+    @Getter
+    private final Class<?> entityType;
+
+    /**
+     * 主键属性名，没有主键时为 null
+     */
+    @Getter
+    private final String keyProperty;
+
+    private final MethodHandle keyGetter;
+
+    /**
+     * 属性名 -> 取值器，包含主键以及所有表字段
+     */
+    private final Map<String, MethodHandle> getters;
+
+    /**
+     * 需要审计的属性名
+     */
+    private final String[] auditedProperties;
+
+    private final MethodHandle[] auditedGetters;
+
+    private EntityMetadata(TableInfo tableInfo) {
+        this.entityType = tableInfo.getEntityType();
+        Map<String, MethodHandle> getterMap = new LinkedHashMap<>();
+        this.keyProperty = tableInfo.getKeyProperty();
+        if (this.keyProperty != null) {
+            this.keyGetter = unreflectGetter(ReflectionKit.getFieldMap(this.entityType).get(this.keyProperty));
+            getterMap.put(this.keyProperty, this.keyGetter);
+        } else {
+            this.keyGetter = null;
+        }
+        List<String> auditedPropertyList = new ArrayList<>();
+        List<MethodHandle> auditedGetterList = new ArrayList<>();
+        for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+            MethodHandle getter = unreflectGetter(fieldInfo.getField());
+            getterMap.put(fieldInfo.getProperty(), getter);
+            if (!fieldInfo.isVersion() && !fieldInfo.isLogicDelete() && !AUDIT_EXCLUDED_PROPERTIES.contains(fieldInfo.getProperty())) {
+                auditedPropertyList.add(fieldInfo.getProperty());
+                auditedGetterList.add(getter);
+            }
+        }
+        this.getters = Collections.unmodifiableMap(getterMap);
+        this.auditedProperties = auditedPropertyList.toArray(new String[0]);
+        this.auditedGetters = auditedGetterList.toArray(new MethodHandle[0]);
+    }
+
+    /**
+     * 获取实体元数据
+     *
+     * @param entityType 实体类型
+     * @return {@link EntityMetadata} 不是 MyBatis-Plus 实体或者表信息尚未解析时返回 null
+     */
+    public static EntityMetadata of(Class<?> entityType) {
+        EntityMetadata metadata = METADATA_CACHE.get(entityType);
+        if (metadata != null) {
+            return metadata;
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityType);
+        if (tableInfo == null) {
+            return null;
+        }
+        return METADATA_CACHE.computeIfAbsent(entityType, key -> new EntityMetadata(tableInfo));
+    }
+
+    /**
+     * 获取主键值
+     *
+     * @param entity 实体
+     * @return 主键值，没有主键时返回 null
+     */
+    public Object getId(Object entity) {
+        return this.keyGetter == null ? null : invoke(this.keyGetter, entity);
+    }
+
+    /**
+     * 是否存在该属性
+     *
+     * @param property 属性名
+     * @return boolean
+     */
+    public boolean hasProperty(String property) {
+        return this.getters.containsKey(property);
+    }
+
+    /**
+     * 获取属性值
+     *
+     * @param entity   实体
+     * @param property 属性名
+     * @return 属性值
+     */
+    public Object getValue(Object entity, String property) {
+        MethodHandle getter = this.getters.get(property);
+        if (getter == null) {
+            throw new IllegalArgumentException(this.entityType.getName() + " 不存在属性 " + property);
+        }
+        return invoke(getter, entity);
+    }
+
+    /**
+     * 需要审计的属性个数
+     *
+     * @return int
+     */
+    public int getAuditedSize() {
+        return this.auditedProperties.length;
+    }
+
+    /**
+     * 第 index 个需要审计的属性名
+     *
+     * @param index 下标
+     * @return {@link String}
+     */
+    public String getAuditedProperty(int index) {
+        return this.auditedProperties[index];
+    }
+
+    /**
+     * 第 index 个需要审计的属性值
+     *
+     * @param index  下标
+     * @param entity 实体
+     * @return 属性值
+     */
+    public Object getAuditedValue(int index, Object entity) {
+        return invoke(this.auditedGetters[index], entity);
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        try {
+            ReflectionKit.setAccessible(field);
+            return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("无法访问字段 " + field.getDeclaringClass().getName() + "." + field.getName(), e);
+        }
+    }
+
+    private static Object invoke(MethodHandle getter, Object entity) {
+        try {
+            return (Object) getter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
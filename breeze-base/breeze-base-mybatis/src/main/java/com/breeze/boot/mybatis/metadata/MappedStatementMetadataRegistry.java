@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.mybatis.metadata;
+
+import com.baomidou.mybatisplus.core.toolkit.StringPool;
+import com.breeze.boot.mybatis.annotation.BreezeDataPermission;
+import com.breeze.boot.mybatis.annotation.DymicSql;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MappedStatement 元数据注册表
+ * <p>
+ * 启动时一次性扫描所有已注册的 Mapper 接口（包含 BreezeBaseMapper 子接口），
+ * 按 MappedStatement ID 建立 {@link BreezeDataPermission} / {@link DymicSql} 的索引，
+ * 拦截器查询时直接 O(1) 命中，不再每次 Class.forName 和遍历 getMethods。
+ * 启动完成前执行的查询以及之后才注册的 Mapper 未命中时只解析该语句并加入索引，不会把不完整的扫描结果当作最终结果。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Slf4j
+public class MappedStatementMetadataRegistry implements SmartInitializingSingleton {
+
+    private static final StatementMetadata EMPTY = new StatementMetadata(null, false);
+
+    private final ObjectProvider<SqlSessionFactory> sqlSessionFactoryProvider;
+
+    /**
+     * MappedStatement ID -> 元数据
+     */
+    private final Map<String, StatementMetadata> metadata = new ConcurrentHashMap<>();
+
+    public MappedStatementMetadataRegistry(ObjectProvider<SqlSessionFactory> sqlSessionFactoryProvider) {
+        this.sqlSessionFactoryProvider = sqlSessionFactoryProvider;
+    }
+
+    /**
+     * 所有单例初始化完成后构建注册表
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.sqlSessionFactoryProvider.ifAvailable(sqlSessionFactory -> this.init(sqlSessionFactory.getConfiguration()));
+    }
+
+    /**
+     * 获取数据权限注解
+     *
+     * @param ms 映射语句
+     * @return {@link BreezeDataPermission} 没有则返回 null
+     */
+    public BreezeDataPermission getDataPermission(MappedStatement ms) {
+        return this.getMetadata(ms).getDataPermission();
+    }
+
+    /**
+     * 是否存在动态sql注解
+     *
+     * @param ms 映射语句
+     * @return boolean
+     */
+    public boolean hasDymicSql(MappedStatement ms) {
+        return this.getMetadata(ms).isDymicSql();
+    }
+
+    private StatementMetadata getMetadata(MappedStatement ms) {
+        StatementMetadata statementMetadata = this.metadata.get(ms.getId());
+        if (statementMetadata == null) {
+            // 启动扫描之前的查询或者之后注册的 Mapper，单独解析该语句
+            statementMetadata = this.metadata.computeIfAbsent(ms.getId(), MappedStatementMetadataRegistry::resolve);
+        }
+        return statementMetadata;
+    }
+
+    private void init(Configuration configuration) {
+        Map<String, StatementMetadata> scanned = new HashMap<>();
+        for (Class<?> mapper : configuration.getMapperRegistry().getMappers()) {
+            for (Method method : mapper.getMethods()) {
+                String id = mapper.getName() + StringPool.DOT + method.getName();
+                scanned.put(id, merge(scanned.getOrDefault(id, EMPTY), method));
+            }
+        }
+        scanned.forEach(this.metadata::putIfAbsent);
+        long dataPermissionCount = scanned.values().stream().map(StatementMetadata::getDataPermission).filter(Objects::nonNull).count();
+        long dymicSqlCount = scanned.values().stream().filter(StatementMetadata::isDymicSql).count();
+        log.info("MappedStatement 元数据注册表初始化完成，数据权限语句 {} 个，动态sql语句 {} 个", dataPermissionCount, dymicSqlCount);
+    }
+
+    /**
+     * 解析单个语句，与启动扫描的规则一致：同名方法取第一个数据权限注解，任一方法存在动态sql注解即可
+     */
+    private static StatementMetadata resolve(String id) {
+        int index = id.lastIndexOf(StringPool.DOT);
+        if (index < 0) {
+            return EMPTY;
+        }
+        Class<?> mapper;
+        try {
+            mapper = Resources.classForName(id.substring(0, index));
+        } catch (ClassNotFoundException e) {
+            // 只存在于 XML 的命名空间没有对应的接口，也就不会有注解
+            return EMPTY;
+        }
+        String methodName = id.substring(index + 1);
+        StatementMetadata statementMetadata = EMPTY;
+        for (Method method : mapper.getMethods()) {
+            if (methodName.equals(method.getName())) {
+                statementMetadata = merge(statementMetadata, method);
+            }
+        }
+        return statementMetadata;
+    }
+
+    private static StatementMetadata merge(StatementMetadata statementMetadata, Method method) {
+        BreezeDataPermission dataPermission = statementMetadata.getDataPermission();
+        if (dataPermission == null) {
+            dataPermission = method.getAnnotation(BreezeDataPermission.class);
+        }
+        boolean dymicSql = statementMetadata.isDymicSql() || method.isAnnotationPresent(DymicSql.class);
+        if (dataPermission == null && !dymicSql) {
+            return EMPTY;
+        }
+        return new StatementMetadata(dataPermission, dymicSql);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class StatementMetadata {
+
+        private final BreezeDataPermission dataPermission;
+
+        private final boolean dymicSql;
+
+    }
+
+}
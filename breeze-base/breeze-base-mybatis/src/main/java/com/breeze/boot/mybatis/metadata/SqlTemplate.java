@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.mybatis.metadata;
+
+import lombok.Getter;
+import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.*;
+
+import java.util.*;
+
+/**
+ * 解析后的 SQL 模板
+ * <p>
+ * 同一条 Mapper SQL 只解析一次，缓存字段信息以及带占位标记的 SQL 骨架，
+ * 每次请求只需要把 WHERE / ORDER BY 片段替换进骨架，无需重新解析，也不会修改共享的语法树。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+public class SqlTemplate {
+
+    private static final String WHERE_MARKER = "__BREEZE_WHERE__";
+
+    private static final String ORDER_BY_MARKER = "__BREEZE_ORDER_BY__";
+
+    /**
+     * 原始 SQL
+     */
+    private final String originalSql;
+
+    /**
+     * 是否是简单查询（非 UNION 等集合查询）
+     */
+    private final boolean plainSelect;
+
+    /**
+     * 条件可用的字段，去除表前缀以及反引号
+     */
+    private final Map<String, String> conditionFields;
+
+    /**
+     * 查询项字段，存在别名时取别名
+     */
+    private final List<String> projectionFields;
+
+    /**
+     * 预先拼好的外层查询字段 temp.a, temp.b
+     */
+    private final String tempProjection;
+
+    /**
+     * 简单查询 FROM 以及 JOIN 中的表别名（无别名时为表名），小写
+     */
+    private final Set<String> tableAliases;
+
+    /**
+     * 追加 WHERE 条件的骨架
+     */
+    private final String whereSkeleton;
+
+    /**
+     * 追加 WHERE 条件以及 ORDER BY 的骨架
+     */
+    private final String whereOrderBySkeleton;
+
+    /**
+     * WHERE 占位标记之前的 ? 参数个数，追加条件的参数映射从该位置插入
+     */
+    private final int whereParameterIndex;
+
+    SqlTemplate(String originalSql, Select select) {
+        this.originalSql = originalSql;
+        this.plainSelect = select instanceof PlainSelect;
+        Map<String, String> conditionFieldMap = new HashMap<>();
+        List<String> projectionFieldList = new ArrayList<>();
+        for (PlainSelect plain : getPlainSelects(select)) {
+            for (SelectItem<?> selectItem : plain.getSelectItems()) {
+                String fieldName = selectItem.getExpression().toString();
+                if (fieldName.contains(".")) {
+                    fieldName = fieldName.substring(fieldName.lastIndexOf('.') + 1);
+                }
+                Alias alias = selectItem.getAlias();
+                projectionFieldList.add(alias != null ? alias.getName() : fieldName);
+                fieldName = fieldName.replace("`", "");
+                conditionFieldMap.put(fieldName, fieldName);
+            }
+        }
+        this.conditionFields = Collections.unmodifiableMap(conditionFieldMap);
+        this.projectionFields = Collections.unmodifiableList(projectionFieldList);
+        this.tempProjection = buildTempProjection(projectionFieldList);
+        if (this.plainSelect) {
+            this.tableAliases = Collections.unmodifiableSet(getTableAliases((PlainSelect) select));
+            this.whereSkeleton = buildSkeleton((PlainSelect) select, false);
+            this.whereOrderBySkeleton = buildSkeleton((PlainSelect) select, true);
+            this.whereParameterIndex = countParameters(this.whereSkeleton.substring(0, this.whereSkeleton.indexOf(WHERE_MARKER)));
+        } else {
+            this.tableAliases = Collections.emptySet();
+            this.whereSkeleton = null;
+            this.whereOrderBySkeleton = null;
+            this.whereParameterIndex = 0;
+        }
+    }
+
+    /**
+     * 简单查询中是否存在该表别名
+     *
+     * @param alias 表别名
+     * @return boolean
+     */
+    public boolean hasTableAlias(String alias) {
+        return this.tableAliases.contains(alias.toLowerCase());
+    }
+
+    /**
+     * 追加 WHERE 条件，与原有条件使用 AND 连接
+     *
+     * @param where 条件
+     * @return {@link String}
+     */
+    public String appendWhere(String where) {
+        return this.whereSkeleton.replace(WHERE_MARKER, where);
+    }
+
+    /**
+     * 追加 WHERE 条件以及排序
+     *
+     * @param where   条件
+     * @param orderBy 排序片段，如 a, b DESC
+     * @return {@link String}
+     */
+    public String appendWhereAndOrderBy(String where, String orderBy) {
+        return this.whereOrderBySkeleton.replace(WHERE_MARKER, where).replace(ORDER_BY_MARKER, orderBy);
+    }
+
+    private static List<PlainSelect> getPlainSelects(Select select) {
+        if (select instanceof PlainSelect) {
+            return Collections.singletonList((PlainSelect) select);
+        } else if (select instanceof SetOperationList) {
+            List<PlainSelect> plainSelects = new ArrayList<>();
+            for (Select subSelect : ((SetOperationList) select).getSelects()) {
+                if (subSelect instanceof PlainSelect) {
+                    plainSelects.add((PlainSelect) subSelect);
+                }
+            }
+            return plainSelects;
+        }
+        return Collections.emptyList();
+    }
+
+    private static Set<String> getTableAliases(PlainSelect plainSelect) {
+        Set<String> aliases = new HashSet<>();
+        addTableAlias(plainSelect.getFromItem(), aliases);
+        if (plainSelect.getJoins() != null) {
+            for (Join join : plainSelect.getJoins()) {
+                addTableAlias(join.getFromItem(), aliases);
+            }
+        }
+        return aliases;
+    }
+
+    private static void addTableAlias(FromItem fromItem, Set<String> aliases) {
+        if (fromItem == null) {
+            return;
+        }
+        if (fromItem.getAlias() != null) {
+            aliases.add(fromItem.getAlias().getName().toLowerCase());
+        } else if (fromItem instanceof Table) {
+            aliases.add(((Table) fromItem).getName().toLowerCase());
+        }
+    }
+
+    private static String buildTempProjection(List<String> fieldNames) {
+        String prefix = "temp.";
+        StringBuilder sql = new StringBuilder(" ");
+        for (int i = 0; i < fieldNames.size(); i++) {
+            sql.append(prefix).append(fieldNames.get(i));
+            if (i < fieldNames.size() - 1) {
+                sql.append(", ");
+            }
+        }
+        return sql.toString();
+    }
+
+    /**
+     * 统计 SQL 片段中引号之外的 ? 参数个数
+     */
+    private static int countParameters(String sql) {
+        int count = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 原有条件顶层是 OR 时加括号，避免追加的 AND 条件改变优先级
+     */
+    private static Expression wrapOr(Expression where) {
+        if (where instanceof OrExpression || where instanceof XorExpression) {
+            return new Parenthesis(where);
+        }
+        return where;
+    }
+
+    /**
+     * 在语法树上临时放入占位标记渲染骨架，渲染后还原，仅在构建模板时调用
+     */
+    private static String buildSkeleton(PlainSelect plainSelect, boolean withOrderBy) {
+        Expression originalWhere = plainSelect.getWhere();
+        List<OrderByElement> originalOrderBy = plainSelect.getOrderByElements();
+        try {
+            Column whereMarker = new Column(WHERE_MARKER);
+            plainSelect.setWhere(originalWhere == null ? whereMarker : new AndExpression(wrapOr(originalWhere), whereMarker));
+            if (withOrderBy) {
+                List<OrderByElement> orderBy = originalOrderBy == null ? new ArrayList<>() : new ArrayList<>(originalOrderBy);
+                OrderByElement orderByMarker = new OrderByElement();
+                orderByMarker.setExpression(new Column(ORDER_BY_MARKER));
+                orderBy.add(orderByMarker);
+                plainSelect.setOrderByElements(orderBy);
+            }
+            return plainSelect.toString();
+        } finally {
+            plainSelect.setWhere(originalWhere);
+            plainSelect.setOrderByElements(originalOrderBy);
+        }
+    }
+
+}
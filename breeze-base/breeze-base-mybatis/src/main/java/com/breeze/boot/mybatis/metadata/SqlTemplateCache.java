@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.mybatis.metadata;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.Select;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * SQL 模板缓存
+ * <p>
+ * 以原始 BoundSql 文本为 key 的有界 LRU 缓存，避免同一条 Mapper SQL 每次查询都调用 CCJSqlParserUtil.parse。
+ * 解析失败或者非查询语句同样缓存为空，避免反复解析。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Slf4j
+public class SqlTemplateCache {
+
+    private final long maxSize;
+
+    private final Cache<String, Optional<SqlTemplate>> cache;
+
+    public SqlTemplateCache(long maxSize) {
+        this.maxSize = maxSize;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 获取 SQL 模板
+     *
+     * @param sql 原始 SQL
+     * @return {@link SqlTemplate} 解析失败返回 null
+     */
+    public SqlTemplate get(String sql) {
+        try {
+            return this.cache.get(sql, () -> Optional.ofNullable(parse(sql))).orElse(null);
+        } catch (ExecutionException e) {
+            log.error("获取 SQL 模板出错: {}", sql, e);
+            return null;
+        }
+    }
+
+    private static SqlTemplate parse(String sql) {
+        try {
+            Statement statement = CCJSqlParserUtil.parse(sql);
+            if (statement instanceof Select) {
+                return new SqlTemplate(sql, (Select) statement);
+            }
+            return null;
+        } catch (JSQLParserException e) {
+            log.error("解析 SQL 语句出错: {}", sql, e);
+            return null;
+        }
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return long
+     */
+    public long getHitCount() {
+        return this.cache.stats().hitCount();
+    }
+
+    /**
+     * 未命中次数
+     *
+     * @return long
+     */
+    public long getMissCount() {
+        return this.cache.stats().missCount();
+    }
+
+    /**
+     * 当前缓存数量
+     *
+     * @return long
+     */
+    public long getSize() {
+        return this.cache.size();
+    }
+
+    /**
+     * 最大缓存数量
+     *
+     * @return long
+     */
+    public long getMaxSize() {
+        return this.maxSize;
+    }
+
+}
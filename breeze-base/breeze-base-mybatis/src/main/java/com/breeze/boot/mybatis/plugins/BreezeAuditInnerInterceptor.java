@@ -16,26 +16,27 @@
 
 package com.breeze.boot.mybatis.plugins;
 
-import cn.hutool.extra.spring.SpringUtil;
-import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.core.toolkit.Constants;
 import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
-import com.breeze.boot.core.utils.MapperUtils;
 import com.breeze.boot.mybatis.annotation.Audit;
-import com.breeze.boot.mybatis.events.PublisherSaveSysAuditLogEvent;
-import com.breeze.boot.mybatis.events.SysAuditLogSaveEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.breeze.boot.mybatis.events.SysAuditLogBuffer;
+import com.breeze.boot.mybatis.events.SysAuditLogEntry;
+import com.breeze.boot.mybatis.metadata.EntityMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.CachingExecutor;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.SqlCommandType;
-import org.apache.ibatis.session.SqlSession;
-import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -43,6 +44,12 @@ import java.util.Objects;
 /**
  * 数据审计拦截器
  * 用于拦截 MyBatis 的更新操作，对带有 @Audit 注解的实体进行数据审计，记录数据修改前后的差异。
+ * <p>
+ * 修改前的数据通过 Spring 管理的 {@link SqlSessionTemplate} 查询，经过完整的插件链（租户等条件同样生效），
+ * 存在事务时与更新处于同一连接、同一事务；差异按 {@link EntityMetadata} 逐字段比较，
+ * 事务提交后放入 {@link SysAuditLogBuffer} 攒批写入。
+ * BATCH 执行器（如 updateBatchById）下不逐行查询修改前的数据，避免每行一次查询破坏批量写入，这类更新不记录审计。
+ * </p>
  *
  * @author gaoweixuan
  * @since 2025-02-15
@@ -51,7 +58,12 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class BreezeAuditInnerInterceptor implements InnerInterceptor {
 
-    private final PublisherSaveSysAuditLogEvent publisherSaveSysAuditLogEvent;
+    private final SysAuditLogBuffer sysAuditLogBuffer;
+
+    /**
+     * 延迟获取，SqlSessionTemplate 依赖本拦截器所在的 SqlSessionFactory
+     */
+    private final ObjectProvider<SqlSessionTemplate> sqlSessionTemplateProvider;
 
     /**
      * 拦截更新操作，进行数据审计
@@ -68,23 +80,44 @@ public class BreezeAuditInnerInterceptor implements InnerInterceptor {
             return InnerInterceptor.super.willDoUpdate(executor, ms, parameter);
         }
 
+        if (isBatchExecutor(executor)) {
+            return InnerInterceptor.super.willDoUpdate(executor, ms, parameter);
+        }
+
         Object entity = extractEntity(parameter);
         if (entity == null || !entity.getClass().isAnnotationPresent(Audit.class)) {
             return InnerInterceptor.super.willDoUpdate(executor, ms, parameter);
         }
 
-        Object primaryKeyValue = getPrimaryKeyValue(entity);
+        EntityMetadata metadata = EntityMetadata.of(entity.getClass());
+        Object primaryKeyValue = metadata == null ? null : metadata.getId(entity);
         if (primaryKeyValue == null) {
+            log.warn("No primary key value found for audited entity: {}", entity.getClass().getName());
             return InnerInterceptor.super.willDoUpdate(executor, ms, parameter);
         }
 
-        String oldData = getOldData(ms.getId(), primaryKeyValue);
-        boolean result = InnerInterceptor.super.willDoUpdate(executor, ms, parameter);
-        String newData = this.obj2JsonData(entity);
-        Map<String, Map<String, Object>> diffDataMap = DataComparator.compareData(oldData, newData);
-        publisherSaveSysAuditLogEvent.publisherEvent(new SysAuditLogSaveEvent(diffDataMap));
+        Object oldEntity = this.getOldEntity(ms, primaryKeyValue);
+        if (oldEntity != null) {
+            Map<String, Map<String, Object>> diffDataMap = DataComparator.compareData(metadata, oldEntity, entity);
+            if (!diffDataMap.isEmpty()) {
+                this.submit(diffDataMap);
+            }
+        }
+        return InnerInterceptor.super.willDoUpdate(executor, ms, parameter);
+    }
 
-        return result;
+    /**
+     * 是否为 BATCH 执行器，开启二级缓存配置时执行器外层包装了 CachingExecutor
+     *
+     * @param executor 执行器
+     * @return boolean
+     */
+    private static boolean isBatchExecutor(Executor executor) {
+        Executor target = executor;
+        while (target instanceof CachingExecutor) {
+            target = (Executor) SystemMetaObject.forObject(target).getValue("delegate");
+        }
+        return target instanceof BatchExecutor;
     }
 
     /**
@@ -104,21 +137,22 @@ public class BreezeAuditInnerInterceptor implements InnerInterceptor {
     }
 
     /**
-     * 获取修改前的数据
+     * 获取修改前的数据，经过插件链查询，存在事务时与更新共用连接以及事务
      *
-     * @param id              MappedStatement 的 ID
+     * @param ms              MappedStatement 对象
      * @param primaryKeyValue 主键值
-     * @return 修改前的数据的 JSON 字符串
+     * @return 修改前的实体，查询不到返回 null
      */
-    private String getOldData(String id, Object primaryKeyValue) {
-        SqlSessionFactory sqlSessionFactory = SpringUtil.getBean(SqlSessionFactory.class);
-        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
-            String selectStatement = this.buildSelectByIdStatement(id);
-            Object oldEntity = sqlSession.selectOne(selectStatement, primaryKeyValue);
-            return oldEntity != null ? this.obj2JsonData(oldEntity) : "";
+    private Object getOldEntity(MappedStatement ms, Object primaryKeyValue) {
+        String selectStatement = this.buildSelectByIdStatement(ms.getId());
+        if (!ms.getConfiguration().hasStatement(selectStatement, false)) {
+            return null;
+        }
+        try {
+            return this.sqlSessionTemplateProvider.getObject().selectOne(selectStatement, primaryKeyValue);
         } catch (Exception e) {
-            log.error("Error occurred while retrieving old data for statement: {}, primary key: {}", id, primaryKeyValue, e);
-            return "";
+            log.error("Error occurred while retrieving old data for statement: {}, primary key: {}", ms.getId(), primaryKeyValue, e);
+            return null;
         }
     }
 
@@ -133,181 +167,66 @@ public class BreezeAuditInnerInterceptor implements InnerInterceptor {
     }
 
     /**
-     * 获取实体的主键值
+     * 存在事务时提交后再放入缓冲区，回滚的更新不记录审计；审计时间取提交时间，不取缓冲区写入时间
      *
-     * @param entity 实体对象
-     * @return 主键值
+     * @param diffDataMap 差异数据
      */
-    public static Object getPrimaryKeyValue(Object entity) {
-        Class<?> clazz = entity.getClass();
-        Object primaryKeyValue = findPrimaryKeyValueInClassHierarchy(clazz, entity);
-        if (primaryKeyValue == null) {
-            log.warn("No primary key field with @TableId annotation found for entity: {}", clazz.getName());
-        }
-        return primaryKeyValue;
-    }
-
-    /**
-     * 在类层次结构中查找主键值
-     *
-     * @param clazz  类对象
-     * @param entity 实体对象
-     * @return 主键值
-     */
-    private static Object findPrimaryKeyValueInClassHierarchy(Class<?> clazz, Object entity) {
-        while (clazz != null && clazz != Object.class) {
-            Object value = findTableIdValue(clazz, entity);
-            if (value != null) {
-                return value;
-            }
-            clazz = clazz.getSuperclass();
-        }
-        return null;
-    }
-
-    /**
-     * 在指定类中查找带有 @TableId 注解的字段的值
-     *
-     * @param clazz  类对象
-     * @param entity 实体对象
-     * @return 字段的值
-     */
-    private static Object findTableIdValue(Class<?> clazz, Object entity) {
-        Field[] fields = clazz.getDeclaredFields();
-        for (Field field : fields) {
-            if (field.isAnnotationPresent(TableId.class)) {
-                try {
-                    field.setAccessible(true);
-                    return field.get(entity);
-                } catch (IllegalAccessException e) {
-                    log.error("Error accessing field with @TableId annotation in class: {}", clazz.getName(), e);
+    private void submit(Map<String, Map<String, Object>> diffDataMap) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sysAuditLogBuffer.offer(new SysAuditLogEntry(diffDataMap, LocalDateTime.now()));
                 }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 将对象转换为 JSON 字符串
-     *
-     * @param entity 实体对象
-     * @return JSON 字符串
-     */
-    private String obj2JsonData(Object entity) {
-        try {
-            return MapperUtils.getMapper().writeValueAsString(entity);
-        } catch (JsonProcessingException e) {
-            log.error("Error converting object to JSON: {}", entity.getClass().getName(), e);
-            return "";
+            });
+        } else {
+            this.sysAuditLogBuffer.offer(new SysAuditLogEntry(diffDataMap, LocalDateTime.now()));
         }
     }
 
-    @Slf4j
     static class DataComparator {
 
-        private static final String[] EXCLUDED_FIELDS = {"createTime", "createBy", "createUserName", "updateBy", "updateTime", "updateUserName", "isDelete", "deleteBy", "version"};
-
         /**
-         * 比较两个 JSON 字符串表示的数据差异
+         * 按实体元数据逐字段比较新旧实体的差异
+         * <p>
+         * 更新策略为 not_empty，新实体中为空的字段不会被更新，不记录差异。
+         * </p>
          *
-         * @param oldData 旧数据的 JSON 字符串
-         * @param newData 新数据的 JSON 字符串
+         * @param metadata  实体元数据
+         * @param oldEntity 旧实体
+         * @param newEntity 新实体
          * @return 数据差异的 Map
          */
-        public static Map<String, Map<String, Object>> compareData(String oldData, String newData) {
-            try {
-                ObjectMapper mapper = MapperUtils.getMapper();
-                @SuppressWarnings("unchecked") Map<String, Object> oldMap = mapper.readValue(oldData, HashMap.class);
-                @SuppressWarnings("unchecked") Map<String, Object> newMap = mapper.readValue(newData, HashMap.class);
-                return compareMaps(oldMap, newMap);
-            } catch (JsonProcessingException e) {
-                log.error("Error comparing JSON data: oldData={}, newData={}", oldData, newData, e);
-                return new HashMap<>();
-            }
-        }
-
-        /**
-         * 比较两个 Map 对象的差异，以新值的键为准
-         *
-         * @param oldMap 旧数据的 Map
-         * @param newMap 新数据的 Map
-         * @return 差异数据的 Map
-         */
-        private static Map<String, Map<String, Object>> compareMaps(Map<String, Object> oldMap, Map<String, Object> newMap) {
+        public static Map<String, Map<String, Object>> compareData(EntityMetadata metadata, Object oldEntity, Object newEntity) {
             Map<String, Map<String, Object>> diffMap = new HashMap<>();
-            for (Map.Entry<String, Object> newEntry : newMap.entrySet()) {
-                String key = newEntry.getKey();
-                if (isExcludedField(key)) {
-                    continue;
-                }
-                Object newValue = newEntry.getValue();
-                Object oldValue = oldMap.get(key);
-                if (hasDifference(oldValue, newValue)) {
-                    if (oldValue instanceof Map && newValue instanceof Map) {
-                        Map<String, Map<String, Object>> nestedDiff = compareMaps((Map<String, Object>) oldValue, (Map<String, Object>) newValue);
-                        if (!nestedDiff.isEmpty()) {
-                            diffMap.put(key, createDiffEntry(oldValue, newValue, nestedDiff));
-                        }
-                    } else {
-                        diffMap.put(key, createDiffEntry(oldValue, newValue, null));
-                    }
-                }
+            if (oldEntity.getClass() != newEntity.getClass()) {
+                return diffMap;
             }
-            // 检查旧 Map 中是否有新 Map 中不存在的键
-            for (Map.Entry<String, Object> entry : oldMap.entrySet()) {
-                String key = entry.getKey();
-                if (isExcludedField(key)) {
+            for (int i = 0; i < metadata.getAuditedSize(); i++) {
+                Object newValue = metadata.getAuditedValue(i, newEntity);
+                if (newValue == null || (newValue instanceof CharSequence && ((CharSequence) newValue).length() == 0)) {
                     continue;
                 }
-                if (!newMap.containsKey(key)) {
-                    diffMap.put(key, createDiffEntry(entry.getValue(), null, null));
+                Object oldValue = metadata.getAuditedValue(i, oldEntity);
+                if (!Objects.equals(oldValue, newValue)) {
+                    diffMap.put(metadata.getAuditedProperty(i), createDiffEntry(oldValue, newValue));
                 }
             }
             return diffMap;
         }
 
         /**
-         * 判断是否为需要排除的字段
-         *
-         * @param key 字段名
-         * @return 是否需要排除
-         */
-        private static boolean isExcludedField(String key) {
-            for (String excludedField : EXCLUDED_FIELDS) {
-                if (excludedField.equals(key)) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-        /**
-         * 判断两个值是否有差异
+         * 创建差异项的 Map
          *
          * @param oldValue 旧值
          * @param newValue 新值
-         * @return 是否有差异
-         */
-        private static boolean hasDifference(Object oldValue, Object newValue) {
-            return (Objects.isNull(oldValue) && Objects.nonNull(newValue)) || (Objects.nonNull(oldValue) && !oldValue.equals(newValue));
-        }
-
-        /**
-         * 创建差异项的 Map
-         *
-         * @param oldValue   旧值
-         * @param newValue   新值
-         * @param nestedDiff 嵌套的差异数据
          * @return 差异项的 Map
          */
-        private static Map<String, Object> createDiffEntry(Object oldValue, Object newValue, Map<String, Map<String, Object>> nestedDiff) {
+        private static Map<String, Object> createDiffEntry(Object oldValue, Object newValue) {
             Map<String, Object> entry = new HashMap<>();
             entry.put("old", oldValue);
             entry.put("new", newValue);
-            if (nestedDiff != null) {
-                entry.put("diff", nestedDiff);
-            }
             return entry;
         }
     }
-}
\ No newline at end of file
+}
@@ -26,16 +26,15 @@ import com.breeze.boot.core.model.CustomizePermission;
 import com.breeze.boot.core.model.UserPrincipal;
 import com.breeze.boot.core.enums.DataPermissionType;
 import com.breeze.boot.core.enums.DataRole;
+import com.breeze.boot.core.enums.ResultCode;
+import com.breeze.boot.core.utils.AssertUtil;
 import com.breeze.boot.mybatis.annotation.BreezeDataPermission;
+import com.breeze.boot.mybatis.metadata.MappedStatementMetadataRegistry;
+import com.breeze.boot.mybatis.metadata.SqlTemplate;
+import com.breeze.boot.mybatis.metadata.SqlTemplateCache;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.jsqlparser.JSQLParserException;
-import net.sf.jsqlparser.expression.Alias;
-import net.sf.jsqlparser.parser.CCJSqlParserUtil;
-import net.sf.jsqlparser.statement.select.PlainSelect;
-import net.sf.jsqlparser.statement.select.Select;
-import net.sf.jsqlparser.statement.select.SelectItem;
-import net.sf.jsqlparser.statement.select.SetOperationList;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
@@ -44,11 +43,9 @@ import org.apache.ibatis.session.RowBounds;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.StringJoiner;
 
 import static com.breeze.boot.core.constants.CacheConstants.ROW_PERMISSION;
 import static com.breeze.boot.core.constants.CoreConstants.USER_TYPE;
@@ -61,8 +58,13 @@ import static com.breeze.boot.core.enums.DataRole.getDataRoleByType;
  * @since 2022-10-28
  */
 @Slf4j
+@RequiredArgsConstructor
 public class BreezeDataPermissionInterceptor implements InnerInterceptor {
 
+    private final MappedStatementMetadataRegistry mappedStatementMetadataRegistry;
+
+    private final SqlTemplateCache sqlTemplateCache;
+
     /**
      * 查询之前去拼装权限的sql
      *
@@ -85,113 +87,66 @@ public class BreezeDataPermissionInterceptor implements InnerInterceptor {
         String originalSql = boundSql.getSql();
 
         // 采用判断方法注解方式进行数据权限
-        Class<?> clazz = Class.forName(ms.getId().substring(0, ms.getId().lastIndexOf(StringPool.DOT)));
-        // 获取方法名
-        String methodName = ms.getId().substring(ms.getId().lastIndexOf(StringPool.DOT) + 1);
-        Method[] methods = clazz.getMethods();
-        // 遍历类的方法
-        for (Method method : methods) {
-            BreezeDataPermission annotation = method.getAnnotation(BreezeDataPermission.class);
-            // 判断是否存在注解且方法名一致
-            if (Objects.isNull(annotation) || !methodName.equals(method.getName())) {
-                continue;
-            }
+        BreezeDataPermission annotation = this.mappedStatementMetadataRegistry.getDataPermission(ms);
+        if (Objects.nonNull(annotation)) {
             UserPrincipal userPrincipal = (UserPrincipal) StpUtil.getSession().get(USER_TYPE);
             originalSql = this.getSql(userPrincipal, annotation, originalSql);
         }
         mpBs.sql(originalSql);
     }
 
-    @SneakyThrows
     private String getSql(UserPrincipal userPrincipal, BreezeDataPermission dataPer, String originalSql) {
-        List<String> fieldNames = SqlFieldExtractor.getFieldNames(originalSql);
-        String prefix = "temp.";
-        StringBuilder sql = new StringBuilder(" ");
-        for (int i = 0; i < fieldNames.size(); i++) {
-            sql.append(prefix).append(fieldNames.get(i));
-            if (i < fieldNames.size() - 1) {
-                sql.append(", ");
-            }
-        }
         // 获取当前用户的数据权限
         String permissionType = userPrincipal.getPermissionType();
         if (StrUtil.equals(DataPermissionType.ALL.getType(), permissionType)) {
             // 所有
             return originalSql;
-        } else if (StrUtil.equals(DataPermissionType.DEPT_LEVEL.getType(), permissionType)) {
+        }
+        SqlTemplate sqlTemplate = this.sqlTemplateCache.get(originalSql);
+        // 无法解析的 SQL 不能跳过数据权限
+        AssertUtil.isNotNull(sqlTemplate, ResultCode.SQL_PARSE_EXCEPTION);
+        // 配置了表别名且是简单查询时，条件直接下推到该表的 WHERE 中，否则使用子查询包装
+        boolean pushdown = StrUtil.isNotBlank(dataPer.alias()) && sqlTemplate.hasTableAlias(dataPer.alias());
+        String prefix = pushdown ? dataPer.alias() + StringPool.DOT : "temp.";
+        String predicate;
+        if (StrUtil.equals(DataPermissionType.DEPT_LEVEL.getType(), permissionType)) {
             // 所在部门范围权限
-            originalSql = String.format("SELECT %s FROM (%s) temp WHERE temp.%s = %s", sql, originalSql, dataPer.dept().getColumn(), userPrincipal.getDeptId());
+            predicate = String.format("%s%s = %s", prefix, dataPer.dept().getColumn(), userPrincipal.getDeptId());
         } else if (StrUtil.equals(DataPermissionType.SUB_DEPT_LEVEL.getType(), permissionType)) {
             // 本级部门以及子部门
-            originalSql = String.format("SELECT %s FROM (%s) temp WHERE temp.%s IN (%s)", sql, originalSql, dataPer.dept().getColumn(), StrUtil.join(",", userPrincipal.getSubDeptId().toArray()));
+            predicate = String.format("%s%s IN (%s)", prefix, dataPer.dept().getColumn(), StrUtil.join(",", userPrincipal.getSubDeptId().toArray()));
         } else if (StrUtil.equals(DataPermissionType.OWN.getType(), permissionType)) {
             // 个人范围权限
-            originalSql = String.format("SELECT %s FROM (%s) temp WHERE temp.%s = '%s'", sql, originalSql, dataPer.own().getColumn(), userPrincipal.getId());
+            predicate = String.format("%s%s = '%s'", prefix, dataPer.own().getColumn(), userPrincipal.getId());
         } else if (StrUtil.equals(DataPermissionType.CUSTOMIZES.getType(), permissionType)) {
             // 自定义权限
-            originalSql = getSqlString(userPrincipal, originalSql, sql.toString());
+            predicate = getCustomizePredicate(userPrincipal, prefix);
+        } else {
+            return originalSql;
+        }
+        if (StrUtil.isBlank(predicate)) {
+            return originalSql;
+        }
+        if (pushdown) {
+            return sqlTemplate.appendWhere("(" + predicate + ")");
         }
-        return originalSql;
+        return String.format("SELECT %s FROM (%s) temp WHERE %s", sqlTemplate.getTempProjection(), originalSql, predicate);
     }
 
-    private static String getSqlString(UserPrincipal userPrincipal, String originalSql, String column) {
+    private static String getCustomizePredicate(UserPrincipal userPrincipal, String prefix) {
         CacheManager cacheManager = SpringUtil.getBean(CacheManager.class);
         Cache cache = cacheManager.getCache(ROW_PERMISSION);
         Set<String> rowPermissionCodeSet = userPrincipal.getRowPermissionCode();
 
-        StringBuilder originalSqlBuilder = new StringBuilder();
-        originalSqlBuilder.append(String.format("SELECT %s FROM (%s) temp WHERE 1 = 1 ", column, originalSql));
+        StringJoiner predicate = new StringJoiner(" AND ");
         for (String rowPermissionCode : rowPermissionCodeSet) {
             CustomizePermission sysCustomizePermission = cache.get(rowPermissionCode, CustomizePermission.class);
             DataRole dataRole = getDataRoleByType(sysCustomizePermission.getCustomizesType());
             if (dataRole != null) {
                 String permissions = sysCustomizePermission.getPermissions();
-                originalSqlBuilder.append(String.format("AND temp.%s IN (%s) ", dataRole.getColumn(), permissions));
-            }
-        }
-        originalSql = originalSqlBuilder.toString();
-        return originalSql;
-    }
-
-    private static class SqlFieldExtractor {
-
-        public static List<String> getFieldNames(String sql) throws JSQLParserException {
-            List<String> fieldNames = new ArrayList<>();
-            // 解析 SQL 语句为 Select 对象
-            Select select = (Select) CCJSqlParserUtil.parse(sql);
-            // 直接根据 Select 对象的实际类型处理
-            if (select instanceof PlainSelect) {
-                handlePlainSelect((PlainSelect) select, fieldNames);
-            } else if (select instanceof SetOperationList) {
-                handleSetOperationList((SetOperationList) select, fieldNames);
-            }
-            return fieldNames;
-        }
-
-        private static void handlePlainSelect(PlainSelect plainSelect, List<String> fieldNames) {
-            // 获取 SELECT 子句中的所有项
-            List<SelectItem<?>> selectItems = plainSelect.getSelectItems();
-            for (SelectItem<?> selectItem : selectItems) {
-                Alias alias = selectItem.getAlias();
-                if (alias != null) {
-                    fieldNames.add(alias.getName());
-                } else {
-                    String fieldName = selectItem.getExpression().toString();
-                    if (fieldName.contains(".")) {
-                        fieldName = fieldName.substring(fieldName.lastIndexOf('.') + 1);
-                    }
-                    fieldNames.add(fieldName);
-                }
-            }
-        }
-
-        private static void handleSetOperationList(SetOperationList setOperationList, List<String> fieldNames) {
-            List<Select> selectBodies = setOperationList.getSelects();
-            for (Select subSelectBody : selectBodies) {
-                if (subSelectBody instanceof PlainSelect) {
-                    handlePlainSelect((PlainSelect) subSelectBody, fieldNames);
-                }
+                predicate.add(String.format("%s%s IN (%s)", prefix, dataRole.getColumn(), permissions));
             }
         }
+        return predicate.toString();
     }
 }
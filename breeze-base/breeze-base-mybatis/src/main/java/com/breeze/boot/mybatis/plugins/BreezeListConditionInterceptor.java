@@ -18,31 +18,33 @@ package com.breeze.boot.mybatis.plugins;
 
 import cn.hutool.core.collection.CollUtil;
 import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
-import com.baomidou.mybatisplus.core.toolkit.StringPool;
 import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
 import com.breeze.boot.core.model.Condition;
-import com.breeze.boot.core.enums.ResultCode;
-import com.breeze.boot.core.exception.BreezeBizException;
 import com.breeze.boot.core.utils.QueryHolder;
-import com.breeze.boot.mybatis.annotation.DymicSql;
+import com.breeze.boot.mybatis.metadata.MappedStatementMetadataRegistry;
+import com.breeze.boot.mybatis.metadata.SqlTemplate;
+import com.breeze.boot.mybatis.metadata.SqlTemplateCache;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.JdbcParameter;
 import net.sf.jsqlparser.expression.NotExpression;
 import net.sf.jsqlparser.expression.Parenthesis;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 import net.sf.jsqlparser.expression.operators.relational.*;
-import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.schema.Column;
-import net.sf.jsqlparser.statement.select.*;
+import net.sf.jsqlparser.statement.select.OrderByElement;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 列表条件组装拦截器
@@ -51,8 +53,18 @@ import java.util.*;
  * @since 2025-02-01
  */
 @Slf4j
+@RequiredArgsConstructor
 public class BreezeListConditionInterceptor implements InnerInterceptor {
 
+    /**
+     * 条件参数名前缀
+     */
+    private static final String CONDITION_PARAM_PREFIX = "breeze_condition_";
+
+    private final MappedStatementMetadataRegistry mappedStatementMetadataRegistry;
+
+    private final SqlTemplateCache sqlTemplateCache;
+
     @Override
     public void beforeQuery(Executor executor, MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler resultHandler, BoundSql boundSql) {
         try {
@@ -65,83 +77,77 @@ public class BreezeListConditionInterceptor implements InnerInterceptor {
                 return;
             }
 
-            Select select = this.parseSql(originalSql);
-            if (select == null) {
+            String id = ms.getId();
+            if (!id.endsWith("selectList") && !this.mappedStatementMetadataRegistry.hasDymicSql(ms)) {
                 mpBs.sql(originalSql);
                 return;
             }
 
-            Map<String, String> fieldNamesMap = SqlFieldExtractor.getFieldNames(select);
-            if (CollUtil.isEmpty(fieldNamesMap)) {
+            SqlTemplate sqlTemplate = this.sqlTemplateCache.get(originalSql);
+            if (sqlTemplate == null || !sqlTemplate.isPlainSelect() || CollUtil.isEmpty(sqlTemplate.getConditionFields())) {
                 mpBs.sql(originalSql);
                 return;
             }
 
-            String id = ms.getId();
-            PlainSelect plainSelect = select.getPlainSelect();
-
-            if (id.endsWith("selectList") || this.hasDymicSqlAnnotation(id)) {
-                this.buildSql(fieldNamesMap, originalSql, plainSelect, queryMap, mpBs);
-            } else {
-                mpBs.sql(originalSql);
-            }
+            this.buildSql(ms.getConfiguration(), sqlTemplate, queryMap, boundSql, mpBs);
         } catch (Exception e) {
             log.error("查询前组装 SQL 出错", e);
         }
     }
 
-    private Select parseSql(String originalSql) {
-        try {
-            return (Select) CCJSqlParserUtil.parse(originalSql);
-        } catch (JSQLParserException e) {
-            log.error("解析 SQL 语句出错: {}", originalSql, e);
-            return null;
-        }
-    }
-
-    private boolean hasDymicSqlAnnotation(String id) throws ClassNotFoundException {
-        Class<?> clazz = Class.forName(id.substring(0, id.lastIndexOf(StringPool.DOT)));
-        String methodName = id.substring(id.lastIndexOf(StringPool.DOT) + 1);
-        return Arrays.stream(clazz.getMethods())
-                .anyMatch(method -> {
-                    DymicSql annotation = method.getAnnotation(DymicSql.class);
-                    return annotation != null && methodName.equals(method.getName());
-                });
-    }
-
-    private void buildSql(Map<String, String> fieldNamesMap, String originalSql, PlainSelect plainSelect, LinkedHashMap<String, Object> queryMap, PluginUtils.MPBoundSql mpBs) {
+    private void buildSql(Configuration configuration, SqlTemplate sqlTemplate, LinkedHashMap<String, Object> queryMap, BoundSql boundSql, PluginUtils.MPBoundSql mpBs) {
         Condition conditions = (Condition) queryMap.get("conditions");
         if (Objects.isNull(conditions.getConditions()) && Objects.isNull(conditions.getField())) {
-            mpBs.sql(originalSql);
+            mpBs.sql(sqlTemplate.getOriginalSql());
             return;
         }
 
-        Expression combinedExpression = buildExpression(fieldNamesMap, conditions);
-        mergeWhereConditionWithAnd(plainSelect, combinedExpression);
-        log.info("组装的 where 条件 {}", combinedExpression);
+        // 条件值全部使用 ? 占位绑定，SQL 形状只取决于条件树结构
+        List<String> values = new ArrayList<>();
+        Expression combinedExpression = buildExpression(sqlTemplate.getConditionFields(), conditions, values);
+        log.info("组装的 where 条件 {}, 参数 {}", combinedExpression, values);
 
         Object sortObj = queryMap.get("sort");
-        if (sortObj instanceof LinkedHashMap<?, ?>) {
-            LinkedHashMap<String, Object> sortMap = (LinkedHashMap<String, Object>) sortObj;
-            addOrderByElements(plainSelect, sortMap);
+        if (sortObj instanceof LinkedHashMap<?, ?> sortMap && !sortMap.isEmpty()) {
+            mpBs.sql(sqlTemplate.appendWhereAndOrderBy(combinedExpression.toString(), this.buildOrderBy((LinkedHashMap<String, Object>) sortMap)));
+        } else {
+            mpBs.sql(sqlTemplate.appendWhere(combinedExpression.toString()));
         }
+        this.bindParameters(configuration, sqlTemplate.getWhereParameterIndex(), values, boundSql, mpBs);
+    }
 
-        mpBs.sql(plainSelect.toString());
+    /**
+     * 将条件值作为附加参数绑定到 BoundSql，参数映射插入到 WHERE 条件末尾对应的位置
+     */
+    private void bindParameters(Configuration configuration, int index, List<String> values, BoundSql boundSql, PluginUtils.MPBoundSql mpBs) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<ParameterMapping> conditionMappings = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            String property = CONDITION_PARAM_PREFIX + i;
+            boundSql.setAdditionalParameter(property, values.get(i));
+            conditionMappings.add(new ParameterMapping.Builder(configuration, property, String.class).build());
+        }
+        // 原有参数映射可能是 MappedStatement 共享的列表，不能直接修改
+        List<ParameterMapping> mappings = new ArrayList<>(mpBs.parameterMappings());
+        mappings.addAll(index, conditionMappings);
+        mpBs.parameterMappings(mappings);
     }
 
-    private Expression buildExpression(Map<String, String> fieldNamesMap, Condition condition) {
+    private Expression buildExpression(Map<String, String> fieldNamesMap, Condition condition, List<String> values) {
         if (condition.getConditions() != null && !condition.getConditions().isEmpty()) {
             List<Condition> subConditions = condition.getConditions();
-            Expression combined = this.buildExpression(fieldNamesMap, subConditions.get(0));
+            Expression combined = this.buildExpression(fieldNamesMap, subConditions.get(0), values);
 
             for (int i = 1; i < subConditions.size(); i++) {
-                Expression currentExpression = this.buildExpression(fieldNamesMap, subConditions.get(i));
+                Expression currentExpression = this.buildExpression(fieldNamesMap, subConditions.get(i), values);
                 String conditionType = subConditions.get(i).getCondition();
                 combined = this.combineExpressions(combined, currentExpression, conditionType);
             }
             return new Parenthesis(combined);
         } else {
-            return buildSingleExpression(fieldNamesMap, condition);
+            return buildSingleExpression(fieldNamesMap, condition, values);
         }
     }
 
@@ -154,7 +160,7 @@ public class BreezeListConditionInterceptor implements InnerInterceptor {
         throw new IllegalArgumentException("Unsupported condition type: " + conditionType);
     }
 
-    private Expression buildSingleExpression(Map<String, String> fieldNamesMap, Condition condition) {
+    private Expression buildSingleExpression(Map<String, String> fieldNamesMap, Condition condition, List<String> values) {
         String field = condition.getField();
         if (!fieldNamesMap.containsKey(field)) {
             throw new IllegalArgumentException("Unsupported field: " + field);
@@ -163,40 +169,41 @@ public class BreezeListConditionInterceptor implements InnerInterceptor {
         String operator = condition.getOperator();
         String value = condition.getValue();
 
-        try {
-            return switch (operator) {
-                case "eq" -> createComparisonExpression(new EqualsTo(), field, value);
-                case "gt" -> createComparisonExpression(new GreaterThan(), field, value);
-                case "lt" -> createComparisonExpression(new MinorThan(), field, value);
-                case "gte" -> createComparisonExpression(new GreaterThanEquals(), field, value);
-                case "lte" -> createComparisonExpression(new MinorThanEquals(), field, value);
-                case "neq" -> createComparisonExpression(new NotEqualsTo(), field, value);
-                case "notContain" -> new NotExpression(createLikeExpression(field, "%" + value + "%"));
-                case "contain" -> createLikeExpression(field, "%" + value + "%");
-                case "startWith" -> createLikeExpression(field, value + "%");
-                case "endWith" -> createLikeExpression(field, "%" + value);
-                case "isNull" -> createIsNullExpression(field, false);
-                case "isNotNull" -> createIsNullExpression(field, true);
-                case "in" -> createInExpression(field, value, false);
-                case "notIn" -> createInExpression(field, value, true);
-                case "between" -> createBetweenExpression(field, value);
-                default -> throw new IllegalArgumentException("Unsupported operator: " + operator);
-            };
-        } catch (JSQLParserException e) {
-            throw new RuntimeException("解析表达式出错", e);
-        }
+        return switch (operator) {
+            case "eq" -> createComparisonExpression(new EqualsTo(), field, value, values);
+            case "gt" -> createComparisonExpression(new GreaterThan(), field, value, values);
+            case "lt" -> createComparisonExpression(new MinorThan(), field, value, values);
+            case "gte" -> createComparisonExpression(new GreaterThanEquals(), field, value, values);
+            case "lte" -> createComparisonExpression(new MinorThanEquals(), field, value, values);
+            case "neq" -> createComparisonExpression(new NotEqualsTo(), field, value, values);
+            case "notContain" -> new NotExpression(createLikeExpression(field, "%" + value + "%", values));
+            case "contain" -> createLikeExpression(field, "%" + value + "%", values);
+            case "startWith" -> createLikeExpression(field, value + "%", values);
+            case "endWith" -> createLikeExpression(field, "%" + value, values);
+            case "isNull" -> createIsNullExpression(field, false);
+            case "isNotNull" -> createIsNullExpression(field, true);
+            case "in" -> createInExpression(field, value, false, values);
+            case "notIn" -> createInExpression(field, value, true, values);
+            case "between" -> createBetweenExpression(field, value, values);
+            default -> throw new IllegalArgumentException("Unsupported operator: " + operator);
+        };
     }
 
-    private Expression createComparisonExpression(ComparisonOperator operator, String field, String value) throws JSQLParserException {
+    private Expression bind(String value, List<String> values) {
+        values.add(value);
+        return new JdbcParameter();
+    }
+
+    private Expression createComparisonExpression(ComparisonOperator operator, String field, String value, List<String> values) {
         operator.setLeftExpression(new Column(field));
-        operator.setRightExpression(CCJSqlParserUtil.parseExpression("'" + value + "'"));
+        operator.setRightExpression(this.bind(value, values));
         return operator;
     }
 
-    private Expression createLikeExpression(String field, String value) throws JSQLParserException {
+    private Expression createLikeExpression(String field, String value, List<String> values) {
         LikeExpression likeExpression = new LikeExpression();
         likeExpression.setLeftExpression(new Column(field));
-        likeExpression.setRightExpression(CCJSqlParserUtil.parseExpression("'" + value + "'"));
+        likeExpression.setRightExpression(this.bind(value, values));
         return likeExpression;
     }
 
@@ -207,15 +214,10 @@ public class BreezeListConditionInterceptor implements InnerInterceptor {
         return isNullExpression;
     }
 
-    private Expression createInExpression(String field, String value, boolean isNot) {
+    private Expression createInExpression(String field, String value, boolean isNot, List<String> values) {
         List<Expression> expressionList = new ArrayList<>();
-        String[] values = value.split(",");
-        for (String val : values) {
-            try {
-                expressionList.add(CCJSqlParserUtil.parseExpression("'" + val + "'"));
-            } catch (JSQLParserException e) {
-                throw new BreezeBizException(ResultCode.SQL_PARSE_EXCEPTION);
-            }
+        for (String val : value.split(",")) {
+            expressionList.add(this.bind(val, values));
         }
         ExpressionList<?> rightExpression = new ExpressionList<>(expressionList);
         InExpression inExpression = new InExpression(new Column(field), rightExpression);
@@ -223,70 +225,27 @@ public class BreezeListConditionInterceptor implements InnerInterceptor {
         return inExpression;
     }
 
-    private Expression createBetweenExpression(String field, String value) throws JSQLParserException {
-        String[] values = value.split(",");
-        if (values.length != 2) {
+    private Expression createBetweenExpression(String field, String value, List<String> values) {
+        String[] between = value.split(",");
+        if (between.length != 2) {
             throw new IllegalArgumentException("Invalid value format for 'between' operator");
         }
-        Between between = new Between();
-        between.setLeftExpression(new Column(field));
-        between.setBetweenExpressionStart(CCJSqlParserUtil.parseExpression(values[0]));
-        between.setBetweenExpressionEnd(CCJSqlParserUtil.parseExpression(values[1]));
-        return between;
+        Between betweenExpression = new Between();
+        betweenExpression.setLeftExpression(new Column(field));
+        betweenExpression.setBetweenExpressionStart(this.bind(between[0].trim(), values));
+        betweenExpression.setBetweenExpressionEnd(this.bind(between[1].trim(), values));
+        return betweenExpression;
     }
 
-    public static void mergeWhereConditionWithAnd(PlainSelect plainSelect, Expression newCondition) {
-        Expression originalWhere = plainSelect.getWhere();
-        if (originalWhere == null) {
-            plainSelect.setWhere(newCondition);
-        } else {
-            AndExpression combinedExpression = new AndExpression(originalWhere, newCondition);
-            plainSelect.setWhere(combinedExpression);
-        }
-    }
-
-    private void addOrderByElements(PlainSelect plainSelect, LinkedHashMap<String, Object> sortMap) {
-        sortMap.entrySet().stream()
+    private String buildOrderBy(LinkedHashMap<String, Object> sortMap) {
+        return sortMap.entrySet().stream()
                 .map(entry -> {
                     OrderByElement orderByElement = new OrderByElement();
                     orderByElement.setExpression(new Column(entry.getKey()));
                     orderByElement.setAsc(!"descending".equals(entry.getValue()));
-                    return orderByElement;
+                    return orderByElement.toString();
                 })
-                .forEach(plainSelect::addOrderByElements);
+                .collect(Collectors.joining(", "));
     }
 
-    private static class SqlFieldExtractor {
-
-        public static Map<String, String> getFieldNames(Select select) {
-            Map<String, String> fieldNames = new HashMap<>();
-            if (select instanceof PlainSelect) {
-                handlePlainSelect((PlainSelect) select, fieldNames);
-            } else if (select instanceof SetOperationList) {
-                handleSetOperationList((SetOperationList) select, fieldNames);
-            }
-            return fieldNames;
-        }
-
-        private static void handlePlainSelect(PlainSelect plainSelect, Map<String, String> fieldNames) {
-            List<SelectItem<?>> selectItems = plainSelect.getSelectItems();
-            for (SelectItem<?> selectItem : selectItems) {
-                String fieldName = selectItem.getExpression().toString();
-                if (fieldName.contains(".")) {
-                    fieldName = fieldName.substring(fieldName.lastIndexOf('.') + 1);
-                }
-                fieldName = fieldName.replace("`", "");
-                fieldNames.put(fieldName, fieldName);
-            }
-        }
-
-        private static void handleSetOperationList(SetOperationList setOperationList, Map<String, String> fieldNames) {
-            List<Select> selectBodies = setOperationList.getSelects();
-            for (Select subSelectBody : selectBodies) {
-                if (subSelectBody instanceof PlainSelect) {
-                    handlePlainSelect((PlainSelect) subSelectBody, fieldNames);
-                }
-            }
-        }
-    }
-}
\ No newline at end of file
+}
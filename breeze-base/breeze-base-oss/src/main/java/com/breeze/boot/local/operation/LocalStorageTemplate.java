@@ -16,28 +16,30 @@
 
 package com.breeze.boot.local.operation;
 
-import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.lang.UUID;
 import cn.hutool.core.util.StrUtil;
 import com.breeze.boot.core.enums.ContentType;
 import com.breeze.boot.core.exception.BreezeBizException;
 import com.breeze.boot.core.utils.AssertUtil;
 import com.breeze.boot.local.config.LocalProperties;
+import com.breeze.boot.oss.operation.DownloadRange;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 
 import static com.breeze.boot.core.enums.ResultCode.FILE_NOT_FOUND;
 
@@ -113,8 +115,21 @@ public class LocalStorageTemplate {
      * @param response HTTP响应对象，用于将文件内容发送至客户端并触发浏览器下载。
      * @throws BreezeBizException 当指定路径的文件在服务器上不存在时抛出异常。
      */
-    @SneakyThrows
     public void download(String path, String fileName, HttpServletResponse response) {
+        this.download(path, fileName, null, response);
+    }
+
+    /**
+     * 从服务器下载指定路径的文件，支持 Range 断点续传以及 ETag / Last-Modified 条件请求。
+     * 文件内容通过 FileChannel.transferTo 直接写入响应，不经过应用层的字节数组复制。
+     *
+     * @param path     文件在服务器上的绝对路径。
+     * @param fileName 下载时显示的文件名称。
+     * @param request  HTTP请求对象，读取 Range 以及条件请求头，为空时返回完整内容。
+     * @param response HTTP响应对象，用于将文件内容发送至客户端并触发浏览器下载。
+     * @throws BreezeBizException 当指定路径的文件在服务器上不存在时抛出异常。
+     */
+    public void download(String path, String fileName, HttpServletRequest request, HttpServletResponse response) {
         // 获取指定路径的文件对象
         File file = this.getFile(path);
         // 检查文件是否存在，若不存在则抛出异常
@@ -125,11 +140,27 @@ public class LocalStorageTemplate {
         response.setContentType(ContentType.getContentType(fileName));
         response.setHeader("Content-disposition", "attachment;filename*=utf-8''" + URLEncoder.encode(fileName, StandardCharsets.UTF_8));
 
-        try (FileInputStream fis = new FileInputStream(file)) {
-            // 获取HTTP响应的输出流
-            OutputStream os = response.getOutputStream();
-            // 将文件内容复制到HTTP响应的输出流中，从而实现文件下载
-            IoUtil.copy(fis, os);
+        // 处理条件请求以及 Range，ETag 由文件大小和最后修改时间生成
+        long length = file.length();
+        long lastModified = file.lastModified();
+        String etag = Long.toHexString(length) + "-" + Long.toHexString(lastModified);
+        DownloadRange range = DownloadRange.resolve(request, response, length, etag, lastModified);
+        if (range == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = range.getStart();
+            long remaining = range.getLength();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
         } catch (Exception e) {
             // 记录下载过程中出现的异常信息
             log.error("文件下载失败", e);
@@ -19,6 +19,7 @@ package com.breeze.boot.oss.config;
 import lombok.*;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 import java.util.Map;
 
@@ -83,5 +84,25 @@ public class OssProperties {
          */
         private Boolean pathStyleAccess = true;
 
+        /**
+         * 分片上传的分片大小，不小于 5MB
+         */
+        private DataSize partSize = DataSize.ofMegabytes(8);
+
+        /**
+         * 并行上传分片的线程数
+         */
+        private Integer uploadThreads = 4;
+
+        /**
+         * 所有上传共享的分片缓冲数量
+         */
+        private Integer uploadBuffers = 8;
+
+        /**
+         * 单个分片失败重试次数
+         */
+        private Integer partRetries = 3;
+
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.oss.operation;
+
+import cn.hutool.core.util.StrUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+/**
+ * 下载范围
+ * <p>
+ * 统一处理下载的条件请求（If-None-Match / If-Modified-Since 返回 304）以及单段 Range 请求（返回 206），
+ * If-Range 与当前 ETag / 最后修改时间不一致时忽略 Range 返回完整内容，范围无效时返回 416。
+ * 多段范围不支持 multipart/byteranges，直接返回完整内容。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+@AllArgsConstructor
+public final class DownloadRange {
+
+    private static final String BYTES = "bytes";
+
+    /**
+     * 起始位置
+     */
+    private final long start;
+
+    /**
+     * 结束位置（包含）
+     */
+    private final long end;
+
+    /**
+     * 是否是部分内容
+     */
+    private final boolean partial;
+
+    /**
+     * 需要输出的字节数
+     *
+     * @return long
+     */
+    public long getLength() {
+        return this.end - this.start + 1;
+    }
+
+    /**
+     * 解析请求，设置响应状态以及 Accept-Ranges、Content-Range、Content-Length、ETag、Last-Modified 响应头
+     *
+     * @param request       请求，为空时直接返回完整内容
+     * @param response      响应
+     * @param contentLength 内容长度
+     * @param etag          ETag，未知时为 null
+     * @param lastModified  最后修改时间戳，未知时为 -1
+     * @return {@link DownloadRange} 已返回 304 或者 416 时为 null，调用方无需再输出内容
+     */
+    public static DownloadRange resolve(HttpServletRequest request, HttpServletResponse response,
+                                        long contentLength, String etag, long lastModified) {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES);
+        if (request == null) {
+            return full(response, contentLength);
+        }
+        String quotedEtag = quote(etag);
+        if (new ServletWebRequest(request, response).checkNotModified(quotedEtag, lastModified)) {
+            return null;
+        }
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (StrUtil.isBlank(rangeHeader) || !matchIfRange(request, quotedEtag, lastModified)) {
+            return full(response, contentLength);
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            if (ranges.size() != 1) {
+                return full(response, contentLength);
+            }
+            HttpRange range = ranges.get(0);
+            long start = range.getRangeStart(contentLength);
+            long end = range.getRangeEnd(contentLength);
+            if (start >= contentLength || start > end) {
+                throw new IllegalArgumentException("Range 超出内容长度");
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + contentLength);
+            response.setContentLengthLong(end - start + 1);
+            return new DownloadRange(start, end, true);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " */" + contentLength);
+            return null;
+        }
+    }
+
+    private static DownloadRange full(HttpServletResponse response, long contentLength) {
+        response.setContentLengthLong(contentLength);
+        return new DownloadRange(0, contentLength - 1, false);
+    }
+
+    /**
+     * If-Range 为 ETag 时要求完全一致，为日期时要求资源在该时间之后未修改
+     */
+    private static boolean matchIfRange(HttpServletRequest request, String quotedEtag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (StrUtil.isBlank(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(quotedEtag);
+        }
+        try {
+            long ifRangeTime = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified >= 0 && lastModified / 1000 <= ifRangeTime / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String quote(String etag) {
+        if (StrUtil.isBlank(etag) || etag.startsWith("\"") || etag.startsWith("W/")) {
+            return etag;
+        }
+        return "\"" + etag + "\"";
+    }
+
+}
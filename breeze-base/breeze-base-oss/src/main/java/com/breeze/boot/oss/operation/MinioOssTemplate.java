@@ -25,6 +25,7 @@ import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.breeze.boot.oss.config.OssProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.BindResult;
@@ -39,7 +40,7 @@ import org.springframework.core.env.Environment;
  * @since 2023-04-18
  */
 @Slf4j
-public class MinioOssTemplate extends OssTemplate implements InitializingBean, EnvironmentAware {
+public class MinioOssTemplate extends OssTemplate implements InitializingBean, DisposableBean, EnvironmentAware {
 
     /**
      * 存储地址
@@ -84,6 +85,20 @@ public class MinioOssTemplate extends OssTemplate implements InitializingBean, E
                 .disableChunkedEncoding() // 禁用分块编码
                 .withPathStyleAccessEnabled(configEntity.getPathStyleAccess()) // 启用路径样式访问
                 .build());
+
+        // 分片上传配置
+        super.setPartSize((int) configEntity.getPartSize().toBytes());
+        super.setUploadThreads(configEntity.getUploadThreads());
+        super.setUploadBuffers(configEntity.getUploadBuffers());
+        super.setPartRetries(configEntity.getPartRetries());
+    }
+
+    /**
+     * 关闭分片上传线程池
+     */
+    @Override
+    public void destroy() {
+        super.shutdown();
     }
 
     /**
@@ -19,6 +19,7 @@ package com.breeze.boot.oss.operation;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.S3Object;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.SneakyThrows;
 
@@ -66,6 +67,18 @@ public interface OssOperations {
      */
     PutObjectResult putObject(String bucketName, String objectName, InputStream stream, String contentType);
 
+    /**
+     * 上传对象，已知大小时直接流式上传，不在内存中缓存
+     *
+     * @param bucketName  bucket名称
+     * @param objectName  对象名称
+     * @param stream      文件流
+     * @param size        文件大小，未知时传 -1
+     * @param contentType 类型
+     * @return {@link PutObjectResult}
+     */
+    PutObjectResult putObject(String bucketName, String objectName, InputStream stream, long size, String contentType);
+
     /**
      * 上传对象
      *
@@ -112,6 +125,17 @@ public interface OssOperations {
      */
     void downloadObject(String bucketName, String objectName, String response, HttpServletResponse originalFilename);
 
+    /**
+     * 下载，支持 Range 断点续传以及条件请求
+     *
+     * @param bucketName 存储桶名称
+     * @param objectName 对象名称
+     * @param fileName   原始文件名
+     * @param request    请求
+     * @param response   响应
+     */
+    void downloadObject(String bucketName, String objectName, String fileName, HttpServletRequest request, HttpServletResponse response);
+
     /**
      * 上传文件
      *
@@ -17,12 +17,12 @@
 package com.breeze.boot.oss.operation;
 
 import cn.hutool.core.io.IoUtil;
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.Bucket;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectResult;
-import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -34,8 +34,14 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 操作系统模板
@@ -47,11 +53,52 @@ import java.util.List;
 @Slf4j
 public class OssTemplate implements OssOperations {
 
+    /**
+     * 单次 PUT 上传的最大大小，超过后使用分片上传
+     */
+    private static final long MAX_SINGLE_PUT_SIZE = 5L * 1024 * 1024 * 1024;
+
+    /**
+     * S3 分片最小大小（最后一个分片除外）
+     */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    /**
+     * S3 分片数量上限
+     */
+    private static final int MAX_PART_COUNT = 10000;
+
     /**
      * amazon s3
      */
     private AmazonS3 amazonS3;
 
+    /**
+     * 分片大小
+     */
+    private int partSize = 8 * 1024 * 1024;
+
+    /**
+     * 并行上传分片的线程数
+     */
+    private int uploadThreads = 4;
+
+    /**
+     * 所有上传共享的分片缓冲数量，分片上传占用的堆内存上限为 partSize * uploadBuffers
+     */
+    private int uploadBuffers = 8;
+
+    /**
+     * 单个分片失败重试次数
+     */
+    private int partRetries = 3;
+
+    @Setter(AccessLevel.NONE)
+    private volatile ExecutorService uploadExecutor;
+
+    @Setter(AccessLevel.NONE)
+    private volatile PartBufferPool bufferPool;
+
     /**
      * 创建桶
      *
@@ -104,7 +151,22 @@ public class OssTemplate implements OssOperations {
     @Override
     @SneakyThrows
     public PutObjectResult putObject(String bucketName, String objectName, InputStream stream, String contentType) {
-        return this.putObjectInternal(bucketName, objectName, stream, contentType);
+        return this.putObjectInternal(bucketName, objectName, stream, -1, contentType);
+    }
+
+    /**
+     * 上传文件
+     *
+     * @param bucketName  bucket名称
+     * @param objectName  对象名称
+     * @param stream      流
+     * @param size        文件大小，未知时传 -1
+     * @param contentType 内容类型
+     * @return {@link PutObjectResult}
+     */
+    @Override
+    public PutObjectResult putObject(String bucketName, String objectName, InputStream stream, long size, String contentType) {
+        return this.putObjectInternal(bucketName, objectName, stream, size, contentType);
     }
 
     /**
@@ -117,7 +179,7 @@ public class OssTemplate implements OssOperations {
     @Override
     public void putObject(String bucketName, String objectName, File file) {
         try (InputStream stream = new FileInputStream(file)) {
-            putObjectInternal(bucketName, objectName, stream, "application/octet-stream");
+            putObjectInternal(bucketName, objectName, stream, file.length(), "application/octet-stream");
         } catch (IOException e) {
             log.error("上传文件时发生IO异常：{}", e.getMessage(), e);
         }
@@ -125,35 +187,193 @@ public class OssTemplate implements OssOperations {
 
     /**
      * 内部上传文件方法
+     * <p>
+     * 已知大小时直接把流交给 S3 客户端上传，不在内存中缓存；大小未知或超过单次上传上限时使用分片上传。
+     * </p>
      *
      * @param bucketName  bucket名称
      * @param objectName  对象名称
      * @param stream      流
+     * @param size        文件大小，未知时为 -1
      * @param contentType 内容类型
      * @return {@link PutObjectResult}
      */
+    private PutObjectResult putObjectInternal(String bucketName, String objectName, InputStream stream, long size, String contentType) {
+        try {
+            if (size >= 0 && size <= MAX_SINGLE_PUT_SIZE) {
+                return this.amazonS3.putObject(bucketName, objectName, stream, newMetadata(contentType, size));
+            }
+            return this.putObjectMultipart(bucketName, objectName, stream, contentType);
+        } catch (IOException e) {
+            log.info("方法 putObjectInternal 上传文件失败，桶名：{}，对象名：{}，错误信息：{}", bucketName, objectName, e.getMessage());
+            throw new RuntimeException("上传文件失败", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("上传文件被中断", e);
+        }
+    }
 
-    private PutObjectResult putObjectInternal(String bucketName, String objectName, InputStream stream, String contentType) {
-        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
-            int nRead;
-            byte[] data = new byte[16384];
-            while ((nRead = stream.read(data, 0, data.length)) != -1) {
-                buffer.write(data, 0, nRead);
+    /**
+     * 分片上传
+     * <p>
+     * 调用线程按分片大小依次读取，每读满一个分片就提交到上传线程池并行上传，分片缓冲从共享池中获取，
+     * 缓冲用尽时读取阻塞，因此内存占用有上限。不足一个分片的文件直接单次上传。任一分片重试后仍失败则中止整个上传。
+     * </p>
+     */
+    private PutObjectResult putObjectMultipart(String bucketName, String objectName, InputStream stream, String contentType)
+            throws IOException, InterruptedException {
+        PartBufferPool pool = this.getBufferPool();
+        byte[] buffer = pool.acquire();
+        String uploadId = null;
+        AtomicBoolean aborted = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            int read = stream.readNBytes(buffer, 0, buffer.length);
+            if (read < buffer.length) {
+                return this.amazonS3.putObject(bucketName, objectName, new ByteArrayInputStream(buffer, 0, read), newMetadata(contentType, read));
+            }
+            uploadId = this.amazonS3.initiateMultipartUpload(
+                    new InitiateMultipartUploadRequest(bucketName, objectName, newMetadata(contentType, -1))).getUploadId();
+            List<Future<PartETag>> futures = new ArrayList<>();
+            int partNumber = 0;
+            while (read > 0) {
+                if (++partNumber > MAX_PART_COUNT) {
+                    throw new IOException("分片数量超过上限：" + MAX_PART_COUNT);
+                }
+                futures.add(this.submitPart(bucketName, objectName, uploadId, partNumber, buffer, read, pool, aborted, failure));
+                buffer = null;
+                if (failure.get() != null) {
+                    throw new IOException("分片上传失败", failure.get());
+                }
+                buffer = pool.acquire();
+                read = stream.readNBytes(buffer, 0, buffer.length);
+            }
+            List<PartETag> partETags = new ArrayList<>(futures.size());
+            for (Future<PartETag> future : futures) {
+                partETags.add(future.get());
+            }
+            CompleteMultipartUploadResult completeResult = this.amazonS3.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, objectName, uploadId, partETags));
+            PutObjectResult result = new PutObjectResult();
+            result.setETag(completeResult.getETag());
+            result.setVersionId(completeResult.getVersionId());
+            log.info("分片上传完成，桶名：{}，对象名：{}，分片数：{}", bucketName, objectName, partETags.size());
+            return result;
+        } catch (ExecutionException e) {
+            this.abortMultipart(bucketName, objectName, uploadId, aborted);
+            throw new IOException("分片上传失败", e.getCause());
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            this.abortMultipart(bucketName, objectName, uploadId, aborted);
+            throw e;
+        } finally {
+            if (buffer != null) {
+                pool.release(buffer);
             }
-            buffer.flush();
-            byte[] byteArray = buffer.toByteArray();
-            try (InputStream cachedStream = new ByteArrayInputStream(byteArray)) {
-                long size = byteArray.length;
+        }
+    }
 
-                ObjectMetadata objectMetadata = new ObjectMetadata();
-                objectMetadata.setContentLength(size);
-                objectMetadata.setContentType(contentType);
+    private Future<PartETag> submitPart(String bucketName, String objectName, String uploadId, int partNumber,
+                                        byte[] buffer, int length, PartBufferPool pool,
+                                        AtomicBoolean aborted, AtomicReference<Throwable> failure) {
+        // 提交成功后缓冲区由上传任务归还；提交被拒绝时异常直接抛出，仍由调用方持有并归还
+        return this.getUploadExecutor().submit(() -> {
+            try {
+                return this.uploadPart(bucketName, objectName, uploadId, partNumber, buffer, length, aborted);
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                pool.release(buffer);
+            }
+        });
+    }
 
-                return amazonS3.putObject(bucketName, objectName, cachedStream, objectMetadata);
+    private PartETag uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+                                byte[] buffer, int length, AtomicBoolean aborted) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            if (aborted.get()) {
+                throw new CancellationException("分片上传已中止");
             }
-        } catch (IOException e) {
-            log.info("方法 putObjectInternal 上传文件失败，桶名：{}，对象名：{}，错误信息：{}", bucketName, objectName, e.getMessage());
-            throw new RuntimeException("上传文件失败", e);
+            try {
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(objectName)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(length)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length));
+                return this.amazonS3.uploadPart(request).getPartETag();
+            } catch (SdkClientException e) {
+                if (attempt > this.partRetries) {
+                    throw e;
+                }
+                log.warn("分片上传失败，准备重试，对象名：{}，分片：{}，第 {} 次，错误信息：{}", objectName, partNumber, attempt, e.getMessage());
+                TimeUnit.MILLISECONDS.sleep(200L * attempt);
+            }
+        }
+    }
+
+    private void abortMultipart(String bucketName, String objectName, String uploadId, AtomicBoolean aborted) {
+        aborted.set(true);
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            this.amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, objectName, uploadId));
+        } catch (Exception e) {
+            log.error("中止分片上传失败，桶名：{}，对象名：{}，错误信息：{}", bucketName, objectName, e.getMessage(), e);
+        }
+    }
+
+    private static ObjectMetadata newMetadata(String contentType, long size) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        if (size >= 0) {
+            objectMetadata.setContentLength(size);
+        }
+        objectMetadata.setContentType(contentType);
+        return objectMetadata;
+    }
+
+    private PartBufferPool getBufferPool() {
+        PartBufferPool pool = this.bufferPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = this.bufferPool;
+                if (pool == null) {
+                    pool = new PartBufferPool(Math.max(MIN_PART_SIZE, this.partSize), Math.max(1, this.uploadBuffers));
+                    this.bufferPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    private ExecutorService getUploadExecutor() {
+        ExecutorService executor = this.uploadExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.uploadExecutor;
+                if (executor == null) {
+                    AtomicInteger threadIndex = new AtomicInteger();
+                    executor = Executors.newFixedThreadPool(Math.max(1, this.uploadThreads), r -> {
+                        Thread thread = new Thread(r, "thd-oss-upload-" + threadIndex.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    this.uploadExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 关闭分片上传线程池
+     */
+    public void shutdown() {
+        ExecutorService executor = this.uploadExecutor;
+        if (executor != null) {
+            executor.shutdown();
         }
     }
 
@@ -223,10 +443,40 @@ public class OssTemplate implements OssOperations {
      */
     @Override
     public void downloadObject(String bucketName, String objectName, String fileName, HttpServletResponse response) {
-        try (S3Object s3Object = this.amazonS3.getObject(bucketName, objectName)) {
+        this.downloadObject(bucketName, objectName, fileName, null, response);
+    }
+
+    /**
+     * 从指定存储桶下载对象，支持 Range 断点续传以及 ETag / Last-Modified 条件请求
+     * <p>
+     * 先读取对象元数据判断条件请求，Range 请求直接转为 S3 的范围 GET，只传输需要的部分。
+     * </p>
+     *
+     * @param bucketName 对象所在的S3存储桶名称
+     * @param objectName 需要下载的对象在存储桶中的名称
+     * @param fileName   下载文件的原始名称，将用于生成HTTP响应中Content-disposition头信息
+     * @param request    HTTP请求对象，读取 Range 以及条件请求头，为空时返回完整内容
+     * @param response   HTTP响应对象，通过此对象将对象内容输出至客户端，触发浏览器下载操作
+     */
+    @Override
+    public void downloadObject(String bucketName, String objectName, String fileName,
+                               HttpServletRequest request, HttpServletResponse response) {
+        try {
+            ObjectMetadata metadata = this.amazonS3.getObjectMetadata(bucketName, objectName);
+            long lastModified = metadata.getLastModified() != null ? metadata.getLastModified().getTime() : -1;
             setResponseHeaders(response, fileName);
-            IoUtil.copy(s3Object.getObjectContent(), response.getOutputStream());
-            log.info("成功下载对象，桶名：{}，对象名：{}", bucketName, objectName);
+            DownloadRange range = DownloadRange.resolve(request, response, metadata.getContentLength(), metadata.getETag(), lastModified);
+            if (range == null || range.getLength() <= 0) {
+                return;
+            }
+            GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, objectName);
+            if (range.isPartial()) {
+                getObjectRequest.setRange(range.getStart(), range.getEnd());
+            }
+            try (S3Object s3Object = this.amazonS3.getObject(getObjectRequest)) {
+                IoUtil.copy(s3Object.getObjectContent(), response.getOutputStream());
+            }
+            log.info("成功下载对象，桶名：{}，对象名：{}，范围：{}-{}", bucketName, objectName, range.getStart(), range.getEnd());
         } catch (Exception e) {
             log.error("下载对象失败，桶名：{}，对象名：{}，错误信息：{}", bucketName, objectName, e.getMessage(), e);
         }
@@ -255,4 +505,33 @@ public class OssTemplate implements OssOperations {
     private String encodeSafeFileName(String fileName) {
         return fileName.replaceAll("[^a-zA-Z0-9.\\-_]", "_");
     }
-}
\ No newline at end of file
+
+    /**
+     * 分片缓冲池，按需创建，总数不超过上限，用尽时获取阻塞
+     */
+    private static class PartBufferPool {
+
+        private final int bufferSize;
+
+        private final Semaphore permits;
+
+        private final Queue<byte[]> free = new ConcurrentLinkedQueue<>();
+
+        PartBufferPool(int bufferSize, int maxBuffers) {
+            this.bufferSize = bufferSize;
+            this.permits = new Semaphore(maxBuffers);
+        }
+
+        byte[] acquire() throws InterruptedException {
+            this.permits.acquire();
+            byte[] buffer = this.free.poll();
+            return buffer != null ? buffer : new byte[this.bufferSize];
+        }
+
+        void release(byte[] buffer) {
+            this.free.offer(buffer);
+            this.permits.release();
+        }
+
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.redis.limiter;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 滑动窗口限流
+ * <p>
+ * 以 ZSET 记录窗口内每次放行的时间戳，清理过期记录、计数、写入在同一个 Lua 脚本内完成，
+ * 每次判断只有一次 Redis 往返，多节点并发下计数也不会重复或遗漏。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public class RedisRateLimiter {
+
+    /**
+     * KEYS[1] 限流 key，ARGV[1] 当前毫秒，ARGV[2] 窗口毫秒，ARGV[3] 上限，ARGV[4] 本次请求成员
+     */
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local window = tonumber(ARGV[2]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window) " +
+            "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], now, ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[1], window) " +
+            "return 1", Long.class);
+
+    /**
+     * 多个窗口同时预占一次。KEYS 为各窗口 key，ARGV[1] 当前毫秒，ARGV[2] 窗口毫秒，ARGV[3] 本次成员，
+     * ARGV[4..] 依次为各 key 的上限。任意窗口已满则都不写入，否则在所有窗口写入同一成员
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local window = tonumber(ARGV[2]) " +
+            "for i = 1, #KEYS do " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[i], 0, now - window) " +
+            "  if redis.call('ZCARD', KEYS[i]) >= tonumber(ARGV[i + 3]) then " +
+            "    return 0 " +
+            "  end " +
+            "end " +
+            "for i = 1, #KEYS do " +
+            "  redis.call('ZADD', KEYS[i], now, ARGV[3]) " +
+            "  redis.call('PEXPIRE', KEYS[i], window) " +
+            "end " +
+            "return 1", Long.class);
+
+    /**
+     * 归还预占。KEYS 为各窗口 key，ARGV[1] 预占时写入的成员
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+            "  redis.call('ZREM', KEYS[i], ARGV[1]) " +
+            "end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisRateLimiter(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 尝试获取许可，窗口内已放行次数未达到上限时计入本次请求
+     *
+     * @param key           限流 key
+     * @param limit         窗口内允许的请求数
+     * @param windowSeconds 窗口长度（秒）
+     * @return boolean 是否放行
+     */
+    public boolean tryAcquire(String key, long limit, long windowSeconds) {
+        long now = System.currentTimeMillis();
+        // 同一毫秒内的多次请求需要不同的成员，否则 ZADD 只会覆盖分值
+        String member = now + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        Long acquired = this.stringRedisTemplate.execute(SLIDING_WINDOW_SCRIPT, Collections.singletonList(key),
+                String.valueOf(now), String.valueOf(windowSeconds * 1000), String.valueOf(limit), member);
+        return acquired != null && acquired == 1L;
+    }
+
+    /**
+     * 在多个窗口中同时预占一次，任意窗口已达上限则不预占
+     * <p>
+     * 检查与写入在同一个 Lua 脚本内完成，并发请求不会同时通过检查。预占在窗口内一直计数，
+     * 需要不计数的结果（例如登录成功）通过 {@link #release(List, String)} 归还。
+     * 多个 key 在同一脚本内访问，Redis 集群模式下需要位于同一槽位。
+     * </p>
+     *
+     * @param keys          窗口 key
+     * @param limits        与 keys 一一对应的窗口上限
+     * @param windowSeconds 窗口长度（秒）
+     * @return {@link String} 预占成员，已达上限返回 null
+     */
+    public String reserve(List<String> keys, long[] limits, long windowSeconds) {
+        long now = System.currentTimeMillis();
+        String member = now + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        String[] args = new String[limits.length + 3];
+        args[0] = String.valueOf(now);
+        args[1] = String.valueOf(windowSeconds * 1000);
+        args[2] = member;
+        for (int i = 0; i < limits.length; i++) {
+            args[i + 3] = String.valueOf(limits[i]);
+        }
+        Long reserved = this.stringRedisTemplate.execute(RESERVE_SCRIPT, keys, (Object[]) args);
+        return reserved != null && reserved == 1L ? member : null;
+    }
+
+    /**
+     * 归还预占
+     *
+     * @param keys   预占时的窗口 key
+     * @param member {@link #reserve(List, long[], long)} 返回的成员
+     */
+    public void release(List<String> keys, String member) {
+        this.stringRedisTemplate.execute(RELEASE_SCRIPT, keys, member);
+    }
+
+    /**
+     * 清除窗口内的记录
+     *
+     * @param key 限流 key
+     */
+    public void reset(String key) {
+        this.stringRedisTemplate.delete(key);
+    }
+
+}
@@ -17,7 +17,10 @@
 package com.breeze.boot.satoken;
 
 import cn.dev33.satoken.interceptor.SaInterceptor;
+import com.breeze.boot.core.utils.PathPatternSet;
 import com.google.common.collect.Lists;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
@@ -26,7 +29,9 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.util.ServletRequestPathUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -62,15 +67,35 @@ public class SaTokenConfigure implements WebMvcConfigurer, InitializingBean {
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        List<String> ignoreUrls = jumpAuthProperties.getIgnoreUrls();
+        // 注册时即构建忽略路径，只包含配置的以及内置的路径，
+        // SaTokenJumpPathConfigure 之后追加的 @BaseFilter 注解路径（如 @JumpXss）不能跳过鉴权
+        PathPatternSet ignorePatterns = this.buildIgnorePatterns();
+        log.info("Sa-Token 忽略路径 {} 个", ignorePatterns.size());
+        // 注册 Sa-Token 拦截器，定义详细认证规则，忽略路径由预编译的匹配集合判断
+        registry.addInterceptor(new SaInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+                // 与 excludePathPatterns 一致，使用 Spring 解析后的请求路径
+                if (ignorePatterns.matches(ServletRequestPathUtils.getCachedPathValue(request))) {
+                    return true;
+                }
+                return super.preHandle(request, response, handler);
+            }
+        }).addPathPatterns("/**");
+    }
+
+    private PathPatternSet buildIgnorePatterns() {
+        List<String> ignoreUrls = new ArrayList<>();
+        if (jumpAuthProperties.getIgnoreUrls() != null) {
+            ignoreUrls.addAll(jumpAuthProperties.getIgnoreUrls());
+        }
         ignoreUrls.addAll(formLoginJumpUrl);
         ignoreUrls.addAll(websocketJumpUrl);
         ignoreUrls.addAll(captchaJumpUrl);
         ignoreUrls.addAll(staticJumpUrl);
         ignoreUrls.addAll(swaggerJumpUrl);
         ignoreUrls.addAll(druidJumpUrl);
-        // 注册 Sa-Token 拦截器，定义详细认证规则
-        registry.addInterceptor(new SaInterceptor()).excludePathPatterns(ignoreUrls).addPathPatterns("/**");
+        return PathPatternSet.of(ignoreUrls);
     }
 
     @Override
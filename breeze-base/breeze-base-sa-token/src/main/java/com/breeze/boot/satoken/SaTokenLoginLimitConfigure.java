@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken;
+
+import com.breeze.boot.redis.limiter.RedisRateLimiter;
+import com.breeze.boot.satoken.limit.ClientIpResolver;
+import com.breeze.boot.satoken.limit.LoginRateLimiter;
+import com.breeze.boot.satoken.propertise.LoginLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 登录限流配置
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Configuration
+@EnableConfigurationProperties({LoginLimitProperties.class})
+public class SaTokenLoginLimitConfigure {
+
+    /**
+     * 登录限流
+     *
+     * @param redisRateLimiter redis 滑动窗口限流
+     * @param properties       登录限流属性
+     * @return {@link LoginRateLimiter}
+     */
+    @Bean
+    public LoginRateLimiter loginRateLimiter(RedisRateLimiter redisRateLimiter, LoginLimitProperties properties) {
+        return new LoginRateLimiter(redisRateLimiter, properties);
+    }
+
+    /**
+     * 客户端 IP 解析，只信任配置的反向代理
+     *
+     * @param properties 登录限流属性
+     * @return {@link ClientIpResolver}
+     */
+    @Bean
+    public ClientIpResolver clientIpResolver(LoginLimitProperties properties) {
+        return new ClientIpResolver(properties.getTrustedProxies());
+    }
+
+}
@@ -30,6 +30,7 @@ import com.breeze.boot.log.events.PublisherSaveSysLogEvent;
 import com.breeze.boot.log.events.SysLogSaveEvent;
 import com.breeze.boot.satoken.oauth2.IUserDetailService;
 import com.breeze.boot.satoken.propertise.AesSecretProperties;
+import com.breeze.boot.satoken.spt.BreezePermissionCache;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -68,6 +69,8 @@ public class SaTokenOauthConfigure {
 
     private final PublisherSaveSysLogEvent publisherSaveSysLogEvent;
 
+    private final BreezePermissionCache permissionCache;
+
     /**
      * Sa-Token OAuth2 定制化配置
      *
@@ -89,6 +92,7 @@ public class SaTokenOauthConfigure {
                 SysLogBO sysLogBO = this.buildLog(requestAttributes.getRequest(), SUCCESS.getCode(), name);
                 this.publisherSaveSysLogEvent.publisherEvent(new SysLogSaveEvent(sysLogBO));
                 SaManager.getSaTokenDao().delete(ROLE_PERMISSION + userPrincipal.getId());
+                this.permissionCache.evictUser(userPrincipal.getId());
                 StpUtil.login(userPrincipal.getId());
                 return Result.ok();
             }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken;
+
+import cn.dev33.satoken.fun.strategy.SaHasElementFunction;
+import cn.dev33.satoken.strategy.SaStrategy;
+import com.breeze.boot.satoken.propertise.PermissionCacheProperties;
+import com.breeze.boot.satoken.spt.BreezePermissionCache;
+import com.breeze.boot.satoken.spt.PermissionIndex;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static com.breeze.boot.core.constants.CacheConstants.PERMISSION_INVALIDATE_CHANNEL;
+
+/**
+ * 权限二级缓存以及权限匹配配置
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Configuration
+@EnableConfigurationProperties({PermissionCacheProperties.class})
+public class SaTokenPermissionCacheConfigure implements InitializingBean {
+
+    /**
+     * 权限列表为 {@link PermissionIndex} 时走索引匹配，其余情况（如角色列表）保持 Sa-Token 默认逻辑
+     */
+    @Override
+    public void afterPropertiesSet() {
+        SaHasElementFunction defaultHasElement = SaStrategy.instance.hasElement;
+        SaStrategy.instance.setHasElement((list, element) -> {
+            if (list instanceof PermissionIndex) {
+                return ((PermissionIndex) list).matches(element);
+            }
+            return defaultHasElement.apply(list, element);
+        });
+    }
+
+    /**
+     * 角色权限二级缓存
+     *
+     * @param stringRedisTemplate 字符串 redis 模板
+     * @param properties          权限本地缓存属性
+     * @return {@link BreezePermissionCache}
+     */
+    @Bean
+    public BreezePermissionCache breezePermissionCache(StringRedisTemplate stringRedisTemplate, PermissionCacheProperties properties) {
+        return new BreezePermissionCache(stringRedisTemplate, properties.getExpireSeconds(), properties.getMaximumSize());
+    }
+
+    /**
+     * 订阅权限缓存失效通知
+     *
+     * @param redisConnectionFactory redis 连接工厂
+     * @param permissionCache        角色权限二级缓存
+     * @return {@link RedisMessageListenerContainer}
+     */
+    @Bean
+    public RedisMessageListenerContainer permissionCacheListenerContainer(RedisConnectionFactory redisConnectionFactory, BreezePermissionCache permissionCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(permissionCache, new ChannelTopic(PERMISSION_INVALIDATE_CHANNEL));
+        return container;
+    }
+
+}
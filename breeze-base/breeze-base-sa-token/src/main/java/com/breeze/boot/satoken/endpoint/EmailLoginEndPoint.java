@@ -20,7 +20,11 @@ import cn.dev33.satoken.SaManager;
 import cn.dev33.satoken.dao.SaTokenDao;
 import cn.dev33.satoken.util.SaFoxUtil;
 import com.breeze.boot.core.utils.Result;
+import com.breeze.boot.satoken.limit.ClientIpResolver;
+import com.breeze.boot.satoken.limit.LoginRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -39,11 +43,16 @@ import static com.breeze.boot.core.constants.CacheConstants.VALIDATE_EMAIL_CODE;
  */
 @Slf4j
 @RestController
+@RequiredArgsConstructor
 public class EmailLoginEndPoint {
 
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final ClientIpResolver clientIpResolver;
+
     @GetMapping("/oauth2/sendEmailCode")
     @ResponseBody
-    public Result<?> sendEmailCode(@NotBlank(message = "邮箱不能为空") @RequestParam String email) {
+    public Result<?> sendEmailCode(@NotBlank(message = "邮箱不能为空") @RequestParam String email, HttpServletRequest request) {
         SaTokenDao saTokenDao = SaManager.getSaTokenDao();
         String cacheCode = saTokenDao.get(VALIDATE_EMAIL_CODE + email);
         if (Objects.nonNull(cacheCode)) {
@@ -52,6 +61,7 @@ public class EmailLoginEndPoint {
             return Result.ok(expire, "请等待 " + expire + " 秒后再试");
         }
 
+        this.loginRateLimiter.checkSendCode(this.clientIpResolver.resolve(request));
         String code = SaFoxUtil.getRandomNumber(100000, 999999) + "";
         // TODO 发送验证码
         saTokenDao.set(VALIDATE_EMAIL_CODE + email, code, 60);
@@ -19,8 +19,12 @@ package com.breeze.boot.satoken.endpoint;
 import cn.dev33.satoken.SaManager;
 import cn.dev33.satoken.dao.SaTokenDao;
 import com.breeze.boot.core.utils.Result;
+import com.breeze.boot.satoken.limit.ClientIpResolver;
+import com.breeze.boot.satoken.limit.LoginRateLimiter;
 import com.breeze.boot.satoken.enums.AliyunSmsEnum;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dromara.sms4j.api.SmsBlend;
 import org.dromara.sms4j.api.entity.SmsResponse;
@@ -44,17 +48,24 @@ import static com.breeze.boot.core.constants.CacheConstants.SMS_LOGIN;
  */
 @Slf4j
 @RestController
+@RequiredArgsConstructor
 public class PhoneLoginEndPoint {
 
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final ClientIpResolver clientIpResolver;
+
     /**
      * 发送验证码
      *
-     * @param phone 电话
+     * @param phone   电话
+     * @param request 请求
      * @return {@link Result }<{@link Long }>
      */
     @GetMapping("/oauth2/sendPhoneCode")
     public Result<Long> sendPhoneCode(@NotBlank(message = "业务KEY") @RequestParam String key,
-                                      @NotBlank(message = "手机号不能为空") @RequestParam String phone) {
+                                      @NotBlank(message = "手机号不能为空") @RequestParam String phone,
+                                      HttpServletRequest request) {
         AliyunSmsEnum smsEnum = AliyunSmsEnum.getTemplateByKey(key);
         SaTokenDao saTokenDao = SaManager.getSaTokenDao();
         String redisKey = smsEnum.getRedisKey();
@@ -64,6 +75,7 @@ public class PhoneLoginEndPoint {
             long expire = saTokenDao.getTimeout(redisKey);
             return Result.ok(expire, "请等待 " + expire + " 秒后再试");
         }
+        this.loginRateLimiter.checkSendCode(this.clientIpResolver.resolve(request));
         // 发送验证码
         long codeExpireSeconds =  saTokenDao.getTimeout(redisKey + phone);
         if (codeExpireSeconds > 0){
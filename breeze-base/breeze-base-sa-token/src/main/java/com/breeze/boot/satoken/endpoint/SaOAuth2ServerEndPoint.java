@@ -17,12 +17,18 @@
 package com.breeze.boot.satoken.endpoint;
 
 import cn.dev33.satoken.context.SaHolder;
+import cn.dev33.satoken.context.model.SaRequest;
+import cn.dev33.satoken.oauth2.consts.SaOAuth2Consts;
 import cn.dev33.satoken.oauth2.SaOAuth2Manager;
 import cn.dev33.satoken.oauth2.processor.SaOAuth2ServerProcessor;
 import cn.dev33.satoken.oauth2.template.SaOAuth2Util;
+import cn.hutool.core.util.StrUtil;
 import com.breeze.boot.core.model.UserPrincipal;
 import com.breeze.boot.core.utils.Result;
+import com.breeze.boot.satoken.limit.ClientIpResolver;
+import com.breeze.boot.satoken.limit.LoginRateLimiter;
 import com.breeze.boot.satoken.oauth2.IUserDetailService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -43,6 +49,10 @@ public class SaOAuth2ServerEndPoint {
 
     private final IUserDetailService userDetailService;
 
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final ClientIpResolver clientIpResolver;
+
     /**
      * OAuth2-Server 端：处理所有 OAuth2 相关请求
      *
@@ -50,10 +60,33 @@ public class SaOAuth2ServerEndPoint {
      */
     @RequestMapping("/oauth2/*")
     public Object request() {
-        log.info("------- 进入请求: " + SaHolder.getRequest().getUrl());
+        SaRequest req = SaHolder.getRequest();
+        log.info("------- 进入请求: " + req.getUrl());
+        if (req.isPath(SaOAuth2Consts.Api.token)) {
+            return this.token(req);
+        }
         return SaOAuth2ServerProcessor.instance.dister();
     }
 
+    /**
+     * 账号登录类授权（用户名、手机号、邮箱）按客户端 IP、账号统计失败次数，刷新令牌、客户端模式等不带账号的请求不限制
+     *
+     * @param req 请求
+     * @return {@link Object }
+     */
+    private Object token(SaRequest req) {
+        String account = StrUtil.firstNonBlank(req.getParam("username"), req.getParam("phone"), req.getParam("email"));
+        if (StrUtil.isBlank(account)) {
+            return SaOAuth2ServerProcessor.instance.dister();
+        }
+        String ip = this.clientIpResolver.resolve((HttpServletRequest) req.getSource());
+        // 预占一次失败次数，授权失败抛出异常时保留
+        String permit = this.loginRateLimiter.acquireLogin(account, ip);
+        Object result = SaOAuth2ServerProcessor.instance.dister();
+        this.loginRateLimiter.onLoginSuccess(account, ip, permit);
+        return result;
+    }
+
     /**
      * 获取 userinfo 信息
      *
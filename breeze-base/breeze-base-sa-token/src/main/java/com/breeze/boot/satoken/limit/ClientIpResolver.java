@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken.limit;
+
+import cn.hutool.core.lang.Validator;
+import cn.hutool.core.net.NetUtil;
+import cn.hutool.core.util.StrUtil;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * 客户端 IP 解析
+ * <p>
+ * 默认使用连接的远端地址，客户端无法伪造。只有远端地址属于受信任的反向代理时才读取 X-Forwarded-For，
+ * 从右向左跳过受信任的代理，取第一个不受信任的地址，客户端自行添加在左侧的地址不会被采用。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public class ClientIpResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private static final String CIDR_SEPARATOR = "/";
+
+    private final List<String> trustedProxies;
+
+    public ClientIpResolver(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies == null ? List.of() : List.copyOf(trustedProxies);
+    }
+
+    /**
+     * 解析客户端 IP
+     *
+     * @param request 请求
+     * @return {@link String}
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!this.isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (StrUtil.isBlank(forwardedFor)) {
+            return remoteAddr;
+        }
+        String[] addresses = forwardedFor.split(",");
+        for (int i = addresses.length - 1; i >= 0; i--) {
+            String address = addresses[i].trim();
+            if (!address.isEmpty() && !this.isTrusted(address)) {
+                return address;
+            }
+        }
+        return remoteAddr;
+    }
+
+    private boolean isTrusted(String address) {
+        for (String trustedProxy : this.trustedProxies) {
+            if (trustedProxy.contains(CIDR_SEPARATOR)) {
+                if (Validator.isIpv4(address) && NetUtil.isInRange(address, trustedProxy)) {
+                    return true;
+                }
+            } else if (trustedProxy.equals(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
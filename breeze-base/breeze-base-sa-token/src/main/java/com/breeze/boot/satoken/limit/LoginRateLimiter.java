@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken.limit;
+
+import com.breeze.boot.core.exception.BreezeBizException;
+import com.breeze.boot.redis.limiter.RedisRateLimiter;
+import com.breeze.boot.satoken.propertise.LoginLimitProperties;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.breeze.boot.core.constants.CacheConstants.LOGIN_LIMIT;
+import static com.breeze.boot.core.enums.ResultCode.TOO_MANY_REQUESTS;
+
+/**
+ * 登录限流
+ * <p>
+ * 登录只统计失败次数，分三个窗口：同一 IP 对同一账号、同一 IP 对所有账号、同一账号（不区分 IP）。
+ * 每次登录前在一个 Lua 脚本内同时检查并预占三个窗口，并发猜测不会同时通过检查；
+ * 登录成功归还预占，并清除该 IP 对该账号的失败记录，失败则预占保留为一次失败。
+ * 单个账号的总上限大于单个 IP 的上限，其他 IP 少量输错不会锁定该账号。
+ * 发送验证码以客户端 IP 为维度，在短信、邮件发送之前拦截。客户端 IP 由 {@link ClientIpResolver} 解析。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+
+    private final RedisRateLimiter redisRateLimiter;
+
+    private final LoginLimitProperties properties;
+
+    /**
+     * 登录前预占一次失败次数，任一窗口已达上限则拒绝
+     *
+     * @param account 账号（用户名、手机号、邮箱）
+     * @param ip      客户端 IP
+     * @return {@link String} 预占凭证，未开启限流返回 null
+     */
+    public String acquireLogin(String account, String ip) {
+        if (!this.properties.isEnabled()) {
+            return null;
+        }
+        long[] limits = {this.properties.getLoginLimit(), this.properties.getIpLoginLimit(), this.properties.getAccountLoginLimit()};
+        String permit = this.redisRateLimiter.reserve(failKeys(account, ip), limits, this.properties.getWindowSeconds());
+        if (permit == null) {
+            throw new BreezeBizException(TOO_MANY_REQUESTS);
+        }
+        return permit;
+    }
+
+    /**
+     * 登录成功，归还预占并清除该 IP 对该账号的失败记录
+     *
+     * @param account 账号（用户名、手机号、邮箱）
+     * @param ip      客户端 IP
+     * @param permit  {@link #acquireLogin(String, String)} 返回的预占凭证
+     */
+    public void onLoginSuccess(String account, String ip, String permit) {
+        if (permit == null) {
+            return;
+        }
+        List<String> keys = failKeys(account, ip);
+        this.redisRateLimiter.release(keys, permit);
+        this.redisRateLimiter.reset(keys.get(0));
+    }
+
+    /**
+     * 发送验证码限流
+     *
+     * @param ip 客户端 IP
+     */
+    public void checkSendCode(String ip) {
+        if (!this.properties.isEnabled()) {
+            return;
+        }
+        if (!this.redisRateLimiter.tryAcquire(LOGIN_LIMIT + "send-code:" + ip, this.properties.getSendCodeLimit(), this.properties.getWindowSeconds())) {
+            throw new BreezeBizException(TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * 失败次数窗口：IP + 账号、IP、账号，顺序与上限一一对应
+     */
+    private static List<String> failKeys(String account, String ip) {
+        return Arrays.asList(LOGIN_LIMIT + "fail:" + ip + ":" + account, LOGIN_LIMIT + "fail:" + ip,
+                LOGIN_LIMIT + "fail-account:" + account);
+    }
+
+}
@@ -31,6 +31,7 @@ import com.breeze.boot.log.events.PublisherSaveSysLogEvent;
 import com.breeze.boot.log.events.SysLogSaveEvent;
 import com.breeze.boot.satoken.oauth2.IUserDetailService;
 import com.breeze.boot.satoken.propertise.AesSecretProperties;
+import com.breeze.boot.satoken.spt.BreezePermissionCache;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -59,6 +60,8 @@ public class BreezePasswordGrantTypeHandler extends PasswordGrantTypeHandler {
 
     private final PublisherSaveSysLogEvent publisherSaveSysLogEvent;
 
+    private final BreezePermissionCache permissionCache;
+
     private final Function<HttpServletRequest, Boolean> captchaServiceFunction;
 
     @Override
@@ -76,6 +79,7 @@ public class BreezePasswordGrantTypeHandler extends PasswordGrantTypeHandler {
             SysLogBO sysLogBO = this.buildLog(requestAttributes.getRequest(), SUCCESS.getCode(), username);
             this.publisherSaveSysLogEvent.publisherEvent(new SysLogSaveEvent(sysLogBO));
             SaManager.getSaTokenDao().delete(ROLE_PERMISSION + userPrincipal.getId());
+            this.permissionCache.evictUser(userPrincipal.getId());
             StpUtil.login(userPrincipal.getId());
             return new PasswordAuthResult(userPrincipal.getId());
         }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken.propertise;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 登录限流属性
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "breeze.login-limit")
+public class LoginLimitProperties {
+
+    /**
+     * 是否开启
+     */
+    private boolean enabled = true;
+
+    /**
+     * 滑动窗口长度（秒）
+     */
+    private long windowSeconds = 60;
+
+    /**
+     * 窗口内同一 IP 对同一账号（用户名、手机号、邮箱）允许的登录失败次数
+     */
+    private long loginLimit = 10;
+
+    /**
+     * 窗口内同一 IP 对所有账号合计允许的登录失败次数
+     */
+    private long ipLoginLimit = 50;
+
+    /**
+     * 窗口内同一账号（不区分 IP）合计允许的登录失败次数
+     */
+    private long accountLoginLimit = 30;
+
+    /**
+     * 窗口内同一 IP 允许发送验证码的次数
+     */
+    private long sendCodeLimit = 5;
+
+    /**
+     * 受信任的反向代理地址（IP 或 IPv4 CIDR），只有请求来自这些地址时才读取 X-Forwarded-For，
+     * 为空时直接使用连接的远端地址
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+
+}
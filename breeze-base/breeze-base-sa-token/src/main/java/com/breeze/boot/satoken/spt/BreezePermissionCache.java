@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken.spt;
+
+import cn.hutool.core.util.StrUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.breeze.boot.core.constants.CacheConstants.PERMISSIONS;
+import static com.breeze.boot.core.constants.CacheConstants.PERMISSION_INVALIDATE_CHANNEL;
+
+/**
+ * 角色权限二级缓存
+ * <p>
+ * 一级为本地短时缓存，二级为 SaTokenDao（Redis），鉴权时同一用户的角色、权限直接命中本地，
+ * 不再每个角色一次 Redis 读取。角色、菜单权限变更后通过 Redis 发布订阅通知所有节点清除本地缓存，
+ * 本地缓存的过期时间作为消息丢失时的兜底。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Slf4j
+public class BreezePermissionCache implements MessageListener {
+
+    private static final String ROLE = "role:";
+
+    private static final String USER = "user:";
+
+    private static final String ALL = "all";
+
+    /**
+     * 每次 SCAN 的数量提示以及每批删除的 key 数量
+     */
+    private static final int SCAN_COUNT = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 角色编码 -> 权限
+     */
+    private final Cache<String, List<String>> rolePermissionCache;
+
+    /**
+     * 登录ID -> 角色编码
+     */
+    private final Cache<String, List<String>> userRoleCache;
+
+    /**
+     * 登录ID -> 合并去重后的权限索引
+     */
+    private final Cache<String, PermissionIndex> userPermissionCache;
+
+    public BreezePermissionCache(StringRedisTemplate stringRedisTemplate, long expireSeconds, long maximumSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rolePermissionCache = CacheBuilder.newBuilder().expireAfterWrite(expireSeconds, TimeUnit.SECONDS).maximumSize(maximumSize).build();
+        this.userRoleCache = CacheBuilder.newBuilder().expireAfterWrite(expireSeconds, TimeUnit.SECONDS).maximumSize(maximumSize).build();
+        this.userPermissionCache = CacheBuilder.newBuilder().expireAfterWrite(expireSeconds, TimeUnit.SECONDS).maximumSize(maximumSize).build();
+    }
+
+    /**
+     * 获取角色权限
+     *
+     * @param roleCode 角色编码
+     * @param loader   本地未命中时的加载函数
+     * @return {@link List}<{@link String}>
+     */
+    public List<String> getRolePermissions(String roleCode, Callable<List<String>> loader) {
+        return get(this.rolePermissionCache, roleCode, loader);
+    }
+
+    /**
+     * 获取用户角色
+     *
+     * @param loginId 登录ID
+     * @param loader  本地未命中时的加载函数
+     * @return {@link List}<{@link String}>
+     */
+    public List<String> getUserRoles(Object loginId, Callable<List<String>> loader) {
+        return get(this.userRoleCache, loginId.toString(), loader);
+    }
+
+    /**
+     * 获取用户合并去重后的权限索引
+     *
+     * @param loginId 登录ID
+     * @param loader  本地未命中时的加载函数
+     * @return {@link PermissionIndex}
+     */
+    public PermissionIndex getUserPermissions(Object loginId, Callable<PermissionIndex> loader) {
+        return get(this.userPermissionCache, loginId.toString(), loader);
+    }
+
+    /**
+     * 角色权限变更，清除所有节点该角色以及用户合并权限的本地缓存
+     *
+     * @param roleCode 角色编码
+     */
+    public void evictRole(String roleCode) {
+        this.publish(ROLE + roleCode);
+    }
+
+    /**
+     * 用户角色变更，清除所有节点该用户的本地缓存
+     *
+     * @param loginId 登录ID
+     */
+    public void evictUser(Object loginId) {
+        this.publish(USER + loginId);
+    }
+
+    /**
+     * 菜单权限标识变更，无法确定影响的角色，删除所有角色权限的 Redis 缓存并清除所有节点的本地缓存
+     * <p>
+     * 使用 SCAN 游标分批查找、UNLINK 分批删除，不使用阻塞 Redis 的 KEYS。
+     * </p>
+     */
+    public void evictAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(PERMISSIONS + "*").count(SCAN_COUNT).build();
+        List<String> batch = new ArrayList<>(SCAN_COUNT);
+        try (Cursor<String> cursor = this.stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_COUNT) {
+                    this.stringRedisTemplate.unlink(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.stringRedisTemplate.unlink(batch);
+        }
+        this.publish(ALL);
+    }
+
+    /**
+     * 接收失效通知
+     *
+     * @param message 消息
+     * @param pattern 频道
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        this.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publish(String message) {
+        // 先清除本节点，通知失败时至少保证本节点一致
+        this.evictLocal(message);
+        try {
+            this.stringRedisTemplate.convertAndSend(PERMISSION_INVALIDATE_CHANNEL, message);
+        } catch (Exception e) {
+            log.error("发布权限缓存失效通知失败: {}", message, e);
+        }
+    }
+
+    private void evictLocal(String message) {
+        if (StrUtil.startWith(message, ROLE)) {
+            this.rolePermissionCache.invalidate(StrUtil.removePrefix(message, ROLE));
+            this.userPermissionCache.invalidateAll();
+        } else if (StrUtil.startWith(message, USER)) {
+            String loginId = StrUtil.removePrefix(message, USER);
+            this.userRoleCache.invalidate(loginId);
+            this.userPermissionCache.invalidate(loginId);
+        } else {
+            this.rolePermissionCache.invalidateAll();
+            this.userRoleCache.invalidateAll();
+            this.userPermissionCache.invalidateAll();
+        }
+    }
+
+    private static <V> V get(Cache<String, V> cache, String key, Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+}
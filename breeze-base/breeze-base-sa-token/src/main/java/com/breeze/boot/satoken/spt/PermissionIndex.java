@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken.spt;
+
+import cn.dev33.satoken.util.SaFoxUtil;
+
+import java.util.*;
+
+/**
+ * 用户权限索引
+ * <p>
+ * 登录用户合并去重后的权限编码，构建时预先编译：精确编码放入有序数组二分查找，
+ * 形如 sys:user:* 的尾部通配编码去掉 * 后作为前缀放入有序数组，并剔除被更短前缀覆盖的项，
+ * 使前缀集合互不包含，只需检查不大于目标编码的最大前缀即可，两者都是 O(log n)。
+ * 其余通配形式（如 *:user:add）数量很少，按 Sa-Token 的 vagueMatch 规则逐个匹配。
+ * </p>
+ * <p>
+ * 本身仍是一个只读 List，Sa-Token 的 hasElement 策略识别到该类型时直接调用 {@link #matches(String)}。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public final class PermissionIndex extends AbstractList<String> implements RandomAccess {
+
+    private static final String WILDCARD = "*";
+
+    private static final PermissionIndex EMPTY = new PermissionIndex(Collections.emptyList());
+
+    /**
+     * 原始权限编码，去重保序
+     */
+    private final String[] codes;
+
+    /**
+     * 精确权限编码，有序
+     */
+    private final String[] exactCodes;
+
+    /**
+     * 尾部通配权限的前缀，有序且互不为前缀
+     */
+    private final String[] prefixes;
+
+    /**
+     * 其余通配权限
+     */
+    private final String[] patterns;
+
+    /**
+     * 是否拥有 * 全部权限
+     */
+    private final boolean matchAll;
+
+    private PermissionIndex(Collection<String> permissions) {
+        Set<String> distinct = new LinkedHashSet<>(permissions);
+        distinct.remove(null);
+        this.codes = distinct.toArray(new String[0]);
+        TreeSet<String> exactSet = new TreeSet<>();
+        TreeSet<String> prefixSet = new TreeSet<>();
+        List<String> patternList = new ArrayList<>();
+        boolean all = false;
+        for (String code : this.codes) {
+            int index = code.indexOf(WILDCARD);
+            if (index < 0) {
+                exactSet.add(code);
+            } else if (WILDCARD.equals(code)) {
+                all = true;
+            } else if (index == code.length() - 1) {
+                prefixSet.add(code.substring(0, index));
+            } else {
+                patternList.add(code);
+            }
+        }
+        this.exactCodes = exactSet.toArray(new String[0]);
+        this.prefixes = removeCoveredPrefixes(prefixSet);
+        this.patterns = patternList.toArray(new String[0]);
+        this.matchAll = all;
+    }
+
+    /**
+     * 构建权限索引
+     *
+     * @param permissions 权限编码
+     * @return {@link PermissionIndex}
+     */
+    public static PermissionIndex of(Collection<String> permissions) {
+        if (permissions == null || permissions.isEmpty()) {
+            return EMPTY;
+        }
+        return new PermissionIndex(permissions);
+    }
+
+    /**
+     * 是否拥有该权限，匹配规则与 Sa-Token 默认的 hasElement 一致
+     *
+     * @param permission 需要校验的权限编码
+     * @return boolean
+     */
+    public boolean matches(String permission) {
+        if (permission == null) {
+            return false;
+        }
+        if (this.matchAll || Arrays.binarySearch(this.exactCodes, permission) >= 0) {
+            return true;
+        }
+        if (this.prefixes.length > 0) {
+            int index = Arrays.binarySearch(this.prefixes, permission);
+            // 未命中时 floor 为插入点的前一个
+            int floor = index >= 0 ? index : -index - 2;
+            if (floor >= 0 && permission.startsWith(this.prefixes[floor])) {
+                return true;
+            }
+        }
+        for (String pattern : this.patterns) {
+            if (SaFoxUtil.vagueMatch(pattern, permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String get(int index) {
+        return this.codes[index];
+    }
+
+    @Override
+    public int size() {
+        return this.codes.length;
+    }
+
+    /**
+     * 有序集合中以某前缀开头的项都连续排在它之后，顺序扫描一遍即可剔除被覆盖的前缀
+     */
+    private static String[] removeCoveredPrefixes(SortedSet<String> prefixSet) {
+        List<String> result = new ArrayList<>(prefixSet.size());
+        String last = null;
+        for (String prefix : prefixSet) {
+            if (last == null || !prefix.startsWith(last)) {
+                result.add(prefix);
+                last = prefix;
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+}
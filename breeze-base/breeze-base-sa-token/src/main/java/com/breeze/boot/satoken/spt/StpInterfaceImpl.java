@@ -21,8 +21,7 @@ import cn.dev33.satoken.stp.StpInterface;
 import com.breeze.boot.satoken.oauth2.IUserDetailService;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 import static com.breeze.boot.core.constants.CacheConstants.PERMISSIONS;
 import static com.breeze.boot.core.constants.CacheConstants.ROLE_PERMISSION;
@@ -37,24 +36,24 @@ import static com.breeze.boot.core.constants.CacheConstants.ROLE_PERMISSION;
 @RequiredArgsConstructor
 public class StpInterfaceImpl implements StpInterface {
 
+    private static final long TIMEOUT = 60 * 60 * 24 * 30;
+
     private final IUserDetailService userDetailService;
 
+    private final BreezePermissionCache permissionCache;
+
     /**
-     * 返回一个账号所拥有的权限码集合
+     * 返回一个账号所拥有的权限码集合，多个角色的权限合并去重后编译为权限索引缓存
      */
     @Override
     public List<String> getPermissionList(Object loginId, String loginType) {
-        List<String> permissions = new ArrayList<>();
-        for (String roleCode : getRoleList(loginId, loginType)) {
-            @SuppressWarnings("unchecked")
-            List<String> permissionList = (List<String>) SaManager.getSaTokenDao().getObject(PERMISSIONS + roleCode);
-            if (permissionList == null) {
-                permissionList = userDetailService.loadUserPermissionByRoleCode(roleCode);
-                SaManager.getSaTokenDao().setObject(PERMISSIONS + roleCode, permissionList, 60 * 60 * 24 * 30);
+        return this.permissionCache.getUserPermissions(loginId, () -> {
+            Set<String> permissions = new LinkedHashSet<>();
+            for (String roleCode : getRoleList(loginId, loginType)) {
+                permissions.addAll(this.permissionCache.getRolePermissions(roleCode, () -> this.loadRolePermission(roleCode)));
             }
-            permissions.addAll(permissionList);
-        }
-        return permissions;
+            return PermissionIndex.of(permissions);
+        });
     }
 
 
@@ -63,13 +62,25 @@ public class StpInterfaceImpl implements StpInterface {
      */
     @Override
     public List<String> getRoleList(Object loginId, String loginType) {
+        return this.permissionCache.getUserRoles(loginId, () -> {
+            @SuppressWarnings("unchecked")
+            List<String> roleList = (List<String>) SaManager.getSaTokenDao().getObject(ROLE_PERMISSION + loginId);
+            if (roleList == null) {
+                roleList = Optional.ofNullable(userDetailService.loadUserRoleByUserId(loginId.toString())).orElseGet(Collections::emptyList);
+                SaManager.getSaTokenDao().setObject(ROLE_PERMISSION + loginId, roleList, TIMEOUT);
+            }
+            return Collections.unmodifiableList(new ArrayList<>(roleList));
+        });
+    }
+
+    private List<String> loadRolePermission(String roleCode) {
         @SuppressWarnings("unchecked")
-        List<String> roleList = (List<String>) SaManager.getSaTokenDao().getObject(ROLE_PERMISSION + loginId);
-        if (roleList == null) {
-            roleList = userDetailService.loadUserRoleByUserId(loginId.toString());
-            SaManager.getSaTokenDao().setObject(ROLE_PERMISSION + loginId, roleList, 60 * 60 * 24 * 30);
+        List<String> permissionList = (List<String>) SaManager.getSaTokenDao().getObject(PERMISSIONS + roleCode);
+        if (permissionList == null) {
+            permissionList = Optional.ofNullable(userDetailService.loadUserPermissionByRoleCode(roleCode)).orElseGet(Collections::emptyList);
+            SaManager.getSaTokenDao().setObject(PERMISSIONS + roleCode, permissionList, TIMEOUT);
         }
-        return roleList;
+        return Collections.unmodifiableList(new ArrayList<>(permissionList));
     }
 
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken.limit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 客户端 IP 解析测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class ClientIpResolverTest {
+
+    @Test
+    void ignoresForwardedHeaderFromUntrustedClient() {
+        ClientIpResolver resolver = new ClientIpResolver(List.of());
+        assertThat(resolver.resolve(request("203.0.113.7", "1.1.1.1"))).isEqualTo("203.0.113.7");
+
+        resolver = new ClientIpResolver(List.of("10.0.0.0/8"));
+        assertThat(resolver.resolve(request("203.0.113.7", "1.1.1.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void takesRightmostUntrustedAddressBehindTrustedProxies() {
+        ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "192.168.1.5"));
+        // 客户端伪造的 1.1.1.1 位于最左侧，代理追加的真实地址位于其右
+        assertThat(resolver.resolve(request("10.0.0.2", "1.1.1.1, 203.0.113.7, 192.168.1.5"))).isEqualTo("203.0.113.7");
+        assertThat(resolver.resolve(request("192.168.1.5", "203.0.113.7"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void fallsBackToRemoteAddress() {
+        ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8"));
+        assertThat(resolver.resolve(request("10.0.0.2", null))).isEqualTo("10.0.0.2");
+        assertThat(resolver.resolve(request("10.0.0.2", " , 10.0.0.3"))).isEqualTo("10.0.0.2");
+        assertThat(resolver.resolve(request("::1", "1.1.1.1"))).isEqualTo("::1");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+}
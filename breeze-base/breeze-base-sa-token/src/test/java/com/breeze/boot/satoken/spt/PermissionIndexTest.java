@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.satoken.spt;
+
+import cn.dev33.satoken.util.SaFoxUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 用户权限索引测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class PermissionIndexTest {
+
+    private static final List<String> PERMISSIONS = Arrays.asList(
+            "sys:user:add", "sys:user:add", null, "sys:role:*", "sys:role:menu:*", "bpm:*", "bpm:task:*",
+            "*:dept:list", "sys:*:export", "sys:post:list");
+
+    private static final List<String> REQUIRED = Arrays.asList(
+            "sys:user:add", "sys:user:delete", "sys:role:list", "sys:role:menu:edit", "sys:role", "sys:rol",
+            "bpm:task:complete", "bpm:", "bpm", "sys:dept:list", "flow:dept:list", "sys:dept:lists",
+            "sys:user:export", "sys:export", "sys:post:list", "sys:post", "", "*");
+
+    @Test
+    void matchesSameAsVagueMatch() {
+        PermissionIndex index = PermissionIndex.of(PERMISSIONS);
+        for (String permission : REQUIRED) {
+            assertThat(index.matches(permission))
+                    .as(permission)
+                    .isEqualTo(vagueMatchAny(PERMISSIONS, permission));
+        }
+    }
+
+    @Test
+    void coveredPrefixesStillMatch() {
+        // sys:role:menu:* 被 sys:role:* 覆盖，剔除后仍能通过更短前缀命中
+        PermissionIndex index = PermissionIndex.of(Arrays.asList("sys:role:*", "sys:role:menu:*", "sys:rolex:list"));
+        assertThat(index.matches("sys:role:menu:edit")).isTrue();
+        assertThat(index.matches("sys:rolex:list")).isTrue();
+        assertThat(index.matches("sys:rolex:add")).isFalse();
+    }
+
+    @Test
+    void matchAll() {
+        PermissionIndex index = PermissionIndex.of(Arrays.asList("sys:user:add", "*"));
+        assertThat(index.matches("any:thing")).isTrue();
+        assertThat(index.matches(null)).isFalse();
+    }
+
+    @Test
+    void keepsDistinctCodesInOrder() {
+        PermissionIndex index = PermissionIndex.of(PERMISSIONS);
+        assertThat(index).containsExactly("sys:user:add", "sys:role:*", "sys:role:menu:*", "bpm:*", "bpm:task:*",
+                "*:dept:list", "sys:*:export", "sys:post:list");
+        assertThat(PermissionIndex.of(null)).isEmpty();
+        assertThat(PermissionIndex.of(List.of()).matches("sys:user:add")).isFalse();
+    }
+
+    private static boolean vagueMatchAny(List<String> permissions, String permission) {
+        for (String pattern : permissions) {
+            if (pattern != null && SaFoxUtil.vagueMatch(pattern, permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -16,19 +16,17 @@
 
 package com.breeze.boot.xss.config;
 
-import cn.hutool.core.io.FastByteArrayOutputStream;
-import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.http.HtmlUtil;
-import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
-import java.io.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -48,9 +46,6 @@ public class XssHttpServletRequestWrapper extends HttpServletRequestWrapper {
     // 原始的 HttpServletRequest 对象，用于后续获取请求相关信息
     private final HttpServletRequest servletRequest;
 
-    // 用于缓存处理后的请求体内容，避免重复读取和处理
-    private byte[] cachedBody;
-
     /**
      * 构造函数，初始化包装器
      *
@@ -62,7 +57,7 @@ public class XssHttpServletRequestWrapper extends HttpServletRequestWrapper {
     }
 
     /**
-     * 重写 getInputStream 方法，实现请求体的可重复读取以及对 application/json 类型请求体的 XSS 过滤
+     * 重写 getInputStream 方法，对 application/json 类型请求体进行流式 XSS 过滤
      *
      * @return 经过处理的 ServletInputStream 对象
      * @throws IOException 读取输入流时可能抛出的 IO 异常
@@ -80,69 +75,8 @@ public class XssHttpServletRequestWrapper extends HttpServletRequestWrapper {
             return super.getInputStream();
         }
 
-        // 如果 cachedBody 为空，说明还没有对请求体进行读取和处理
-        if (cachedBody == null) {
-            // 使用 try-with-resources 语句确保输入流和输出流在使用完毕后能正确关闭
-            try (InputStream inputStream = super.getInputStream();
-                 FastByteArrayOutputStream outputStream = new FastByteArrayOutputStream()) {
-                // 将输入流中的内容复制到输出流中
-                IoUtil.copy(inputStream, outputStream);
-                // 将输出流中的内容转换为字符串
-                String json = outputStream.toString(StandardCharsets.UTF_8);
-                // 如果字符串不为空，对其进行 XSS 过滤，去除 HTML 标签
-                if (StrUtil.isNotBlank(json)) {
-                    json = HtmlUtil.cleanHtmlTag(json);
-                }
-                // 将过滤后的字符串转换为字节数组并缓存到 cachedBody 中
-                cachedBody = json.getBytes(StandardCharsets.UTF_8);
-            }
-        }
-
-        // 根据缓存的字节数组创建一个新的 ByteArrayInputStream
-        final ByteArrayInputStream bis = new ByteArrayInputStream(cachedBody);
-        // 返回一个自定义的 ServletInputStream，用于读取缓存的请求体内容
-        return new ServletInputStream() {
-            /**
-             * 判断输入流是否已经读取完毕
-             *
-             * @return 如果输入流中没有剩余字节可读，返回 true；否则返回 false
-             */
-            @Override
-            public boolean isFinished() {
-                return bis.available() == 0;
-            }
-
-            /**
-             * 判断输入流是否准备好被读取
-             *
-             * @return 这里直接返回 true，表示随时可以读取
-             */
-            @Override
-            public boolean isReady() {
-                return true;
-            }
-
-            /**
-             * 设置读取监听器，这里不做具体实现
-             *
-             * @param readListener 读取监听器对象
-             */
-            @Override
-            public void setReadListener(ReadListener readListener) {
-                // 不实现
-            }
-
-            /**
-             * 从输入流中读取一个字节
-             *
-             * @return 读取的字节数据，如果已经到达流的末尾，返回 -1
-             * @throws IOException 读取过程中可能抛出的 IO 异常
-             */
-            @Override
-            public int read() throws IOException {
-                return bis.read();
-            }
-        };
+        // 边读边过滤，只清理 JSON 字符串值中的 HTML 标签，不再整体缓存请求体
+        return new XssJsonSanitizingInputStream(super.getInputStream());
     }
 
     /**
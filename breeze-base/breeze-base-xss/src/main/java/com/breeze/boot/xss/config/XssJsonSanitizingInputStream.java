@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.xss.config;
+
+import cn.hutool.http.HtmlUtil;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+/**
+ * JSON 请求体流式 XSS 过滤
+ * <p>
+ * 基于 Jackson 的 token 流边读边写，只清理字符串值中的 HTML 标签，字段名、数字、布尔等原样输出。
+ * 每次只解析到输出缓冲达到 {@link #CHUNK_SIZE} 为止，内存占用与请求体大小无关（单个字符串值除外）。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public class XssJsonSanitizingInputStream extends ServletInputStream {
+
+    /**
+     * 与 {@link HtmlUtil#cleanHtmlTag(String)} 相同的规则，预编译后复用
+     */
+    private static final Pattern HTML_TAG = Pattern.compile(HtmlUtil.RE_HTML_MARK);
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    /**
+     * 每次填充的输出字节数
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    private final JsonParser parser;
+
+    private final JsonGenerator generator;
+
+    private final ChunkBuffer buffer = new ChunkBuffer();
+
+    private int position;
+
+    private boolean finished;
+
+    public XssJsonSanitizingInputStream(InputStream source) throws IOException {
+        this.parser = JSON_FACTORY.createParser(source);
+        this.generator = JSON_FACTORY.createGenerator(this.buffer);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.fill()) {
+            return -1;
+        }
+        return this.buffer.bytes()[this.position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!this.fill()) {
+            return -1;
+        }
+        int n = Math.min(len, this.buffer.size() - this.position);
+        System.arraycopy(this.buffer.bytes(), this.position, b, off, n);
+        this.position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.size() - this.position;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.finished && this.position >= this.buffer.size();
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+        // 不实现
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.finished = true;
+        this.parser.close();
+    }
+
+    /**
+     * 缓冲已读完时继续解析下一批 token
+     *
+     * @return 是否还有可读数据
+     * @throws IOException 读取或者 JSON 格式错误
+     */
+    private boolean fill() throws IOException {
+        while (this.position >= this.buffer.size()) {
+            if (this.finished) {
+                return false;
+            }
+            this.buffer.reset();
+            this.position = 0;
+            JsonToken token;
+            while (this.buffer.size() + this.generator.getOutputBuffered() < CHUNK_SIZE
+                    && (token = this.parser.nextToken()) != null) {
+                this.copy(token);
+            }
+            this.generator.flush();
+            if (this.buffer.size() < CHUNK_SIZE) {
+                this.finished = true;
+                this.generator.close();
+                this.parser.close();
+            }
+        }
+        return true;
+    }
+
+    private void copy(JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                this.generator.writeString(clean(this.parser.getText()));
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                // 按原文输出，避免浮点数精度变化
+                this.generator.writeNumber(this.parser.getText());
+                break;
+            default:
+                this.generator.copyCurrentEvent(this.parser);
+        }
+    }
+
+    private static String clean(String value) {
+        if (value.indexOf('<') < 0) {
+            return value;
+        }
+        return HTML_TAG.matcher(value).replaceAll("");
+    }
+
+    /**
+     * 可直接访问内部数组的输出缓冲，避免 toByteArray 复制
+     */
+    private static class ChunkBuffer extends ByteArrayOutputStream {
+
+        ChunkBuffer() {
+            super(CHUNK_SIZE + 1024);
+        }
+
+        byte[] bytes() {
+            return this.buf;
+        }
+
+    }
+
+}
@@ -16,7 +16,7 @@
 
 package com.breeze.boot.xss.filters;
 
-import cn.hutool.core.text.AntPathMatcher;
+import com.breeze.boot.core.utils.PathPatternSet;
 import com.breeze.boot.xss.config.XssProperties;
 import com.breeze.boot.xss.config.XssHttpServletRequestWrapper;
 import jakarta.servlet.FilterChain;
@@ -28,7 +28,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * xss过滤器
@@ -40,14 +39,9 @@ import java.util.List;
 public class XssFilter extends GenericFilterBean {
 
     /**
-     * xss属性
+     * 预编译的忽略路径
      */
-    private final XssProperties xssProperties;
-
-    /**
-     * 匹配器
-     */
-    private final AntPathMatcher matcher = new AntPathMatcher("/");
+    private final PathPatternSet ignorePatterns;
 
     /**
      * xss过滤器
@@ -55,7 +49,7 @@ public class XssFilter extends GenericFilterBean {
      * @param xssProperties xss属性
      */
     public XssFilter(XssProperties xssProperties) {
-        this.xssProperties = xssProperties;
+        this.ignorePatterns = PathPatternSet.of(xssProperties.getIgnoreUrls());
     }
 
     /**
@@ -78,13 +72,7 @@ public class XssFilter extends GenericFilterBean {
     }
 
     private boolean match(HttpServletRequest request) {
-        List<String> ignoreUrls = this.xssProperties.getIgnoreUrls();
-        for (String ignoreUrl : ignoreUrls) {
-            if (matcher.match(ignoreUrl, request.getRequestURI())) {
-                return Boolean.TRUE;
-            }
-        }
-        return Boolean.FALSE;
+        return this.ignorePatterns.matches(request.getRequestURI());
     }
 
 }
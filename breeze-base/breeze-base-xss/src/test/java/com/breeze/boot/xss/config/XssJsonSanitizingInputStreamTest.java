@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.xss.config;
+
+import cn.hutool.http.HtmlUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON 请求体流式 XSS 过滤测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class XssJsonSanitizingInputStreamTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void fieldNamesAndNumbersPassThrough() throws IOException {
+        String body = "{\"<b>name</b>\":\"<script>alert(1)</script>tom\",\"price\":0.10,\"big\":123456789012345678901234567890,"
+                + "\"exp\":1.5E+300,\"neg\":-7,\"ok\":true,\"none\":null,\"tags\":[\"<i>a</i>\",2]}";
+
+        String sanitized = sanitize(body);
+
+        assertThat(sanitized).isEqualTo("{\"<b>name</b>\":\"alert(1)tom\",\"price\":0.10,\"big\":123456789012345678901234567890,"
+                + "\"exp\":1.5E+300,\"neg\":-7,\"ok\":true,\"none\":null,\"tags\":[\"a\",2]}");
+    }
+
+    @Test
+    void stringsMatchCleanHtmlTag() throws IOException {
+        String value = "a<img src=x onerror=alert(1)>b</ p><br/>c < d";
+
+        JsonNode node = OBJECT_MAPPER.readTree(sanitize(OBJECT_MAPPER.writeValueAsString(new String[]{value, "no tag"})));
+
+        assertThat(node.get(0).asText()).isEqualTo(HtmlUtil.cleanHtmlTag(value));
+        assertThat(node.get(1).asText()).isEqualTo("no tag");
+    }
+
+    @Test
+    void bodyLargerThanChunkRoundTrips() throws IOException {
+        StringBuilder body = new StringBuilder("[");
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            if (i > 0) {
+                body.append(',');
+                expected.append(',');
+            }
+            body.append("{\"id\":").append(i).append(",\"text\":\"<p>row ").append(i).append("</p>\"}");
+            expected.append("{\"id\":").append(i).append(",\"text\":\"row ").append(i).append("\"}");
+        }
+        body.append(']');
+        expected.append(']');
+        assertThat(body.length()).isGreaterThan(8192 * 4);
+
+        assertThat(sanitize(body.toString())).isEqualTo(expected.toString());
+        assertThat(sanitizeByteByByte(body.toString())).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void singleStringLargerThanChunkRoundTrips() throws IOException {
+        String text = "x".repeat(20000);
+
+        assertThat(sanitize("{\"text\":\"<b>" + text + "</b>\"}")).isEqualTo("{\"text\":\"" + text + "\"}");
+    }
+
+    @Test
+    void emptyBodyIsFinishedImmediately() throws IOException {
+        XssJsonSanitizingInputStream in = new XssJsonSanitizingInputStream(new ByteArrayInputStream(new byte[0]));
+
+        assertThat(in.read()).isEqualTo(-1);
+        assertThat(in.read(new byte[16], 0, 16)).isEqualTo(-1);
+        assertThat(in.isFinished()).isTrue();
+    }
+
+    private static String sanitize(String body) throws IOException {
+        try (InputStream in = new XssJsonSanitizingInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String sanitizeByteByByte(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new XssJsonSanitizingInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                out.write(b);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+}
@@ -26,7 +26,10 @@ public class AjCaptchaServiceAutoConfiguration {
 
     private static Logger logger = LoggerFactory.getLogger(AjCaptchaServiceAutoConfiguration.class);
 
-    @Bean
+    /**
+     * 容器关闭时调用 shutdown 停止预生成验证码池的补充线程
+     */
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean
     public CaptchaService captchaService(AjCaptchaProperties prop) {
         logger.info("自定义配置项：{}", prop.toString());
@@ -57,6 +60,11 @@ public class AjCaptchaServiceAutoConfiguration {
         config.put(Const.CAPTCHA_FONT_STYLE, prop.getFontStyle() + "");
         config.put(Const.CAPTCHA_WORD_COUNT, prop.getClickWordCount() + "");
 
+        config.put(Const.CAPTCHA_POOL_ENABLE, prop.isPoolEnable() ? "1" : "0");
+        config.put(Const.CAPTCHA_POOL_SIZE, prop.getPoolSize() + "");
+        config.put(Const.CAPTCHA_POOL_LOW_WATER, prop.getPoolLowWater() + "");
+        config.put(Const.CAPTCHA_POOL_WORKERS, prop.getPoolWorkers() + "");
+
         if ((StringUtils.isNotBlank(prop.getJigsaw()) && prop.getJigsaw().startsWith("classpath:"))
                 || (StringUtils.isNotBlank(prop.getPicClick()) && prop.getPicClick().startsWith("classpath:"))) {
             //自定义resources目录下初始化底图
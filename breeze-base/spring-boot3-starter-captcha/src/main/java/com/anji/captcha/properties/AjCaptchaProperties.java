@@ -69,7 +69,7 @@ public class AjCaptchaProperties {
     private String timingClear = "180";
 
     /**
-     * 缓存类型redis/local/....
+     * 缓存类型redis/local/bounded/....
      */
     private StorageType cacheType = local;
     /**
@@ -113,6 +113,26 @@ public class AjCaptchaProperties {
      */
     private int clickWordCount = 4;
 
+    /**
+     * 预生成验证码池开关
+     */
+    private boolean poolEnable = false;
+
+    /**
+     * 每种验证码预生成的数量
+     */
+    private int poolSize = 100;
+
+    /**
+     * 可用数量低于该值时后台补充
+     */
+    private int poolLowWater = 50;
+
+    /**
+     * 每种验证码的补充线程数
+     */
+    private int poolWorkers = 1;
+
     public int getFontStyle() {
         return fontStyle;
     }
@@ -206,6 +226,10 @@ public class AjCaptchaProperties {
          * redis.
          */
         redis,
+        /**
+         * 有界内存，按条目过期以及 LRU 淘汰.
+         */
+        bounded,
         /**
          * 其他.
          */
@@ -312,6 +336,38 @@ public class AjCaptchaProperties {
         this.timingClear = timingClear;
     }
 
+    public boolean isPoolEnable() {
+        return poolEnable;
+    }
+
+    public void setPoolEnable(boolean poolEnable) {
+        this.poolEnable = poolEnable;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getPoolLowWater() {
+        return poolLowWater;
+    }
+
+    public void setPoolLowWater(int poolLowWater) {
+        this.poolLowWater = poolLowWater;
+    }
+
+    public int getPoolWorkers() {
+        return poolWorkers;
+    }
+
+    public void setPoolWorkers(int poolWorkers) {
+        this.poolWorkers = poolWorkers;
+    }
+
     @Override
     public String toString() {
         return "\nAjCaptchaProperties{" +
@@ -333,6 +389,10 @@ public class AjCaptchaProperties {
                 ", reqGetMinuteLimit=" + reqGetMinuteLimit +
                 ", reqCheckMinuteLimit=" + reqCheckMinuteLimit +
                 ", reqVerifyMinuteLimit=" + reqVerifyMinuteLimit +
+                ", poolEnable=" + poolEnable +
+                ", poolSize=" + poolSize +
+                ", poolLowWater=" + poolLowWater +
+                ", poolWorkers=" + poolWorkers +
                 '}';
     }
 }
@@ -16,10 +16,16 @@
 
 package com.breeze.boot.bpm.config;
 
+import com.breeze.boot.bpm.service.impl.BpmProcessMetadataCache;
+import lombok.RequiredArgsConstructor;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.spring.SpringProcessEngineConfiguration;
 import org.flowable.spring.boot.EngineConfigurationConfigurer;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * flowable配置
  *
@@ -27,8 +33,10 @@ import org.springframework.context.annotation.Configuration;
  * @since 2023-03-07
  */
 @Configuration
+@RequiredArgsConstructor
 public class FlowableConfig implements EngineConfigurationConfigurer<SpringProcessEngineConfiguration> {
 
+    private final BpmProcessMetadataCache processMetadataCache;
 
     @Override
     public void configure(SpringProcessEngineConfiguration engineConfiguration) {
@@ -36,6 +44,13 @@ public class FlowableConfig implements EngineConfigurationConfigurer<SpringProce
         engineConfiguration.setLabelFontName("宋体");
         engineConfiguration.setAnnotationFontName("宋体");
         // engineConfiguration.setIdGenerator(new MyIdGenerator());
+        // 流程定义挂起、删除时清除元数据缓存
+        List<FlowableEventListener> eventListeners = new ArrayList<>();
+        if (engineConfiguration.getEventListeners() != null) {
+            eventListeners.addAll(engineConfiguration.getEventListeners());
+        }
+        eventListeners.add(this.processMetadataCache);
+        engineConfiguration.setEventListeners(eventListeners);
     }
 
 
@@ -23,4 +23,12 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface MembershipMapper extends BreezeBaseMapper<Membership> {
 
+    /**
+     * 删除用户与用户组关系
+     *
+     * @param membership 用户用户组关系
+     * @return int
+     */
+    int deleteMembership(Membership membership);
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.bpm.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 流程用户同步进度VO
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "流程用户同步进度VO")
+public class BpmIdentitySyncVO {
+
+    @Schema(description = "是否同步中")
+    private Boolean running;
+
+    @Schema(description = "当前阶段")
+    private String phase;
+
+    @Schema(description = "开始时间")
+    private LocalDateTime startTime;
+
+    @Schema(description = "耗时（毫秒）")
+    private Long elapsedMillis;
+
+    @Schema(description = "各阶段耗时（毫秒）")
+    private Map<String, Long> phaseMillis;
+
+    @Schema(description = "需要写入的总行数")
+    private Long total;
+
+    @Schema(description = "已写入的行数")
+    private Long processed;
+
+    @Schema(description = "新增用户数")
+    private Integer userInserted;
+
+    @Schema(description = "更新用户数")
+    private Integer userUpdated;
+
+    @Schema(description = "删除用户数")
+    private Integer userDeleted;
+
+    @Schema(description = "新增用户组数")
+    private Integer groupInserted;
+
+    @Schema(description = "更新用户组数")
+    private Integer groupUpdated;
+
+    @Schema(description = "新增用户组关系数")
+    private Integer membershipInserted;
+
+    @Schema(description = "删除用户组关系数")
+    private Integer membershipDeleted;
+
+    @Schema(description = "失败原因")
+    private String error;
+
+}
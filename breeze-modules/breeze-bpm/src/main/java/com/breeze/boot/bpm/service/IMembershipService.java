@@ -19,6 +19,17 @@ package com.breeze.boot.bpm.service;
 import com.baomidou.mybatisplus.extension.service.IService;
 import com.breeze.boot.bpm.model.entity.Membership;
 
+import java.util.Collection;
+
 public interface IMembershipService extends IService<Membership> {
 
+    /**
+     * 批量删除用户与用户组关系
+     *
+     * @param membershipList 用户用户组关系
+     * @param batchSize      批次大小
+     * @return boolean
+     */
+    boolean removeBatch(Collection<Membership> membershipList, int batchSize);
+
 }
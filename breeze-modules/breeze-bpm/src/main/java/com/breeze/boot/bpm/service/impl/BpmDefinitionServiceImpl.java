@@ -44,7 +44,6 @@ import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.repository.ProcessDefinitionQuery;
-import org.flowable.image.impl.DefaultProcessDiagramGenerator;
 import org.springframework.stereotype.Service;
 
 import java.io.InputStream;
@@ -71,6 +70,8 @@ public class BpmDefinitionServiceImpl implements IBpmDefinitionService {
 
     private final IActReDeploymentService actReDeploymentService;
 
+    private final BpmProcessDiagramCache processDiagramCache;
+
     /**
      * 部署
      *
@@ -258,7 +259,6 @@ public class BpmDefinitionServiceImpl implements IBpmDefinitionService {
         try {
             // 查询流程实例
             ProcessDefinition definition = this.getProcessDefinition(procDefKey, version);
-            DefaultProcessDiagramGenerator defaultProcessDiagramGenerator = new DefaultProcessDiagramGenerator();
             List<String> highLightedActivityList = new ArrayList<>();
             List<String> highLightedFlows = new ArrayList<>();
             // 查询流程实例的所有历史活动实例
@@ -273,15 +273,12 @@ public class BpmDefinitionServiceImpl implements IBpmDefinitionService {
                     highLightedActivityList.add(hisActiInst.getActivityId());
                 }
             });
-            // 生成图片
-            BpmnModel bpmnModel = this.repositoryService.getBpmnModel(definition.getId());
-            try (InputStream inputStream = defaultProcessDiagramGenerator.generateDiagram(bpmnModel,
-                    "png",
+            // 在缓存的底图上叠加高亮
+            byte[] png = this.processDiagramCache.render(definition.getId(),
+                    () -> this.repositoryService.getBpmnModel(definition.getId()),
                     highLightedActivityList,
-                    highLightedFlows,
-                    "宋体", "微软雅黑", "宋体", null, 1.0d, true)) {
-                return "data:image/png;base64," + Base64.encode(inputStream);
-            }
+                    highLightedFlows);
+            return "data:image/png;base64," + Base64.encode(png);
         } catch (Exception e) {
             log.error("获取流程图片失败", e);
         }
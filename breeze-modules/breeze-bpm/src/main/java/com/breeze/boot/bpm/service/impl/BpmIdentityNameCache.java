@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.bpm.service.impl;
+
+import cn.hutool.core.collection.CollUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.flowable.engine.IdentityService;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.User;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 流程用户、用户组名称短时缓存
+ * <p>
+ * 审批记录等场景一次需要解析大量用户、用户组名称，先取本地缓存，未命中的 ID 合并为一次 IN 查询，
+ * 过期时间较短，用户、用户组变更后最多延迟一个过期周期。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Component
+public class BpmIdentityNameCache {
+
+    private static final long EXPIRE_SECONDS = 60L;
+
+    private static final long MAXIMUM_SIZE = 10000L;
+
+    private final IdentityService identityService;
+
+    /**
+     * 用户ID -> 名称
+     */
+    private final Cache<String, String> userNameCache = CacheBuilder.newBuilder()
+            .expireAfterWrite(EXPIRE_SECONDS, TimeUnit.SECONDS)
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    /**
+     * 用户组ID -> 名称
+     */
+    private final Cache<String, String> groupNameCache = CacheBuilder.newBuilder()
+            .expireAfterWrite(EXPIRE_SECONDS, TimeUnit.SECONDS)
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    public BpmIdentityNameCache(IdentityService identityService) {
+        this.identityService = identityService;
+    }
+
+    /**
+     * 批量获取用户名称，不存在的用户不返回
+     *
+     * @param userIds 用户ID
+     * @return {@link Map}<{@link String}, {@link String}>
+     */
+    public Map<String, String> getUserNames(Collection<String> userIds) {
+        return load(this.userNameCache, userIds, missIds -> {
+            Map<String, String> names = new HashMap<>(missIds.size());
+            for (User user : this.identityService.createUserQuery().userIds(missIds).list()) {
+                names.put(user.getId(), Objects.toString(user.getFirstName(), ""));
+            }
+            return names;
+        });
+    }
+
+    /**
+     * 批量获取用户组名称，不存在的用户组不返回
+     *
+     * @param groupIds 用户组ID
+     * @return {@link Map}<{@link String}, {@link String}>
+     */
+    public Map<String, String> getGroupNames(Collection<String> groupIds) {
+        return load(this.groupNameCache, groupIds, missIds -> {
+            Map<String, String> names = new HashMap<>(missIds.size());
+            for (Group group : this.identityService.createGroupQuery().groupIds(missIds).list()) {
+                names.put(group.getId(), Objects.toString(group.getName(), ""));
+            }
+            return names;
+        });
+    }
+
+    /**
+     * 清除缓存
+     */
+    public void invalidateAll() {
+        this.userNameCache.invalidateAll();
+        this.groupNameCache.invalidateAll();
+    }
+
+    private static Map<String, String> load(Cache<String, String> cache, Collection<String> ids,
+                                            Function<List<String>, Map<String, String>> loader) {
+        if (CollUtil.isEmpty(ids)) {
+            return Collections.emptyMap();
+        }
+        Set<String> distinctIds = new HashSet<>(ids);
+        distinctIds.remove(null);
+        Map<String, String> result = new HashMap<>(cache.getAllPresent(distinctIds));
+        if (result.size() == distinctIds.size()) {
+            return result;
+        }
+        List<String> missIds = new ArrayList<>(distinctIds.size() - result.size());
+        for (String id : distinctIds) {
+            if (!result.containsKey(id)) {
+                missIds.add(id);
+            }
+        }
+        Map<String, String> loaded = loader.apply(missIds);
+        cache.putAll(loaded);
+        result.putAll(loaded);
+        return result;
+    }
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.bpm.service.impl;
+
+import com.breeze.boot.bpm.model.entity.Group;
+import com.breeze.boot.bpm.model.entity.Membership;
+import com.breeze.boot.bpm.model.entity.User;
+import com.breeze.boot.bpm.model.vo.BpmIdentitySyncVO;
+import com.breeze.boot.bpm.service.IGroupService;
+import com.breeze.boot.bpm.service.IMembershipService;
+import com.breeze.boot.bpm.service.IUserService;
+import com.breeze.boot.core.enums.ResultCode;
+import com.breeze.boot.core.exception.BreezeBizException;
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 流程用户、用户组、用户组关系批量同步
+ * <p>
+ * 一次性读取 ACT_ID_USER / ACT_ID_GROUP / ACT_ID_MEMBERSHIP 的当前数据，与目标数据在内存中比较，
+ * 只写入差异部分。写入使用 BATCH 执行器，每 {@link #BATCH_SIZE} 行一个事务，不会长时间占用连接，
+ * 中途失败时已提交的批次保留，重新同步即可补齐。同一时间只允许一个同步任务，进度以及各阶段耗时可随时查询。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Slf4j
+@Component
+public class BpmIdentitySynchronizer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final IUserService userService;
+
+    private final IGroupService groupService;
+
+    private final IMembershipService membershipService;
+
+    private final BpmIdentityNameCache identityNameCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 最近一次同步的进度，未同步过为 null
+     */
+    private volatile SyncProgress progress;
+
+    public BpmIdentitySynchronizer(IUserService userService,
+                                   IGroupService groupService,
+                                   IMembershipService membershipService,
+                                   BpmIdentityNameCache identityNameCache,
+                                   PlatformTransactionManager transactionManager) {
+        this.userService = userService;
+        this.groupService = groupService;
+        this.membershipService = membershipService;
+        this.identityNameCache = identityNameCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 同步，执行完成后 ACT_ID_USER、ACT_ID_GROUP 与目标一致，不在目标中的用户连同其用户组关系一并删除，
+     * 目标用户组上多余的关系删除，不在目标中的用户组保留
+     *
+     * @param users       目标用户
+     * @param groups      目标用户组
+     * @param memberships 目标用户组关系
+     * @return {@link BpmIdentitySyncVO}
+     */
+    public BpmIdentitySyncVO sync(Collection<User> users, Collection<Group> groups, Collection<Membership> memberships) {
+        if (!this.running.compareAndSet(false, true)) {
+            throw new BreezeBizException(ResultCode.LOCK_EXCEPTION);
+        }
+        SyncProgress current = new SyncProgress();
+        this.progress = current;
+        try {
+            current.phase("load");
+            Map<String, User> currentUsers = this.userService.lambdaQuery()
+                    .select(User::getId, User::getDisplayName, User::getEmail)
+                    .list()
+                    .stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+            Map<String, Group> currentGroups = this.groupService.lambdaQuery()
+                    .select(Group::getId, Group::getName)
+                    .list()
+                    .stream()
+                    .collect(Collectors.toMap(Group::getId, Function.identity(), (a, b) -> a));
+            Set<Membership> currentMemberships = new HashSet<>(this.membershipService.list());
+
+            current.phase("diff");
+            SyncPlan plan = SyncPlan.of(currentUsers, currentGroups, currentMemberships, users, groups, memberships);
+            current.plan = plan.toVO();
+
+            // 先写入用户、用户组，再处理关系，删除用户前先删除其关系
+            this.apply(current, "group", plan.insertGroups, chunk -> this.groupService.saveBatch(chunk, BATCH_SIZE));
+            this.apply(current, "group", plan.updateGroups, chunk -> this.groupService.updateBatchById(chunk, BATCH_SIZE));
+            this.apply(current, "user", plan.insertUsers, chunk -> this.userService.saveBatch(chunk, BATCH_SIZE));
+            this.apply(current, "user", plan.updateUsers, chunk -> this.userService.updateBatchById(chunk, BATCH_SIZE));
+            this.apply(current, "membership", plan.deleteMemberships, chunk -> this.membershipService.removeBatch(chunk, BATCH_SIZE));
+            this.apply(current, "user", plan.deleteUserIds, this.userService::removeByIds);
+            this.apply(current, "membership", plan.insertMemberships, chunk -> this.membershipService.saveBatch(chunk, BATCH_SIZE));
+            this.identityNameCache.invalidateAll();
+            current.finish(null);
+            log.info("流程用户同步完成，耗时 {} ms，写入 {} 行，各阶段耗时 {}", current.elapsedMillis(), current.processed.get(), current.phaseMillis);
+        } catch (RuntimeException e) {
+            current.finish(e.getMessage());
+            log.error("流程用户同步失败，已写入 {} 行", current.processed.get(), e);
+            throw e;
+        } finally {
+            this.running.set(false);
+        }
+        return current.toVO();
+    }
+
+    /**
+     * 获取最近一次同步的进度
+     *
+     * @return {@link BpmIdentitySyncVO} 未同步过返回 null
+     */
+    public BpmIdentitySyncVO getProgress() {
+        SyncProgress current = this.progress;
+        return current == null ? null : current.toVO();
+    }
+
+    private <T> void apply(SyncProgress current, String phase, List<T> list, Consumer<List<T>> writer) {
+        if (list.isEmpty()) {
+            return;
+        }
+        current.phase(phase);
+        for (List<T> chunk : Lists.partition(list, BATCH_SIZE)) {
+            this.transactionTemplate.executeWithoutResult(status -> writer.accept(chunk));
+            current.processed.addAndGet(chunk.size());
+        }
+    }
+
+    /**
+     * 当前数据与目标数据的差异，只在内存中比较，不访问数据库
+     */
+    static final class SyncPlan {
+
+        final List<Group> insertGroups = new ArrayList<>();
+
+        final List<Group> updateGroups = new ArrayList<>();
+
+        final List<User> insertUsers = new ArrayList<>();
+
+        final List<User> updateUsers = new ArrayList<>();
+
+        final List<String> deleteUserIds;
+
+        final List<Membership> insertMemberships;
+
+        final List<Membership> deleteMemberships;
+
+        private SyncPlan(Map<String, User> currentUsers,
+                         Map<String, Group> currentGroups,
+                         Set<Membership> currentMemberships,
+                         Collection<User> users,
+                         Collection<Group> groups,
+                         Collection<Membership> memberships) {
+            for (Group group : groups) {
+                Group exists = currentGroups.get(group.getId());
+                if (exists == null) {
+                    this.insertGroups.add(group);
+                } else if (!Objects.equals(exists.getName(), group.getName())) {
+                    this.updateGroups.add(Group.builder().id(group.getId()).name(group.getName()).build());
+                }
+            }
+            Set<String> userIds = new HashSet<>(users.size());
+            for (User user : users) {
+                userIds.add(user.getId());
+                User exists = currentUsers.get(user.getId());
+                if (exists == null) {
+                    this.insertUsers.add(user);
+                } else if (!Objects.equals(exists.getDisplayName(), user.getDisplayName())
+                        || !Objects.equals(exists.getEmail(), user.getEmail())) {
+                    this.updateUsers.add(User.builder().id(user.getId()).displayName(user.getDisplayName()).email(user.getEmail()).build());
+                }
+            }
+            Set<String> deleteUserIdSet = new HashSet<>(currentUsers.keySet());
+            deleteUserIdSet.removeAll(userIds);
+            this.deleteUserIds = new ArrayList<>(deleteUserIdSet);
+            Set<String> groupIds = groups.stream().map(Group::getId).collect(Collectors.toSet());
+            Set<Membership> targetMemberships = new HashSet<>(memberships);
+            this.insertMemberships = targetMemberships.stream()
+                    .filter(membership -> !currentMemberships.contains(membership))
+                    .collect(Collectors.toList());
+            this.deleteMemberships = currentMemberships.stream()
+                    .filter(membership -> !targetMemberships.contains(membership))
+                    .filter(membership -> deleteUserIdSet.contains(membership.getUserId()) || groupIds.contains(membership.getGroupId()))
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * 比较当前数据与目标数据
+         *
+         * @param currentUsers       当前用户，id -> 用户
+         * @param currentGroups      当前用户组，id -> 用户组
+         * @param currentMemberships 当前用户组关系
+         * @param users              目标用户
+         * @param groups             目标用户组
+         * @param memberships        目标用户组关系
+         * @return {@link SyncPlan}
+         */
+        static SyncPlan of(Map<String, User> currentUsers,
+                           Map<String, Group> currentGroups,
+                           Set<Membership> currentMemberships,
+                           Collection<User> users,
+                           Collection<Group> groups,
+                           Collection<Membership> memberships) {
+            return new SyncPlan(currentUsers, currentGroups, currentMemberships, users, groups, memberships);
+        }
+
+        BpmIdentitySyncVO toVO() {
+            return BpmIdentitySyncVO.builder()
+                    .groupInserted(this.insertGroups.size())
+                    .groupUpdated(this.updateGroups.size())
+                    .userInserted(this.insertUsers.size())
+                    .userUpdated(this.updateUsers.size())
+                    .userDeleted(this.deleteUserIds.size())
+                    .membershipInserted(this.insertMemberships.size())
+                    .membershipDeleted(this.deleteMemberships.size())
+                    .total((long) this.insertGroups.size() + this.updateGroups.size() + this.insertUsers.size()
+                            + this.updateUsers.size() + this.deleteUserIds.size() + this.insertMemberships.size()
+                            + this.deleteMemberships.size())
+                    .build();
+        }
+
+    }
+
+    /**
+     * 同步进度，阶段切换只在同步线程中进行，查询线程读取快照
+     */
+    private static class SyncProgress {
+
+        private final LocalDateTime startTime = LocalDateTime.now();
+
+        private final long startNanos = System.nanoTime();
+
+        private final AtomicLong processed = new AtomicLong();
+
+        /**
+         * 阶段 -> 累计耗时（毫秒）
+         */
+        private final Map<String, Long> phaseMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        private volatile String phase;
+
+        private volatile long phaseStartNanos = System.nanoTime();
+
+        private volatile long endNanos;
+
+        private volatile boolean finished;
+
+        private volatile String error;
+
+        /**
+         * 比较得到的各类写入数量，比较完成前为空
+         */
+        private volatile BpmIdentitySyncVO plan = new BpmIdentitySyncVO();
+
+        private void phase(String next) {
+            this.endPhase();
+            this.phase = next;
+            this.phaseStartNanos = System.nanoTime();
+        }
+
+        private void finish(String error) {
+            this.endPhase();
+            this.error = error;
+            this.endNanos = System.nanoTime();
+            this.finished = true;
+        }
+
+        private void endPhase() {
+            if (this.phase != null) {
+                this.phaseMillis.merge(this.phase, (System.nanoTime() - this.phaseStartNanos) / 1_000_000, Long::sum);
+            }
+        }
+
+        private long elapsedMillis() {
+            return ((this.finished ? this.endNanos : System.nanoTime()) - this.startNanos) / 1_000_000;
+        }
+
+        private BpmIdentitySyncVO toVO() {
+            BpmIdentitySyncVO counts = this.plan;
+            Map<String, Long> phases;
+            synchronized (this.phaseMillis) {
+                phases = new LinkedHashMap<>(this.phaseMillis);
+            }
+            return BpmIdentitySyncVO.builder()
+                    .running(!this.finished)
+                    .phase(this.finished ? null : this.phase)
+                    .startTime(this.startTime)
+                    .elapsedMillis(this.elapsedMillis())
+                    .phaseMillis(phases)
+                    .total(counts.getTotal())
+                    .processed(this.processed.get())
+                    .groupInserted(counts.getGroupInserted())
+                    .groupUpdated(counts.getGroupUpdated())
+                    .userInserted(counts.getUserInserted())
+                    .userUpdated(counts.getUserUpdated())
+                    .userDeleted(counts.getUserDeleted())
+                    .membershipInserted(counts.getMembershipInserted())
+                    .membershipDeleted(counts.getMembershipDeleted())
+                    .error(this.error)
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.bpm.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.image.impl.DefaultProcessDiagramCanvas;
+import org.flowable.image.impl.DefaultProcessDiagramGenerator;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Line2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 流程图缓存
+ * <p>
+ * 已部署的流程定义不会再改变，按流程定义ID缓存不带高亮的底图，以及渲染底图时记录的节点边框、连线折点。
+ * 需要高亮时复制底图，只在其上叠加高亮的节点边框和连线，不再每次重新排版、绘制整张流程图。
+ * 高亮的样式与 {@link DefaultProcessDiagramCanvas} 保持一致。同一流程定义的高亮集合只在出现新的历史节点时变化，
+ * 叠加后的图片再按高亮集合缓存一份。缓存按占用的内存限制大小，被删除的流程定义不会再被访问，随 LRU 淘汰。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Component
+public class BpmProcessDiagramCache {
+
+    private static final String IMAGE_TYPE = "png";
+
+    private static final String ACTIVITY_FONT_NAME = "宋体";
+
+    private static final String LABEL_FONT_NAME = "微软雅黑";
+
+    private static final String ANNOTATION_FONT_NAME = "宋体";
+
+    /**
+     * 缓存占用的最大字节数
+     */
+    private static final long MAXIMUM_WEIGHT = 64L * 1024 * 1024;
+
+    /**
+     * 高亮图片缓存占用的最大字节数
+     */
+    private static final long HIGHLIGHT_MAXIMUM_WEIGHT = 16L * 1024 * 1024;
+
+    /**
+     * png 压缩质量，对应 deflate 级别 1，编码耗时约为默认级别的三分之一，图片略大
+     */
+    private static final float PNG_COMPRESSION_QUALITY = 0.8f;
+
+    private static final Color HIGHLIGHT_COLOR = Color.RED;
+
+    private static final Stroke HIGHLIGHT_ACTIVITY_STROKE = new BasicStroke(3.0f);
+
+    private static final Stroke HIGHLIGHT_FLOW_STROKE = new BasicStroke(1.3f);
+
+    private static final int ARROW_WIDTH = 5;
+
+    /**
+     * 流程定义ID -> 底图
+     */
+    private final Cache<String, BaseDiagram> cache = CacheBuilder.newBuilder()
+            .maximumWeight(MAXIMUM_WEIGHT)
+            .weigher((String procDefId, BaseDiagram diagram) -> diagram.getWeight())
+            .build();
+
+    /**
+     * 流程定义ID + 高亮集合 -> 叠加高亮后的图片
+     */
+    private final Cache<HighlightKey, byte[]> highlightCache = CacheBuilder.newBuilder()
+            .maximumWeight(HIGHLIGHT_MAXIMUM_WEIGHT)
+            .weigher((HighlightKey key, byte[] png) -> png.length)
+            .build();
+
+    /**
+     * 渲染流程图
+     *
+     * @param procDefId             流程定义ID
+     * @param loader                未命中时加载 BPMN 模型
+     * @param highLightedActivities 高亮的节点
+     * @param highLightedFlows      高亮的连线
+     * @return png 图片
+     */
+    public byte[] render(String procDefId, Supplier<BpmnModel> loader, Collection<String> highLightedActivities, Collection<String> highLightedFlows) {
+        BaseDiagram diagram = get(this.cache, procDefId, () -> BaseDiagram.render(loader.get()));
+        if (highLightedActivities.isEmpty() && highLightedFlows.isEmpty()) {
+            return diagram.getPng();
+        }
+        HighlightKey key = new HighlightKey(procDefId, Set.copyOf(highLightedActivities), Set.copyOf(highLightedFlows));
+        return get(this.highlightCache, key, () -> highlight(diagram, key.getActivities(), key.getFlows()));
+    }
+
+    /**
+     * 清除全部
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+        this.highlightCache.invalidateAll();
+    }
+
+    private static byte[] highlight(BaseDiagram diagram, Set<String> highLightedActivities, Set<String> highLightedFlows) {
+        BufferedImage image = copy(diagram.getImage());
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            // 底图按画布的最小坐标裁剪过，叠加时平移回 BPMN 坐标系
+            g.translate(-diagram.getOffsetX(), -diagram.getOffsetY());
+            g.setPaint(HIGHLIGHT_COLOR);
+            g.setStroke(HIGHLIGHT_FLOW_STROKE);
+            for (String flowId : highLightedFlows) {
+                int[][] points = diagram.getFlowPoints().get(flowId);
+                if (points != null) {
+                    drawFlow(g, points[0], points[1]);
+                }
+            }
+            g.setStroke(HIGHLIGHT_ACTIVITY_STROKE);
+            for (String activityId : highLightedActivities) {
+                Rectangle bounds = diagram.getActivityBounds().get(activityId);
+                if (bounds != null) {
+                    g.draw(new RoundRectangle2D.Double(bounds.x, bounds.y, bounds.width, bounds.height, 20, 20));
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return encode(image);
+    }
+
+    private static <K, V> V get(Cache<K, V> cache, K key, Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void drawFlow(Graphics2D g, int[] xPoints, int[] yPoints) {
+        Line2D.Double line = null;
+        for (int i = 1; i < xPoints.length; i++) {
+            line = new Line2D.Double(xPoints[i - 1], yPoints[i - 1], xPoints[i], yPoints[i]);
+            g.draw(line);
+        }
+        if (line == null) {
+            return;
+        }
+        Polygon arrowHead = new Polygon();
+        arrowHead.addPoint(0, 0);
+        arrowHead.addPoint(-ARROW_WIDTH, -2 * ARROW_WIDTH);
+        arrowHead.addPoint(ARROW_WIDTH, -2 * ARROW_WIDTH);
+        AffineTransform original = g.getTransform();
+        g.translate(line.x2, line.y2);
+        g.rotate(Math.atan2(line.y2 - line.y1, line.x2 - line.x1) - Math.PI / 2d);
+        g.fill(arrowHead);
+        g.setTransform(original);
+    }
+
+    private static BufferedImage copy(BufferedImage source) {
+        WritableRaster raster = source.getColorModel().createCompatibleWritableRaster(source.getWidth(), source.getHeight());
+        source.copyData(raster);
+        return new BufferedImage(source.getColorModel(), raster, source.isAlphaPremultiplied(), null);
+    }
+
+    private static byte[] encode(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(IMAGE_TYPE).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(PNG_COMPRESSION_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 高亮图片缓存key
+     */
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class HighlightKey {
+
+        private final String procDefId;
+
+        private final Set<String> activities;
+
+        private final Set<String> flows;
+
+    }
+
+    /**
+     * 不带高亮的底图
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class BaseDiagram {
+
+        private final BufferedImage image;
+
+        private final byte[] png;
+
+        /**
+         * 底图左上角在 BPMN 坐标系中的位置
+         */
+        private final int offsetX;
+
+        private final int offsetY;
+
+        /**
+         * 节点ID -> 边框
+         */
+        private final Map<String, Rectangle> activityBounds;
+
+        /**
+         * 连线ID -> 折点 [x[], y[]]
+         */
+        private final Map<String, int[][]> flowPoints;
+
+        private int getWeight() {
+            return this.image.getWidth() * this.image.getHeight() * 4 + this.png.length;
+        }
+
+        private static BaseDiagram render(BpmnModel bpmnModel) {
+            RecordingDiagramGenerator generator = new RecordingDiagramGenerator();
+            BufferedImage cropped = generator.generateImage(bpmnModel, IMAGE_TYPE, Collections.emptyList(), Collections.emptyList(),
+                    ACTIVITY_FONT_NAME, LABEL_FONT_NAME, ANNOTATION_FONT_NAME, null, 1.0d, true);
+            // 画布返回的是整张画布的子图，从采样偏移得到裁剪位置，并复制一份不再引用整张画布
+            int offsetX = -cropped.getRaster().getSampleModelTranslateX();
+            int offsetY = -cropped.getRaster().getSampleModelTranslateY();
+            BufferedImage image = copy(cropped);
+            return new BaseDiagram(image, encode(image), offsetX, offsetY,
+                    Map.copyOf(generator.activityBounds), Map.copyOf(generator.flowPoints));
+        }
+
+    }
+
+    /**
+     * 绘制时记录节点边框以及修正后的连线折点，与父类绘制高亮使用的坐标一致
+     */
+    private static class RecordingDiagramGenerator extends DefaultProcessDiagramGenerator {
+
+        private final Map<String, Rectangle> activityBounds = new HashMap<>();
+
+        private final Map<String, int[][]> flowPoints = new HashMap<>();
+
+        @Override
+        protected void drawActivity(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, FlowNode flowNode,
+                                    List<String> highLightedActivities, List<String> highLightedFlows, double scaleFactor,
+                                    Boolean drawSequenceFlowNameWithNoLabelDI) {
+            super.drawActivity(processDiagramCanvas, bpmnModel, flowNode, highLightedActivities, highLightedFlows, scaleFactor,
+                    drawSequenceFlowNameWithNoLabelDI);
+            GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(flowNode.getId());
+            if (graphicInfo != null) {
+                this.activityBounds.put(flowNode.getId(), new Rectangle((int) graphicInfo.getX(), (int) graphicInfo.getY(),
+                        (int) graphicInfo.getWidth(), (int) graphicInfo.getHeight()));
+            }
+            for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+                if (graphicInfoList == null || graphicInfoList.isEmpty()) {
+                    continue;
+                }
+                graphicInfoList = connectionPerfectionizer(processDiagramCanvas, bpmnModel,
+                        bpmnModel.getFlowElement(sequenceFlow.getSourceRef()),
+                        bpmnModel.getFlowElement(sequenceFlow.getTargetRef()), graphicInfoList);
+                int[] xPoints = new int[graphicInfoList.size()];
+                int[] yPoints = new int[graphicInfoList.size()];
+                for (int i = 0; i < graphicInfoList.size(); i++) {
+                    xPoints[i] = (int) graphicInfoList.get(i).getX();
+                    yPoints[i] = (int) graphicInfoList.get(i).getY();
+                }
+                this.flowPoints.put(sequenceFlow.getId(), new int[][]{xPoints, yPoints});
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.bpm.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.*;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 流程定义元数据缓存
+ * <p>
+ * 已部署的流程定义不会再改变，按流程定义ID缓存预先解析好的节点元数据（按钮、扩展属性、出口连线），
+ * 任务按钮等场景直接读取，无需每次 getBpmnModel 并遍历流程元素。首次访问时加载，
+ * 流程定义挂起、删除（包括删除部署）时由引擎事件清除。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+@Slf4j
+@Component
+public class BpmProcessMetadataCache implements FlowableEventListener {
+
+    private static final long MAXIMUM_SIZE = 1000L;
+
+    /**
+     * 流程定义ID -> 节点元数据
+     */
+    private final Cache<String, ProcessMetadata> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    /**
+     * 获取流程定义元数据
+     *
+     * @param procDefId 流程定义ID
+     * @param loader    未命中时加载 BPMN 模型
+     * @return {@link ProcessMetadata}
+     */
+    public ProcessMetadata get(String procDefId, Supplier<BpmnModel> loader) {
+        try {
+            return this.cache.get(procDefId, () -> parse(loader.get()));
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            // 加载器抛出的受检异常、运行时异常和错误统一解包，调用方只需处理 IllegalStateException
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 获取节点元数据
+     *
+     * @param procDefId  流程定义ID
+     * @param activityId 节点ID
+     * @param loader     未命中时加载 BPMN 模型
+     * @return {@link ActivityMetadata} 节点不存在返回 null
+     */
+    public ActivityMetadata getActivity(String procDefId, String activityId, Supplier<BpmnModel> loader) {
+        return this.get(procDefId, loader).getActivities().get(activityId);
+    }
+
+    /**
+     * 清除流程定义
+     *
+     * @param procDefId 流程定义ID
+     */
+    public void evict(String procDefId) {
+        this.cache.invalidate(procDefId);
+    }
+
+    /**
+     * 清除全部
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (event.getType() != FlowableEngineEventType.ENTITY_SUSPENDED
+                && event.getType() != FlowableEngineEventType.ENTITY_DELETED) {
+            return;
+        }
+        Object entity = ((FlowableEngineEntityEvent) event).getEntity();
+        if (entity instanceof ProcessDefinition) {
+            this.evict(((ProcessDefinition) entity).getId());
+        } else if (entity instanceof Deployment) {
+            // 删除部署很少发生，直接全部清除
+            this.invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    @Override
+    public boolean isFireOnTransactionLifecycleEvent() {
+        return false;
+    }
+
+    @Override
+    public String getOnTransaction() {
+        return null;
+    }
+
+    private static ProcessMetadata parse(BpmnModel bpmnModel) {
+        if (bpmnModel == null || bpmnModel.getProcesses().isEmpty()) {
+            return new ProcessMetadata(Collections.emptyMap());
+        }
+        Process process = bpmnModel.getProcesses().get(0);
+        Map<String, ActivityMetadata> activities = new HashMap<>();
+        for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class)) {
+            List<ButtonMetadata> buttons = new ArrayList<>();
+            if (flowNode instanceof UserTask) {
+                for (FormProperty prop : ((UserTask) flowNode).getFormProperties()) {
+                    buttons.add(new ButtonMetadata(prop.getId(), prop.getName()));
+                }
+            }
+            Map<String, String> attributes = new HashMap<>();
+            flowNode.getAttributes().forEach((name, values) -> {
+                if (!values.isEmpty()) {
+                    attributes.put(name, values.get(0).getValue());
+                }
+            });
+            List<FlowMetadata> outgoingFlows = new ArrayList<>();
+            for (SequenceFlow flow : flowNode.getOutgoingFlows()) {
+                outgoingFlows.add(new FlowMetadata(flow.getId(), flow.getName(), flow.getTargetRef(), flow.getConditionExpression()));
+            }
+            activities.put(flowNode.getId(), new ActivityMetadata(flowNode.getId(), flowNode.getName(),
+                    List.copyOf(buttons), Collections.unmodifiableMap(attributes), List.copyOf(outgoingFlows)));
+        }
+        return new ProcessMetadata(Map.copyOf(activities));
+    }
+
+    /**
+     * 流程定义元数据
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ProcessMetadata {
+
+        /**
+         * 节点ID -> 节点元数据
+         */
+        private final Map<String, ActivityMetadata> activities;
+
+    }
+
+    /**
+     * 节点元数据
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ActivityMetadata {
+
+        private final String id;
+
+        private final String name;
+
+        /**
+         * 按钮，来自用户任务的表单属性
+         */
+        private final List<ButtonMetadata> buttons;
+
+        /**
+         * 扩展属性，同名属性取第一个
+         */
+        private final Map<String, String> attributes;
+
+        /**
+         * 出口连线
+         */
+        private final List<FlowMetadata> outgoingFlows;
+
+    }
+
+    /**
+     * 按钮元数据
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ButtonMetadata {
+
+        private final String key;
+
+        private final String name;
+
+    }
+
+    /**
+     * 连线元数据
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FlowMetadata {
+
+        private final String id;
+
+        private final String name;
+
+        private final String targetRef;
+
+        private final String conditionExpression;
+
+    }
+
+}
@@ -28,23 +28,20 @@ import com.breeze.boot.bpm.service.IBpmTaskService;
 import com.breeze.boot.satoken.utils.BreezeStpUtil;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.flowable.bpmn.model.BpmnModel;
-import org.flowable.bpmn.model.FormProperty;
-import org.flowable.bpmn.model.Process;
-import org.flowable.bpmn.model.UserTask;
 import org.flowable.engine.*;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.persistence.entity.CommentEntity;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.Comment;
 import org.flowable.identitylink.api.IdentityLink;
+import org.flowable.identitylink.api.IdentityLinkInfo;
 import org.flowable.identitylink.api.IdentityLinkType;
-import org.flowable.identitylink.api.history.HistoricIdentityLink;
-import org.flowable.idm.api.Group;
-import org.flowable.idm.api.User;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskQuery;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -77,7 +74,9 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
 
     private final TaskService taskService;
 
-    private final IdentityService identityService;
+    private final BpmIdentityNameCache identityNameCache;
+
+    private final BpmProcessMetadataCache processMetadataCache;
 
     /**
      * 获取用户任务列表
@@ -208,6 +207,10 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
 
     /**
      * 获取审批信息列表
+     * <p>
+     * 先收集所有任务ID、审批人、候选组，再批量加载评论、身份关联以及用户、用户组名称，
+     * 查询次数固定，不随流程节点数量增长。
+     * </p>
      *
      * @param procDefKey  流程定义KEY
      * @param businessKey 业务Key
@@ -215,14 +218,21 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
      */
     @Override
     public List<TaskApproveInfoVO> listFlowApproveInfo(String procDefKey, String businessKey) {
-        List<HistoricActivityInstance> historicActivityInstanceList = this.getHistoricActivityInstanceList(procDefKey, businessKey);
-        List<TaskApproveInfoVO> resultList = new ArrayList<>();
+        HistoricProcessInstance historicProcessInstance = this.getLatestHistoricProcessInstance(procDefKey, businessKey);
+        if (Objects.isNull(historicProcessInstance)) {
+            return Lists.newArrayList();
+        }
+        // @formatter:off
+        List<HistoricActivityInstance> historicActivityInstanceList = this.getHistoricActivityInstanceList(historicProcessInstance.getId())
+                .stream()
+                .filter(this::isRelevantActivity)
+                .collect(toList());
+        // @formatter:on
+        ApproveInfoContext context = this.loadApproveInfoContext(historicProcessInstance, historicActivityInstanceList);
+        List<TaskApproveInfoVO> resultList = new ArrayList<>(historicActivityInstanceList.size());
         for (HistoricActivityInstance instance : historicActivityInstanceList) {
-            if (!this.isRelevantActivity(instance)) {
-                continue;
-            }
             TaskApproveInfoVO taskApproveInfo = this.buildTaskApproveVO(instance);
-            this.buildTaskApproveInfoVO(instance, taskApproveInfo);
+            this.buildTaskApproveInfoVO(instance, taskApproveInfo, context);
             resultList.add(taskApproveInfo);
         }
         return resultList;
@@ -238,13 +248,13 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
     }
 
     /**
-     * 获取历史活动实例列表
+     * 获取最近一次的历史流程实例
      *
      * @param procDefKey  流程定义KEY
      * @param businessKey 业务KEY
-     * @return {@link List }<{@link HistoricActivityInstance }>
+     * @return {@link HistoricProcessInstance }
      */
-    private List<HistoricActivityInstance> getHistoricActivityInstanceList(String procDefKey, String businessKey) {
+    private HistoricProcessInstance getLatestHistoricProcessInstance(String procDefKey, String businessKey) {
         // @formatter:off
         List<HistoricProcessInstance> hisProcInstList = this.historyService.createHistoricProcessInstanceQuery()
                 .processDefinitionKey(procDefKey)
@@ -254,23 +264,92 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
                 .list();
         // @formatter:on
         if (CollUtil.isEmpty(hisProcInstList)) {
-            return Lists.newArrayList();
-        }
-
-        HistoricProcessInstance historicProcessInstance = hisProcInstList.get(0);
-        if (Objects.isNull(historicProcessInstance)) {
-            return Lists.newArrayList();
+            return null;
         }
+        return hisProcInstList.get(0);
+    }
 
+    /**
+     * 获取历史活动实例列表
+     *
+     * @param procInstId 流程实例ID
+     * @return {@link List }<{@link HistoricActivityInstance }>
+     */
+    private List<HistoricActivityInstance> getHistoricActivityInstanceList(String procInstId) {
         // @formatter:off
         return this.historyService.createHistoricActivityInstanceQuery()
-                .processInstanceId(historicProcessInstance.getId())
+                .processInstanceId(procInstId)
                 .orderByHistoricActivityInstanceStartTime()
                 .asc()
                 .orderByHistoricActivityInstanceEndTime()
                 .asc()
                 .list();
-        // @formatter:off
+        // @formatter:on
+    }
+
+    /**
+     * 批量加载审批记录需要的数据
+     * <p>
+     * 评论按流程实例一次查询，身份关联随历史任务一次查询，用户、用户组名称各一次 IN 查询（优先命中短时缓存）。
+     * </p>
+     *
+     * @param historicProcessInstance     历史流程实例
+     * @param historicActivityInstanceList 历史活动实例
+     * @return {@link ApproveInfoContext }
+     */
+    private ApproveInfoContext loadApproveInfoContext(HistoricProcessInstance historicProcessInstance,
+                                                      List<HistoricActivityInstance> historicActivityInstanceList) {
+        String procInstId = historicProcessInstance.getId();
+        Set<String> userIds = new HashSet<>();
+        Set<String> groupIds = new HashSet<>();
+        boolean hasTask = false;
+        boolean hasAssignedTask = false;
+        for (HistoricActivityInstance instance : historicActivityInstanceList) {
+            if ("startEvent".equals(instance.getActivityType()) && Objects.nonNull(historicProcessInstance.getStartUserId())) {
+                userIds.add(historicProcessInstance.getStartUserId());
+            }
+            if (Objects.nonNull(instance.getAssignee())) {
+                userIds.add(instance.getAssignee());
+            }
+            if (Objects.nonNull(instance.getTaskId())) {
+                hasTask = true;
+                hasAssignedTask |= Objects.nonNull(instance.getAssignee());
+            }
+        }
+
+        Map<String, List<Comment>> commentMap = Collections.emptyMap();
+        if (hasTask) {
+            // @formatter:off
+            commentMap = this.taskService.getProcessInstanceComments(procInstId, CommentEntity.TYPE_COMMENT)
+                    .stream()
+                    .filter(comment -> Objects.nonNull(comment.getTaskId()))
+                    .collect(groupingBy(Comment::getTaskId));
+            // @formatter:on
+        }
+
+        Map<String, List<? extends IdentityLinkInfo>> identityLinkMap = new HashMap<>();
+        if (hasAssignedTask) {
+            // @formatter:off
+            List<HistoricTaskInstance> historicTaskInstanceList = this.historyService.createHistoricTaskInstanceQuery()
+                    .processInstanceId(procInstId)
+                    .includeIdentityLinks()
+                    .list();
+            // @formatter:on
+            for (HistoricTaskInstance historicTaskInstance : historicTaskInstanceList) {
+                List<? extends IdentityLinkInfo> identityLinkList = historicTaskInstance.getIdentityLinks();
+                identityLinkMap.put(historicTaskInstance.getId(), identityLinkList);
+                for (IdentityLinkInfo identityLink : identityLinkList) {
+                    if (StrUtil.isNotBlank(identityLink.getGroupId())) {
+                        groupIds.add(identityLink.getGroupId());
+                    } else if (Objects.nonNull(identityLink.getUserId())) {
+                        userIds.add(identityLink.getUserId());
+                    }
+                }
+            }
+        }
+
+        return new ApproveInfoContext(historicProcessInstance.getStartUserId(), commentMap, identityLinkMap,
+                this.identityNameCache.getUserNames(userIds), this.identityNameCache.getGroupNames(groupIds));
     }
 
     /**
@@ -309,14 +388,16 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
      *
      * @param historicActivityInstance 历史活动实例
      * @param taskApproveInfo          任务审批信息
+     * @param context                  批量加载的审批数据
      */
-    private void buildTaskApproveInfoVO(HistoricActivityInstance historicActivityInstance,  TaskApproveInfoVO taskApproveInfo) {
+    private void buildTaskApproveInfoVO(HistoricActivityInstance historicActivityInstance, TaskApproveInfoVO taskApproveInfo,
+                                        ApproveInfoContext context) {
         if ("startEvent".equals(historicActivityInstance.getActivityType())) {
-            this.setStarterInfo(historicActivityInstance, taskApproveInfo);
+            this.setStarterInfo(historicActivityInstance, taskApproveInfo, context);
         }
-        this.setAssigneeInfo(historicActivityInstance, taskApproveInfo);
-        this.setCommentInfo(historicActivityInstance, taskApproveInfo);
-        this.setTaskApproveInfo(historicActivityInstance,  taskApproveInfo);
+        this.setAssigneeInfo(historicActivityInstance, taskApproveInfo, context);
+        this.setCommentInfo(historicActivityInstance, taskApproveInfo, context);
+        this.setTaskApproveInfo(historicActivityInstance, taskApproveInfo, context);
         taskApproveInfo.setTaskId(historicActivityInstance.getTaskId());
         taskApproveInfo.setProcInstId(historicActivityInstance.getProcessInstanceId());
     }
@@ -326,24 +407,19 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
      *
      * @param historicActivityInstance  历史活动实例
      * @param taskApproveInfo           任务审批信息
+     * @param context                   批量加载的审批数据
      */
-    private void setStarterInfo(HistoricActivityInstance historicActivityInstance, TaskApproveInfoVO taskApproveInfo) {
-        // @formatter:off
-        List<HistoricProcessInstance> historicProcessInstanceList = this.historyService.createHistoricProcessInstanceQuery()
-                .processInstanceId(historicActivityInstance.getProcessInstanceId())
-                .orderByProcessInstanceStartTime()
-                .asc()
-                .list();
-        // @formatter:on
-        if (historicProcessInstanceList.isEmpty() || historicProcessInstanceList.get(0).getStartUserId() == null) {
+    private void setStarterInfo(HistoricActivityInstance historicActivityInstance, TaskApproveInfoVO taskApproveInfo,
+                                ApproveInfoContext context) {
+        if (Objects.isNull(context.getStartUserId())) {
             return;
         }
-        User user = identityService.createUserQuery().userId(historicProcessInstanceList.get(0).getStartUserId()).singleResult();
-        if (Objects.isNull(user)) {
+        String userName = context.getUserNames().get(context.getStartUserId());
+        if (Objects.isNull(userName)) {
             return;
         }
         taskApproveInfo.setAssignee(historicActivityInstance.getAssignee());
-        taskApproveInfo.setAssigneeName(user.getFirstName());
+        taskApproveInfo.setAssigneeName(userName);
     }
 
     /**
@@ -351,17 +427,19 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
      *
      * @param historicActivityInstance 历史活动实例
      * @param taskApproveInfo          任务审批信息
+     * @param context                  批量加载的审批数据
      */
-    private void setAssigneeInfo(HistoricActivityInstance historicActivityInstance, TaskApproveInfoVO taskApproveInfo) {
+    private void setAssigneeInfo(HistoricActivityInstance historicActivityInstance, TaskApproveInfoVO taskApproveInfo,
+                                 ApproveInfoContext context) {
         if (Objects.isNull(historicActivityInstance.getAssignee())) {
             return;
         }
-        User user = this.identityService.createUserQuery().userId(historicActivityInstance.getAssignee()).singleResult();
-        if (Objects.isNull(user)) {
+        String userName = context.getUserNames().get(historicActivityInstance.getAssignee());
+        if (Objects.isNull(userName)) {
             return;
         }
         taskApproveInfo.setAssignee(historicActivityInstance.getAssignee());
-        taskApproveInfo.setAssigneeName(user.getFirstName());
+        taskApproveInfo.setAssigneeName(userName);
     }
 
     /**
@@ -369,12 +447,14 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
      *
      * @param historicActivityInstance 历史活动实例
      * @param taskApproveInfo          任务审批信息
+     * @param context                  批量加载的审批数据
      */
-    private void setCommentInfo(HistoricActivityInstance historicActivityInstance, TaskApproveInfoVO taskApproveInfo) {
+    private void setCommentInfo(HistoricActivityInstance historicActivityInstance, TaskApproveInfoVO taskApproveInfo,
+                                ApproveInfoContext context) {
         if (Objects.isNull(historicActivityInstance.getTaskId())) {
             return;
         }
-        List<Comment> commentList = this.taskService.getTaskComments(historicActivityInstance.getTaskId());
+        List<Comment> commentList = context.getComments().get(historicActivityInstance.getTaskId());
         if (CollUtil.isEmpty(commentList)) {
             return;
         }
@@ -396,13 +476,16 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
      *
      * @param activityInstance 历史活动实例
      * @param taskApproveInfo  任务审批信息
+     * @param context          批量加载的审批数据
      */
-    private void setTaskApproveInfo(HistoricActivityInstance activityInstance, TaskApproveInfoVO taskApproveInfo) {
+    private void setTaskApproveInfo(HistoricActivityInstance activityInstance, TaskApproveInfoVO taskApproveInfo,
+                                    ApproveInfoContext context) {
         if (Objects.isNull(activityInstance.getTaskId()) || Objects.isNull(activityInstance.getAssignee())) {
             return;
         }
 
-        List<HistoricIdentityLink> identityLinkList = this.historyService.getHistoricIdentityLinksForTask(activityInstance.getTaskId());
+        List<? extends IdentityLinkInfo> identityLinkList = context.getIdentityLinks().getOrDefault(activityInstance.getTaskId(), Collections.emptyList());
+        Map<String, String> userNames = context.getUserNames();
         StringBuilder candidateName = new StringBuilder();
         StringBuilder candidate = new StringBuilder();
 
@@ -411,20 +494,22 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
 
         StringBuilder groupName = new StringBuilder();
 
-        for (HistoricIdentityLink identityLink : identityLinkList) {
+        for (IdentityLinkInfo identityLink : identityLinkList) {
             if (StrUtil.isNotBlank(identityLink.getGroupId()) && StrUtil.equals(IdentityLinkType.CANDIDATE, identityLink.getType())) {
-                Group group = this.identityService.createGroupQuery().groupId(identityLink.getGroupId()).singleResult();
-                groupName.append(group.getName()).append(" ");
+                String name = context.getGroupNames().get(identityLink.getGroupId());
+                if (Objects.nonNull(name)) {
+                    groupName.append(name).append(" ");
+                }
             } else if (StrUtil.equals(IdentityLinkType.CANDIDATE, identityLink.getType())) {
-                User user = this.identityService.createUserQuery().userId(identityLink.getUserId()).singleResult();
-                if (Objects.nonNull(user)) {
-                    this.appendUserInfo(user, candidateName, candidate);
+                String name = userNames.get(identityLink.getUserId());
+                if (Objects.nonNull(name)) {
+                    this.appendUserInfo(identityLink.getUserId(), name, candidateName, candidate);
                 }
             } else if (StrUtil.equals(IdentityLinkType.ASSIGNEE, identityLink.getType())) {
                 if (Objects.nonNull(identityLink.getUserId())) {
-                    User user = this.identityService.createUserQuery().userId(identityLink.getUserId()).singleResult();
-                    if (Objects.nonNull(user)) {
-                        this.appendUserInfo(user, assigneeName, assignee);
+                    String name = userNames.get(identityLink.getUserId());
+                    if (Objects.nonNull(name)) {
+                        this.appendUserInfo(identityLink.getUserId(), name, assigneeName, assignee);
                     }
                 } else {
                     assigneeName.append("->未签收任务");
@@ -444,21 +529,22 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
     /**
      * 附加用户信息
      *
-     * @param user          用户
+     * @param userId        用户ID
+     * @param userName      用户名称
      * @param assignees     人员
      * @param assigneeNames 人员姓名
      */
-    private void appendUserInfo(User user, StringBuilder assignees, StringBuilder assigneeNames) {
-        assignees.append("->").append(user.getId());
-        assigneeNames.append("->").append(user.getFirstName());
+    private void appendUserInfo(String userId, String userName, StringBuilder assignees, StringBuilder assigneeNames) {
+        assignees.append("->").append(userId);
+        assigneeNames.append("->").append(userName);
     }
 
-    private TaskButtonVO addButtonsForTask(FormProperty prop, Task task, String username) {
+    private TaskButtonVO addButtonsForTask(BpmProcessMetadataCache.ButtonMetadata button, Task task, String username) {
         // @formatter:off
         return TaskButtonVO.builder()
-                .event(prop.getId())
-                .key(prop.getId())
-                .name(prop.getName())
+                .event(button.getKey())
+                .key(button.getKey())
+                .name(button.getName())
                 .procInstId(task.getProcessInstanceId())
                 .taskId(task.getId())
                 .username(username)
@@ -466,30 +552,6 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
         // @formatter:on
     }
 
-    /**
-     * 查找和添加任务按钮
-     *
-     * @param buttonList   按钮列表
-     * @param userTaskList 用户任务
-     * @param task         任务
-     * @param username     用户名
-     * @return boolean 返回是否获取成功
-     */
-    private boolean findAndAddButtonsForTask(List<TaskButtonVO> buttonList, Collection<UserTask> userTaskList, Task task, String username) {
-        boolean found = false;
-        for (UserTask userTask : userTaskList) {
-            if (!Objects.equals(userTask.getId(), task.getTaskDefinitionKey())) {
-                continue;
-            }
-            for (FormProperty prop : userTask.getFormProperties()) {
-                buttonList.add(this.addButtonsForTask(prop, task, username));
-            }
-            found = true;
-            break;
-        }
-        return found;
-    }
-
     /**
      * 获取流程任务按钮
      *
@@ -498,22 +560,22 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
      * @return {@link List }<{@link TaskButtonVO }>
      */
     private List<TaskButtonVO> getFlowTaskButton(Task task, String username) {
-        List<TaskButtonVO> buttonList = Lists.newArrayList();
-        BpmnModel bpmnModel;
+        BpmProcessMetadataCache.ActivityMetadata activity;
         try {
-            bpmnModel = this.repositoryService.getBpmnModel(task.getProcessDefinitionId());
-        } catch (NullPointerException e) {
+            activity = this.processMetadataCache.getActivity(task.getProcessDefinitionId(), task.getTaskDefinitionKey(),
+                    () -> this.repositoryService.getBpmnModel(task.getProcessDefinitionId()));
+        } catch (IllegalStateException e) {
             log.error("Failed to retrieve BPMN model: {}", e.getMessage());
             return Collections.emptyList();
         }
-
-        Process process = bpmnModel != null ? bpmnModel.getProcesses().get(0) : null;
-        Collection<UserTask> flowElements = process != null ? process.findFlowElementsOfType(UserTask.class) : Collections.emptyList();
-
-        if (!this.findAndAddButtonsForTask(buttonList, flowElements, task, username)) {
+        if (activity == null) {
             log.warn("No matching UserTask found for task definition key: {}", task.getTaskDefinitionKey());
+            return Collections.emptyList();
+        }
+        List<TaskButtonVO> buttonList = Lists.newArrayList();
+        for (BpmProcessMetadataCache.ButtonMetadata button : activity.getButtons()) {
+            buttonList.add(this.addButtonsForTask(button, task, username));
         }
-
         return buttonList;
     }
 
@@ -1006,4 +1068,39 @@ public class BpmTaskServiceImpl implements IBpmTaskService {
                 .build();
         // @formatter:on
     }
+
+    /**
+     * 审批记录批量加载的数据
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class ApproveInfoContext {
+
+        /**
+         * 流程发起人
+         */
+        private final String startUserId;
+
+        /**
+         * 任务ID -> 评论
+         */
+        private final Map<String, List<Comment>> comments;
+
+        /**
+         * 任务ID -> 身份关联
+         */
+        private final Map<String, List<? extends IdentityLinkInfo>> identityLinks;
+
+        /**
+         * 用户ID -> 名称
+         */
+        private final Map<String, String> userNames;
+
+        /**
+         * 用户组ID -> 名称
+         */
+        private final Map<String, String> groupNames;
+
+    }
+
 }
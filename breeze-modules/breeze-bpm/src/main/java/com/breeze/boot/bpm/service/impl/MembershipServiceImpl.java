@@ -16,15 +16,34 @@
 
 package com.breeze.boot.bpm.service.impl;
 
+import com.baomidou.mybatisplus.core.toolkit.StringPool;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.breeze.boot.bpm.mapper.MembershipMapper;
 import com.breeze.boot.bpm.model.entity.Membership;
 import com.breeze.boot.bpm.service.IMembershipService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 
 @Service
 @RequiredArgsConstructor
 public class MembershipServiceImpl extends ServiceImpl<MembershipMapper, Membership> implements IMembershipService {
 
+    private static final String DELETE_MEMBERSHIP = MembershipMapper.class.getName() + StringPool.DOT + "deleteMembership";
+
+    /**
+     * 批量删除用户与用户组关系，关系表没有主键，使用 BATCH 执行器按用户、用户组删除
+     *
+     * @param membershipList 用户用户组关系
+     * @param batchSize      批次大小
+     * @return boolean
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean removeBatch(Collection<Membership> membershipList, int batchSize) {
+        return this.executeBatch(membershipList, batchSize, (sqlSession, membership) -> sqlSession.delete(DELETE_MEMBERSHIP, membership));
+    }
+
 }
\ No newline at end of file
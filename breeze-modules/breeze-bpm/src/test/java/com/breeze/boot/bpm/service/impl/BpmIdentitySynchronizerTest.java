@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.bpm.service.impl;
+
+import com.breeze.boot.bpm.model.entity.Group;
+import com.breeze.boot.bpm.model.entity.Membership;
+import com.breeze.boot.bpm.model.entity.User;
+import com.breeze.boot.bpm.model.vo.BpmIdentitySyncVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 流程用户同步差异比较测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class BpmIdentitySynchronizerTest {
+
+    @Test
+    void diffWritesOnlyChangedRows() {
+        Map<String, User> currentUsers = users(user("u1", "张三", "u1@a.com"), user("u2", "李四", "u2@a.com"),
+                user("u3", "王五", "u3@a.com"));
+        Map<String, Group> currentGroups = groups(group("g1", "财务"), group("g2", "人事"), group("g9", "保留"));
+        Set<Membership> currentMemberships = Set.of(membership("u1", "g1"), membership("u2", "g1"),
+                membership("u2", "g2"), membership("u3", "g9"), membership("u4", "g9"));
+
+        BpmIdentitySynchronizer.SyncPlan plan = BpmIdentitySynchronizer.SyncPlan.of(currentUsers, currentGroups, currentMemberships,
+                List.of(user("u1", "张三", "u1@a.com"), user("u2", "李四四", "u2@a.com"), user("u4", "赵六", "u4@a.com")),
+                List.of(group("g1", "财务"), group("g2", "人事部"), group("g3", "研发")),
+                List.of(membership("u1", "g1"), membership("u2", "g3"), membership("u4", "g1")));
+
+        assertThat(plan.insertGroups).extracting(Group::getId).containsExactly("g3");
+        assertThat(plan.updateGroups).extracting(Group::getId, Group::getName).containsExactly(tuple("g2", "人事部"));
+        assertThat(plan.insertUsers).extracting(User::getId).containsExactly("u4");
+        assertThat(plan.updateUsers).extracting(User::getId, User::getDisplayName).containsExactly(tuple("u2", "李四四"));
+        assertThat(plan.deleteUserIds).containsExactly("u3");
+        assertThat(plan.insertMemberships).containsExactlyInAnyOrder(membership("u2", "g3"), membership("u4", "g1"));
+        // u2-g1、u2-g2 属于目标用户组，u3-g9 属于被删除的用户；u4-g9 所在用户组不在目标中且用户保留，不删除
+        assertThat(plan.deleteMemberships).containsExactlyInAnyOrder(membership("u2", "g1"), membership("u2", "g2"),
+                membership("u3", "g9"));
+    }
+
+    @Test
+    void unchangedDataProducesEmptyPlan() {
+        User user = user("u1", "张三", "u1@a.com");
+        Group group = group("g1", "财务");
+        Membership membership = membership("u1", "g1");
+
+        BpmIdentitySynchronizer.SyncPlan plan = BpmIdentitySynchronizer.SyncPlan.of(users(user), groups(group), Set.of(membership),
+                List.of(user("u1", "张三", "u1@a.com")), List.of(group("g1", "财务")), List.of(membership("u1", "g1")));
+
+        assertThat(plan.insertGroups).isEmpty();
+        assertThat(plan.updateGroups).isEmpty();
+        assertThat(plan.insertUsers).isEmpty();
+        assertThat(plan.updateUsers).isEmpty();
+        assertThat(plan.deleteUserIds).isEmpty();
+        assertThat(plan.insertMemberships).isEmpty();
+        assertThat(plan.deleteMemberships).isEmpty();
+    }
+
+    @Test
+    void countsMatchPlan() {
+        BpmIdentitySynchronizer.SyncPlan plan = BpmIdentitySynchronizer.SyncPlan.of(users(user("u1", "张三", null)), Map.of(), Set.of(),
+                List.of(user("u1", "张三", "u1@a.com"), user("u2", "李四", null)), List.of(group("g1", "财务")),
+                List.of(membership("u1", "g1"), membership("u2", "g1")));
+
+        BpmIdentitySyncVO vo = plan.toVO();
+        assertThat(vo.getGroupInserted()).isEqualTo(1);
+        assertThat(vo.getUserInserted()).isEqualTo(1);
+        assertThat(vo.getUserUpdated()).isEqualTo(1);
+        assertThat(vo.getMembershipInserted()).isEqualTo(2);
+        assertThat(vo.getTotal()).isEqualTo(5L);
+    }
+
+    private static User user(String id, String displayName, String email) {
+        return User.builder().id(id).displayName(displayName).email(email).build();
+    }
+
+    private static Group group(String id, String name) {
+        return Group.builder().id(id).name(name).build();
+    }
+
+    private static Membership membership(String userId, String groupId) {
+        return Membership.builder().userId(userId).groupId(groupId).build();
+    }
+
+    private static Map<String, User> users(User... users) {
+        return Stream.of(users).collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private static Map<String, Group> groups(Group... groups) {
+        return Stream.of(groups).collect(Collectors.toMap(Group::getId, Function.identity()));
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.bpm.service.impl;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 流程定义元数据缓存测试
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class BpmProcessMetadataCacheTest {
+
+    @Test
+    void loaderRuntimeExceptionIsUnwrapped() {
+        BpmProcessMetadataCache cache = new BpmProcessMetadataCache();
+        Supplier<BpmnModel> loader = () -> {
+            throw new NullPointerException("model");
+        };
+
+        assertThatThrownBy(() -> cache.get("p1", loader))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void loaderErrorIsUnwrapped() {
+        BpmProcessMetadataCache cache = new BpmProcessMetadataCache();
+        Supplier<BpmnModel> loader = () -> {
+            throw new AssertionError("model");
+        };
+
+        assertThatThrownBy(() -> cache.get("p1", loader))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        BpmProcessMetadataCache cache = new BpmProcessMetadataCache();
+        assertThatThrownBy(() -> cache.get("p1", () -> {
+            throw new NullPointerException("model");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("p1", () -> null).getActivities()).isEmpty();
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.bpm.service.impl;
+
+import com.breeze.boot.bpm.model.vo.TaskApproveInfoVO;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.IdentityService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.User;
+import org.flowable.task.api.Task;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 流程任务管理服务测试
+ * <p>
+ * 使用 H2 内存库启动流程引擎，统计获取审批信息列表时执行的 SQL 数量。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class BpmTaskServiceImplTest {
+
+    private static final String PROC_DEF_KEY = "approve";
+
+    /**
+     * 流程实例、活动、评论、任务及身份关联、用户名称、用户组名称
+     */
+    private static final int EXPECTED_QUERIES = 6;
+
+    private static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+    private static ProcessEngine processEngine;
+
+    @BeforeAll
+    static void startEngine() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:bpm-task;DB_CLOSE_DELAY=-1");
+        h2.setUser("sa");
+        processEngine = new StandaloneInMemProcessEngineConfiguration()
+                .setDataSource(countingDataSource(h2))
+                .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP)
+                .setHistoryLevel(HistoryLevel.FULL)
+                .setAsyncExecutorActivate(false)
+                .buildProcessEngine();
+        IdentityService identityService = processEngine.getIdentityService();
+        for (int i = 0; i <= 8; i++) {
+            User user = identityService.newUser("u" + i);
+            user.setFirstName("用户" + i);
+            identityService.saveUser(user);
+            Group group = identityService.newGroup("g" + i);
+            group.setName("用户组" + i);
+            identityService.saveGroup(group);
+        }
+    }
+
+    @AfterAll
+    static void closeEngine() {
+        processEngine.close();
+    }
+
+    @Test
+    void approveInfoQueryCountDoesNotGrowWithTasks() {
+        this.runProcess("b2", 2);
+        this.runProcess("b8", 8);
+
+        int smallQueries = this.countQueries("b2", 2);
+        int largeQueries = this.countQueries("b8", 8);
+
+        assertThat(smallQueries).isEqualTo(largeQueries).isLessThanOrEqualTo(EXPECTED_QUERIES);
+    }
+
+    @Test
+    void approveInfoResolvesNamesAndComments() {
+        this.runProcess("b3", 3);
+
+        List<TaskApproveInfoVO> approveInfoList = this.newService().listFlowApproveInfo(PROC_DEF_KEY, "b3");
+
+        assertThat(approveInfoList).extracting(TaskApproveInfoVO::getTaskName)
+                .containsExactly("开始", "userTask", "userTask", "userTask", "结束");
+        assertThat(approveInfoList.get(0).getAssigneeName()).isEqualTo("用户0");
+        TaskApproveInfoVO second = approveInfoList.get(2);
+        assertThat(second.getAssigneeName()).isEqualTo("用户2");
+        assertThat(second.getTaskGroupName()).isEqualTo("用户组2 ");
+        assertThat(second.getComments()).singleElement().satisfies(comment -> assertThat(comment.getMessage()).isEqualTo("agree2"));
+    }
+
+    private int countQueries(String businessKey, int taskCount) {
+        BpmTaskServiceImpl service = this.newService();
+        STATEMENTS.set(0);
+        List<TaskApproveInfoVO> approveInfoList = service.listFlowApproveInfo(PROC_DEF_KEY, businessKey);
+        int queries = STATEMENTS.get();
+        // 开始、结束以及每个用户任务
+        assertThat(approveInfoList).hasSize(taskCount + 2);
+        return queries;
+    }
+
+    private BpmTaskServiceImpl newService() {
+        return new BpmTaskServiceImpl(processEngine.getRepositoryService(), processEngine.getHistoryService(),
+                processEngine.getRuntimeService(), processEngine.getTaskService(),
+                new BpmIdentityNameCache(processEngine.getIdentityService()), new BpmProcessMetadataCache());
+    }
+
+    /**
+     * 部署包含 taskCount 个串行用户任务的流程并审批到结束，第 i 个任务由 ui 审批，候选组为 gi
+     */
+    private void runProcess(String businessKey, int taskCount) {
+        processEngine.getRepositoryService().createDeployment()
+                .addString(PROC_DEF_KEY + taskCount + ".bpmn20.xml", bpmn(taskCount))
+                .deploy();
+        IdentityService identityService = processEngine.getIdentityService();
+        TaskService taskService = processEngine.getTaskService();
+        identityService.setAuthenticatedUserId("u0");
+        try {
+            ProcessInstance processInstance = processEngine.getRuntimeService()
+                    .startProcessInstanceByKey(PROC_DEF_KEY, businessKey);
+            for (int i = 1; i <= taskCount; i++) {
+                Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+                taskService.addComment(task.getId(), processInstance.getId(), "agree" + i);
+                taskService.complete(task.getId());
+            }
+        } finally {
+            identityService.setAuthenticatedUserId(null);
+        }
+    }
+
+    private static String bpmn(int taskCount) {
+        StringBuilder builder = new StringBuilder()
+                .append("<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" ")
+                .append("xmlns:flowable=\"http://flowable.org/bpmn\" targetNamespace=\"breeze\">")
+                .append("<process id=\"").append(PROC_DEF_KEY).append("\" isExecutable=\"true\">")
+                .append("<startEvent id=\"start\"/>");
+        String previous = "start";
+        for (int i = 1; i <= taskCount; i++) {
+            builder.append("<userTask id=\"task").append(i).append("\" flowable:assignee=\"u").append(i)
+                    .append("\" flowable:candidateGroups=\"g").append(i).append("\"/>")
+                    .append("<sequenceFlow id=\"flow").append(i).append("\" sourceRef=\"").append(previous)
+                    .append("\" targetRef=\"task").append(i).append("\"/>");
+            previous = "task" + i;
+        }
+        return builder.append("<endEvent id=\"end\"/>")
+                .append("<sequenceFlow id=\"flowEnd\" sourceRef=\"").append(previous).append("\" targetRef=\"end\"/>")
+                .append("</process></definitions>")
+                .toString();
+    }
+
+    /**
+     * 统计创建的 Statement 数量
+     */
+    private static DataSource countingDataSource(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(BpmTaskServiceImplTest.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Connection connection) {
+                        return countingConnection(connection);
+                    }
+                    return result;
+                });
+    }
+
+    private static Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(BpmTaskServiceImplTest.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ("prepareStatement".equals(name) || "createStatement".equals(name) || "prepareCall".equals(name)) {
+                        STATEMENTS.incrementAndGet();
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
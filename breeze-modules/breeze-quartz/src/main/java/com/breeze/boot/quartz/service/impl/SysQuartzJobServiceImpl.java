@@ -31,6 +31,7 @@ import com.breeze.boot.quartz.enums.QuartzEnum;
 import com.breeze.boot.quartz.manager.QuartzManager;
 import com.breeze.boot.quartz.mapper.SysQuartzJobMapper;
 import com.breeze.boot.quartz.service.SysQuartzJobService;
+import com.breeze.boot.quartz.utils.JobInvokerCache;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -106,6 +107,7 @@ public class SysQuartzJobServiceImpl extends ServiceImpl<SysQuartzJobMapper, Sys
         sysQuartzJob.setId(id);
         AssertUtil.isNotNull(this.getById(id), JOB_NOT_FOUND);
         sysQuartzJob.updateById();
+        JobInvokerCache.invalidate(id);
         this.quartzManager.addOrUpdateJob(sysQuartzJob);
         return Result.ok(Boolean.TRUE, "修改成功");
     }
@@ -158,6 +160,7 @@ public class SysQuartzJobServiceImpl extends ServiceImpl<SysQuartzJobMapper, Sys
                 continue;
             }
             quartzJob.deleteById();
+            JobInvokerCache.invalidate(jobId);
             this.quartzManager.deleteJob(quartzJob.getId() + ":" + JOB_NAME, quartzJob.getJobGroupName());
         }
         return Result.ok(Boolean.TRUE);
@@ -36,18 +36,6 @@ public class JobInvokeUtils {
         return StrUtil.sub(clazzName, clazzName.lastIndexOf("(") + 1, clazzName.lastIndexOf(")"));
     }
 
-    /**
-     * get方法名字
-     *
-     * @param clazzName clazz名字
-     * @param s         年代
-     * @param s2        s2
-     * @return {@link String}
-     */
-    public static String getMethodName(String clazzName, String s, String s2) {
-        return StrUtil.sub(clazzName, clazzName.lastIndexOf(s) + 1, clazzName.lastIndexOf(s2));
-    }
-
     /**
      * bean名字
      *
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.quartz.utils;
+
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.extra.spring.SpringUtil;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * 预编译的任务调用
+ * <p>
+ * 解析一次调用目标字符串，把目标对象以及解析好的参数绑定到一个无参的 {@link MethodHandle}，
+ * 每次触发只需 invokeExact，不再解析字符串、查找 Bean、getMethod 以及反射调用。
+ * 调用目标以 com. 开头时与原先一致，每次触发创建新实例；静态方法不需要实例，直接绑定参数；Spring Bean 为单例时直接绑定实例，否则每次触发获取 Bean。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public final class JobInvoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle GET_BEAN;
+
+    static {
+        try {
+            GET_BEAN = LOOKUP.findStatic(SpringUtil.class, "getBean", MethodType.methodType(Object.class, String.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 调用目标，如 breezeJobs.demoJob('a', 1)
+     */
+    @Getter
+    private final String invokeTarget;
+
+    /**
+     * () -> void
+     */
+    private final MethodHandle handle;
+
+    private JobInvoker(String invokeTarget, MethodHandle handle) {
+        this.invokeTarget = invokeTarget;
+        this.handle = handle;
+    }
+
+    /**
+     * 编译调用目标
+     *
+     * @param invokeTarget 调用目标
+     * @return {@link JobInvoker}
+     * @throws ReflectiveOperationException 类、Bean、方法不存在或不可访问
+     */
+    public static JobInvoker compile(String invokeTarget) throws ReflectiveOperationException {
+        // 只在括号之前查找 Bean 与方法的分隔点，避免参数中的小数点（如 2.5D）干扰
+        String head = StrUtil.subBefore(invokeTarget, "(", false);
+        String beanName = JobInvokeUtils.getBeanName(head);
+        String methodName = StrUtil.subAfter(head, ".", true);
+        String params = JobInvokeUtils.getParams(invokeTarget);
+        String[] paramArray = StrUtil.isBlank(params) ? new String[0] : params.split(",");
+        Class<?>[] parameterTypes = new Class[paramArray.length];
+        Object[] parameters = new Object[paramArray.length];
+        JobInvokeUtils.getParams(paramArray, parameterTypes, parameters);
+
+        MethodHandle handle;
+        if (invokeTarget.startsWith("com.")) {
+            Class<?> targetClass = Class.forName(beanName);
+            Method method = targetClass.getMethod(methodName, parameterTypes);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = bindStaticParameters(method, parameters);
+            } else {
+                MethodHandle constructor = LOOKUP.findConstructor(targetClass, MethodType.methodType(void.class));
+                handle = MethodHandles.collectArguments(bindParameters(method, parameters), 0, constructor);
+            }
+        } else if (SpringUtil.getApplicationContext().isSingleton(beanName)) {
+            Object bean = SpringUtil.getBean(beanName);
+            Method method = bean.getClass().getMethod(methodName, parameterTypes);
+            handle = Modifier.isStatic(method.getModifiers())
+                    ? bindStaticParameters(method, parameters)
+                    : bindParameters(method, parameters).bindTo(bean);
+        } else {
+            Class<?> targetClass = SpringUtil.getApplicationContext().getType(beanName);
+            if (targetClass == null) {
+                throw new ClassNotFoundException(beanName);
+            }
+            Method method = targetClass.getMethod(methodName, parameterTypes);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = bindStaticParameters(method, parameters);
+            } else {
+                MethodHandle getBean = MethodHandles.insertArguments(GET_BEAN, 0, beanName).asType(MethodType.methodType(targetClass));
+                handle = MethodHandles.collectArguments(bindParameters(method, parameters), 0, getBean);
+            }
+        }
+        return new JobInvoker(invokeTarget, handle.asType(MethodType.methodType(void.class)));
+    }
+
+    /**
+     * 执行
+     *
+     * @throws Exception 任务方法抛出的异常，Error 直接抛出
+     */
+    public void invoke() throws Exception {
+        try {
+            this.handle.invokeExact();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * 实例方法 (target, parameters...) -> (target)
+     */
+    private static MethodHandle bindParameters(Method method, Object[] parameters) throws IllegalAccessException {
+        return MethodHandles.insertArguments(LOOKUP.unreflect(method), 1, parameters);
+    }
+
+    /**
+     * 静态方法没有接收者，(parameters...) -> ()
+     */
+    private static MethodHandle bindStaticParameters(Method method, Object[] parameters) throws IllegalAccessException {
+        return MethodHandles.insertArguments(LOOKUP.unreflect(method), 0, parameters);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.quartz.utils;
+
+import com.breeze.boot.quartz.domain.entity.SysQuartzJob;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 任务调用缓存
+ * <p>
+ * 按任务ID缓存 {@link JobInvoker}，修改、删除任务时清除。集群中其他节点修改任务时本节点不会收到清除，
+ * 因此命中时还会比较调用目标，不一致则重新编译。编译失败不缓存，下次触发重试。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+public final class JobInvokerCache {
+
+    private static final Map<Long, JobInvoker> CACHE = new ConcurrentHashMap<>();
+
+    private JobInvokerCache() {
+    }
+
+    /**
+     * 获取任务调用
+     *
+     * @param quartzJob 任务
+     * @return {@link JobInvoker}
+     * @throws ReflectiveOperationException 编译失败
+     */
+    public static JobInvoker get(SysQuartzJob quartzJob) throws ReflectiveOperationException {
+        JobInvoker invoker = CACHE.get(quartzJob.getId());
+        if (invoker != null && Objects.equals(invoker.getInvokeTarget(), quartzJob.getClazzName())) {
+            return invoker;
+        }
+        invoker = JobInvoker.compile(quartzJob.getClazzName());
+        CACHE.put(quartzJob.getId(), invoker);
+        return invoker;
+    }
+
+    /**
+     * 清除任务调用
+     *
+     * @param jobId 任务ID
+     */
+    public static void invalidate(Long jobId) {
+        CACHE.remove(jobId);
+    }
+
+}
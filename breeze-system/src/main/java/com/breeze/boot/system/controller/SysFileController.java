@@ -104,14 +104,16 @@ public class SysFileController {
      * 下载
      *
      * @param fileId   文件标识
+     * @param request  请求
      * @param response 响应
      */
     @Operation(summary = "文件下载")
     @GetMapping("/download")
     @SaCheckPermission("sys:file:download")
     public void download(@Parameter(description = "文件ID") @NotNull(message = "参数不能为空") Long fileId,
+                         HttpServletRequest request,
                          HttpServletResponse response) {
-        this.sysFileService.download(fileId, response);
+        this.sysFileService.download(fileId, request, response);
     }
 
     /**
@@ -46,7 +46,7 @@ public interface SysMsgUserMapper extends BreezeBaseMapper<SysMsgUser> {
      * @param userMsgQuery 用户消息查询
      * @return {@link IPage}<{@link MsgUserVO}>
      */
-    @BreezeDataPermission(dept = DataRole.DEPT_ID)
+    @BreezeDataPermission(dept = DataRole.DEPT_ID, alias = "a")
     @DymicSql
     IPage<MsgUserVO> listPage(Page<SysMsgUser> page,@ConditionParam @Param("userMsgQuery") UserMsgQuery userMsgQuery);
 
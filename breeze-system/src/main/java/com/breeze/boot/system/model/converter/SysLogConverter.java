@@ -22,6 +22,8 @@ import com.breeze.boot.system.model.entity.SysLog;
 import com.breeze.boot.system.model.vo.LogVO;
 import org.mapstruct.Mapper;
 
+import java.util.List;
+
 /**
  * 日志转换器
  *
@@ -37,4 +39,6 @@ public interface SysLogConverter {
 
     SysLog bo2Entity(SysLogBO sysLogBO);
 
+    List<SysLog> bo2EntityList(List<SysLogBO> sysLogBOList);
+
 }
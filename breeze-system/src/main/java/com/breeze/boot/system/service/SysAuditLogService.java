@@ -18,11 +18,12 @@ package com.breeze.boot.system.service;
 
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.IService;
+import com.breeze.boot.mybatis.events.SysAuditLogEntry;
 import com.breeze.boot.system.model.entity.SysAuditLog;
 import com.breeze.boot.system.model.query.AuditLogQuery;
 import com.breeze.boot.system.model.vo.AuditLogVO;
 
-import java.util.Map;
+import java.util.List;
 
 /**
  * 系统审计日志服务
@@ -41,11 +42,11 @@ public interface SysAuditLogService extends IService<SysAuditLog> {
     Page<AuditLogVO> listPage(AuditLogQuery query);
 
     /**
-     * 保存审核日志
+     * 批量保存审核日志
      *
-     * @param source 来源
+     * @param source 一批审计差异，每一项为一次更新的字段差异以及更新时间
      */
-    void saveAuditLog(Map<String, Map<String, Object>> source);
+    void saveAuditLog(List<SysAuditLogEntry> source);
 
     /**
      * 按id获取信息
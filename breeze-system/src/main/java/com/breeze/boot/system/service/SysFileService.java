@@ -79,9 +79,10 @@ public interface SysFileService extends IService<SysFile> {
      * 下载
      *
      * @param fileId   文件标识
+     * @param request  请求，读取 Range 以及条件请求头
      * @param response 响应
      */
-    void download(Long fileId, HttpServletResponse response);
+    void download(Long fileId, HttpServletRequest request, HttpServletResponse response);
 
     /**
      * 通过id删除文件
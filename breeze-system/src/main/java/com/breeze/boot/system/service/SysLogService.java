@@ -24,6 +24,8 @@ import com.breeze.boot.system.model.query.LogQuery;
 import com.breeze.boot.system.model.vo.LogVO;
 import com.breeze.boot.system.model.vo.StatisticLoginUser;
 
+import java.util.List;
+
 /**
  * 系统日志服务
  *
@@ -56,6 +58,13 @@ public interface SysLogService extends IService<SysLog> {
      */
     void saveSysLog(SysLogBO sysLogBO);
 
+    /**
+     * 批量保存系统日志
+     *
+     * @param sysLogBOList 系统日志BO列表
+     */
+    void saveSysLogBatch(List<SysLogBO> sysLogBOList);
+
     /**
      * 清空
      */
@@ -19,6 +19,7 @@ package com.breeze.boot.system.service.impl;
 import cn.hutool.core.util.RandomUtil;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.breeze.boot.mybatis.events.SysAuditLogEntry;
 import com.breeze.boot.system.mapper.SysAuditLogMapper;
 import com.breeze.boot.system.model.converter.SysAuditLogConverter;
 import com.breeze.boot.system.model.entity.SysAuditLog;
@@ -32,7 +33,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -61,25 +61,29 @@ public class SysAuditLogServiceImpl extends ServiceImpl<SysAuditLogMapper, SysAu
     }
 
     /**
-     * 保存审核日志
+     * 批量保存审核日志，同一次更新的字段使用同一批次
      *
-     * @param source 来源
+     * @param source 一批审计差异，每一项为一次更新的字段差异以及更新时间
      */
     @Override
     @Transactional(rollbackFor = Exception.class)
-    public void saveAuditLog(Map<String, Map<String, Object>> source) {
+    public void saveAuditLog(List<SysAuditLogEntry> source) {
         List<SysAuditLog> auditList = Lists.newArrayList();
-        source.forEach((field, difMap) -> {
-            SysAuditLog sysAudit = new SysAuditLog();
-            sysAudit.setField(field);
-            Object old = difMap.get("old");
-            sysAudit.setPrevious(Objects.nonNull(old) ? old.toString() : null);
-            Object aNew = difMap.get("new");
-            sysAudit.setNow(Objects.nonNull(aNew) ? aNew.toString() : null);
-            sysAudit.setTime(LocalDateTime.now());
-            sysAudit.setBatch(RandomUtil.randomString(10));
-            auditList.add(sysAudit);
-        });
+        for (SysAuditLogEntry entry : source) {
+            String batch = RandomUtil.randomString(10);
+            LocalDateTime time = entry.getTime();
+            entry.getDiffData().forEach((field, difMap) -> {
+                SysAuditLog sysAudit = new SysAuditLog();
+                sysAudit.setField(field);
+                Object old = difMap.get("old");
+                sysAudit.setPrevious(Objects.nonNull(old) ? old.toString() : null);
+                Object aNew = difMap.get("new");
+                sysAudit.setNow(Objects.nonNull(aNew) ? aNew.toString() : null);
+                sysAudit.setTime(time);
+                sysAudit.setBatch(batch);
+                auditList.add(sysAudit);
+            });
+        }
         this.saveBatch(auditList);
     }
 
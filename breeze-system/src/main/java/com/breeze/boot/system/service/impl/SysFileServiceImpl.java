@@ -44,6 +44,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 
@@ -123,13 +124,16 @@ public class SysFileServiceImpl extends ServiceImpl<SysFileMapper, SysFile> impl
         // 创建存储桶（如果尚未存在）
         this.ossTemplate.createBucket(SYSTEM_BUCKET_NAME);
 
-        // 将文件上传至Minio S3
-        this.ossTemplate.putObject(
-                SYSTEM_BUCKET_NAME,
-                objectName,
-                file.getInputStream(),
-                ContentType.getContentType(originalFilename)
-        );
+        // 将文件流式上传至Minio S3，使用已知的文件大小，不在内存中缓存整个文件
+        try (InputStream inputStream = file.getInputStream()) {
+            this.ossTemplate.putObject(
+                    SYSTEM_BUCKET_NAME,
+                    objectName,
+                    inputStream,
+                    file.getSize(),
+                    ContentType.getContentType(originalFilename)
+            );
+        }
 
         // 构建SysFile实体以记录文件信息至数据库
         SysFile sysFile = SysFile.builder()
@@ -227,13 +231,14 @@ public class SysFileServiceImpl extends ServiceImpl<SysFileMapper, SysFile> impl
      * 下载
      *
      * @param fileId   文件ID
+     * @param request  请求
      * @param response 响应
      */
     @Override
-    public void download(Long fileId, HttpServletResponse response) {
+    public void download(Long fileId, HttpServletRequest request, HttpServletResponse response) {
         SysFile sysFile = this.getById(fileId);
         AssertUtil.isNotNull(sysFile, FILE_NOT_FOUND);
-        this.ossTemplate.downloadObject(SYSTEM_BUCKET_NAME, sysFile.getUri(), sysFile.getName(), response);
+        this.ossTemplate.downloadObject(SYSTEM_BUCKET_NAME, sysFile.getUri(), sysFile.getName(), request, response);
     }
 
     /**
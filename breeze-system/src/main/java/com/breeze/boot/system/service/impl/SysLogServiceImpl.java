@@ -29,6 +29,8 @@ import com.breeze.boot.system.service.SysLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 系统日志服务impl
  *
@@ -73,6 +75,18 @@ public class SysLogServiceImpl extends ServiceImpl<SysLogMapper, SysLog> impleme
         this.save(sysLog);
     }
 
+    /**
+     * 批量保存系统日志
+     *
+     * @param sysLogBOList 系统日志BO列表
+     */
+    @Override
+    public void saveSysLogBatch(List<SysLogBO> sysLogBOList) {
+        List<SysLog> sysLogList = this.sysLogConverter.bo2EntityList(sysLogBOList);
+        sysLogList.forEach(sysLog -> sysLog.setSystemModule(systemName));
+        this.baseMapper.insertAllBatch(sysLogList);
+    }
+
     /**
      * 清空
      */
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025, gaoweixuan (breeze-cloud@foxmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.breeze.boot.system.mapper;
+
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.stp.StpUtil;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.MybatisSqlSessionFactoryBuilder;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.breeze.boot.core.enums.DataPermissionType;
+import com.breeze.boot.core.model.UserPrincipal;
+import com.breeze.boot.mybatis.metadata.MappedStatementMetadataRegistry;
+import com.breeze.boot.mybatis.metadata.SqlTemplateCache;
+import com.breeze.boot.mybatis.plugins.BreezeDataPermissionInterceptor;
+import com.breeze.boot.system.model.entity.SysMsgUser;
+import com.breeze.boot.system.model.query.UserMsgQuery;
+import com.breeze.boot.system.model.vo.MsgUserVO;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.breeze.boot.core.constants.CoreConstants.USER_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 系统消息用户 Mapper 测试
+ * <p>
+ * 使用 H2 内存库执行 listPage，验证部门数据权限条件下推到别名 a 的 WHERE 中，
+ * 并且结果与原先外层子查询包装的写法一致。
+ * </p>
+ *
+ * @author gaoweixuan
+ * @since 2025-07-01
+ */
+class SysMsgUserMapperTest {
+
+    private static final long DEPT_ID = 10L;
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE sys_user (id BIGINT PRIMARY KEY, username VARCHAR(64), dept_id BIGINT, is_delete INT DEFAULT 0)",
+            "CREATE TABLE sys_msg (id BIGINT PRIMARY KEY, title VARCHAR(64), `code` VARCHAR(64), type INT, `level` VARCHAR(16), "
+                    + "content VARCHAR(255), is_delete INT DEFAULT 0)",
+            "CREATE TABLE sys_msg_user (id BIGINT PRIMARY KEY, msg_id BIGINT, user_id BIGINT, dept_id BIGINT, is_read INT DEFAULT 0, "
+                    + "is_close INT DEFAULT 0, create_time TIMESTAMP)",
+            "CREATE INDEX idx_msg_user_dept ON sys_msg_user (dept_id)",
+            "INSERT INTO sys_user (id, username, dept_id, is_delete) VALUES (1, 'alice', 10, 0), (2, 'bob', 20, 0), (3, 'carol', 10, 1)",
+            "INSERT INTO sys_msg (id, title, `code`, type, `level`, content, is_delete) VALUES "
+                    + "(1, 'notice A', 'N1', 1, 'info', 'a', 0), (2, 'notice B', 'N2', 1, 'warning', 'b', 0), "
+                    + "(3, 'notice C', 'N3', 1, 'info', 'c', 1), (4, 'other', 'O1', 2, 'info', 'd', 0)",
+            "INSERT INTO sys_msg_user (id, msg_id, user_id, dept_id, create_time) VALUES "
+                    + "(1, 1, 1, 10, TIMESTAMP '2025-07-01 10:00:00'), (2, 2, 1, 10, TIMESTAMP '2025-07-01 11:00:00'), "
+                    + "(3, 1, 2, 20, TIMESTAMP '2025-07-01 12:00:00'), (4, 3, 1, 10, TIMESTAMP '2025-07-01 13:00:00'), "
+                    + "(5, 4, 1, 10, TIMESTAMP '2025-07-01 14:00:00'), (6, 2, 3, 10, TIMESTAMP '2025-07-01 15:00:00'), "
+                    + "(7, 2, 2, 20, TIMESTAMP '2025-07-01 16:00:00'), (8, 1, 1, 10, TIMESTAMP '2025-07-01 17:00:00')"
+    };
+
+    private static JdbcDataSource dataSource;
+
+    private static SqlSessionFactory sqlSessionFactory;
+
+    /**
+     * 数据权限拦截前后的 SQL
+     */
+    private static final List<String> ORIGINAL_SQL = new ArrayList<>();
+
+    private static final List<String> PERMISSION_SQL = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:sys-msg-user;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        }
+
+        MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
+        interceptor.addInnerInterceptor(capture(ORIGINAL_SQL));
+        interceptor.addInnerInterceptor(new BreezeDataPermissionInterceptor(new MappedStatementMetadataRegistry(null), new SqlTemplateCache(16)));
+        interceptor.addInnerInterceptor(capture(PERMISSION_SQL));
+        interceptor.addInnerInterceptor(new PaginationInnerInterceptor());
+
+        MybatisConfiguration configuration = new MybatisConfiguration();
+        configuration.setEnvironment(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.addInterceptor(interceptor);
+        String resource = "mapper/system/SysMsgUserMapper.xml";
+        try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        sqlSessionFactory = new MybatisSqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    void deptPredicateIsPushedDownIntoAliasedTable() throws Exception {
+        List<MsgUserVO> records = this.listPage("notice");
+
+        String sql = PERMISSION_SQL.get(PERMISSION_SQL.size() - 1);
+        PlainSelect select = (PlainSelect) CCJSqlParserUtil.parse(sql);
+        assertThat(select.getFromItem().getAlias().getName()).isEqualTo("a");
+        assertThat(select.getWhere().toString()).contains("(a.dept_id = " + DEPT_ID + ")");
+        assertThat(sql).doesNotContain("temp");
+        // 部门条件直接命中别名 a 所在表的索引
+        assertThat(this.explain(sql, "notice")).containsIgnoringCase("idx_msg_user_dept");
+
+        assertThat(records).extracting(MsgUserVO::getId).containsExactly(8L, 2L, 1L);
+    }
+
+    @Test
+    void pushdownRowsMatchOuterWrappedQuery() throws Exception {
+        List<MsgUserVO> records = this.listPage("notice");
+
+        String originalSql = ORIGINAL_SQL.get(ORIGINAL_SQL.size() - 1);
+        String wrappedSql = String.format("SELECT temp.* FROM (%s) temp WHERE temp.dept_id = %s", originalSql, DEPT_ID);
+        List<String> wrappedRows = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(wrappedSql)) {
+            statement.setString(1, "notice");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    wrappedRows.add(resultSet.getLong("id") + ":" + resultSet.getString("title") + ":" + resultSet.getString("username"));
+                }
+            }
+        }
+
+        assertThat(records).extracting(record -> record.getId() + ":" + record.getTitle() + ":" + record.getUsername())
+                .containsExactlyInAnyOrderElementsOf(wrappedRows)
+                .isNotEmpty();
+    }
+
+    private List<MsgUserVO> listPage(String title) {
+        UserPrincipal userPrincipal = new UserPrincipal();
+        userPrincipal.setDeptId(DEPT_ID);
+        userPrincipal.setPermissionType(DataPermissionType.DEPT_LEVEL.getType());
+        SaSession session = Mockito.mock(SaSession.class);
+        Mockito.when(session.get(USER_TYPE)).thenReturn(userPrincipal);
+
+        UserMsgQuery userMsgQuery = new UserMsgQuery();
+        userMsgQuery.setTitle(title);
+        try (MockedStatic<StpUtil> stpUtil = Mockito.mockStatic(StpUtil.class);
+             SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            stpUtil.when(StpUtil::getSession).thenReturn(session);
+            IPage<MsgUserVO> page = sqlSession.getMapper(SysMsgUserMapper.class).listPage(new Page<SysMsgUser>(1, 100, false), userMsgQuery);
+            return page.getRecords();
+        }
+    }
+
+    private String explain(String sql, String title) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            statement.setString(1, title);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    private static InnerInterceptor capture(List<String> sqlList) {
+        return new InnerInterceptor() {
+            @Override
+            public void beforeQuery(Executor executor, MappedStatement ms, Object parameter, RowBounds rowBounds,
+                                    ResultHandler resultHandler, BoundSql boundSql) {
+                sqlList.add(boundSql.getSql());
+            }
+        };
+    }
+
+}
@@ -16,19 +16,25 @@
 
 package com.breeze.boot.config;
 
-import com.breeze.boot.log.bo.SysLogBO;
-import com.breeze.boot.log.events.LocalSysLogSaveEventListener;
+import com.breeze.boot.log.events.BufferedSysLogSaveEventListener;
+import com.breeze.boot.log.sink.SysLogSink;
+import com.breeze.boot.log.sink.SysLogSinkProperties;
 import com.breeze.boot.system.service.SysAuditLogService;
 import com.breeze.boot.system.service.SysMsgUserService;
 import com.breeze.boot.system.service.SysLogService;
 import com.breeze.boot.message.dto.UserMsgDTO;
 import com.breeze.boot.message.events.MsgSaveEventListener;
 import com.breeze.boot.mybatis.events.LocalSysAuditLogSaveEventListener;
+import com.breeze.boot.mybatis.events.SysAuditLogEntry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Map;
+import java.util.List;
 
 /**
  * 系统日志收集的配置
@@ -38,6 +44,7 @@ import java.util.Map;
  */
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(SysLogSinkProperties.class)
 public class ListenerConfiguration {
 
     /**
@@ -55,14 +62,41 @@ public class ListenerConfiguration {
      */
     private final SysMsgUserService sysMsgUserService;
 
+    /**
+     * 系统日志写入缓冲，批量保存
+     *
+     * @param properties 系统日志写入缓冲属性
+     * @return {@link SysLogSink}
+     */
+    @Bean
+    public SysLogSink sysLogSink(SysLogSinkProperties properties) {
+        return new SysLogSink(this.sysLogService::saveSysLogBatch, properties);
+    }
+
     /**
      * 日志保存侦听器
      *
-     * @return {@link LocalSysLogSaveEventListener}
+     * @param sysLogSink 系统日志写入缓冲
+     * @return {@link BufferedSysLogSaveEventListener}
+     */
+    @Bean
+    public BufferedSysLogSaveEventListener logSaveEventListener(SysLogSink sysLogSink) {
+        return new BufferedSysLogSaveEventListener(sysLogSink);
+    }
+
+    /**
+     * 系统日志写入缓冲指标：队列深度、丢弃数量、写入数量
+     *
+     * @param sysLogSink 系统日志写入缓冲
+     * @return {@link MeterBinder}
      */
     @Bean
-    public LocalSysLogSaveEventListener logSaveEventListener() {
-        return new LocalSysLogSaveEventListener((source) -> this.sysLogService.saveSysLog((SysLogBO) source.getSource()));
+    public MeterBinder sysLogSinkMetrics(SysLogSink sysLogSink) {
+        return registry -> {
+            Gauge.builder("breeze.log.sink.queue.depth", sysLogSink, SysLogSink::getQueueDepth).register(registry);
+            FunctionCounter.builder("breeze.log.sink.dropped", sysLogSink, SysLogSink::getDroppedCount).register(registry);
+            FunctionCounter.builder("breeze.log.sink.flushed", sysLogSink, SysLogSink::getFlushedCount).register(registry);
+        };
     }
 
     /**
@@ -83,7 +117,7 @@ public class ListenerConfiguration {
      */
     @Bean
     public LocalSysAuditLogSaveEventListener localSysAuditLogSaveEventListener() {
-        return new LocalSysAuditLogSaveEventListener((source) -> this.sysAuditLogService.saveAuditLog((Map<String,Map<String,Object>>) source.getSource()));
+        return new LocalSysAuditLogSaveEventListener((source) -> this.sysAuditLogService.saveAuditLog((List<SysAuditLogEntry>) source.getSource()));
     }
 
 }
@@ -32,6 +32,7 @@ import com.breeze.boot.satoken.oauth2.email.EmailCodeGrantTypeHandler;
 import com.breeze.boot.satoken.oauth2.oidc.BreezeOidcScopeHandler;
 import com.breeze.boot.satoken.oauth2.phone.PhoneCodeGrantTypeHandler;
 import com.breeze.boot.satoken.oauth2.userinfo.UserinfoScopeHandler;
+import com.breeze.boot.satoken.spt.BreezePermissionCache;
 import com.breeze.boot.satoken.spt.StpInterfaceImpl;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -61,6 +62,8 @@ public class ResourceServerConfiguration {
 
     private final AesSecretProperties aesSecretProperties;
 
+    private final BreezePermissionCache permissionCache;
+
     public String getActiveProfile() {
         return context.getEnvironment().getActiveProfiles()[0];
     }
@@ -72,17 +75,17 @@ public class ResourceServerConfiguration {
 
     @Bean
     public StpInterfaceImpl stpInterfaceImpl() {
-        return new StpInterfaceImpl(this.userService);
+        return new StpInterfaceImpl(this.userService, this.permissionCache);
     }
 
     @Bean
     public SaTokenOauthConfigure saTokenOauthConfigure() {
-        return new SaTokenOauthConfigure(userService, aesSecretProperties, publisherSaveSysLogEvent);
+        return new SaTokenOauthConfigure(userService, aesSecretProperties, publisherSaveSysLogEvent, permissionCache);
     }
 
     @Bean
     public BreezePasswordGrantTypeHandler breezePasswordGrantTypeHandler() {
-        return new BreezePasswordGrantTypeHandler(userService, aesSecretProperties, publisherSaveSysLogEvent, this::checkCapture);
+        return new BreezePasswordGrantTypeHandler(userService, aesSecretProperties, publisherSaveSysLogEvent, permissionCache, this::checkCapture);
     }
 
     /**
@@ -20,6 +20,8 @@ import cn.hutool.core.util.StrUtil;
 import com.breeze.boot.core.enums.ResultCode;
 import com.breeze.boot.core.exception.BreezeBizException;
 import com.breeze.boot.core.utils.BreezeTenantHolder;
+import com.breeze.boot.core.utils.PathPatternSet;
+import com.breeze.boot.mybatis.config.TenantProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -47,11 +49,24 @@ import static com.breeze.boot.core.constants.CoreConstants.X_TENANT_ID;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class TenantLoadFilter extends GenericFilterBean {
 
+    /**
+     * 无需加载租户的路径
+     */
+    private final PathPatternSet ignorePatterns;
+
+    public TenantLoadFilter(TenantProperties tenantProperties) {
+        this.ignorePatterns = PathPatternSet.of(tenantProperties.getIgnoreUrls());
+    }
+
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
             throws IOException, ServletException {
         HttpServletRequest request = (HttpServletRequest) servletRequest;
         HttpServletResponse response = (HttpServletResponse) servletResponse;
+        if (this.ignorePatterns.matches(request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
         try {
             String tenantId = getTenantIdFromRequest(request);
             if (StrUtil.isNotBlank(tenantId)) {
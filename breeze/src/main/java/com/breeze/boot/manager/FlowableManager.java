@@ -26,7 +26,9 @@ import com.breeze.boot.core.utils.BreezeTenantHolder;
 import com.breeze.boot.bpm.model.entity.Group;
 import com.breeze.boot.bpm.model.entity.Membership;
 import com.breeze.boot.bpm.model.entity.User;
+import com.breeze.boot.bpm.model.vo.BpmIdentitySyncVO;
 import com.breeze.boot.bpm.service.IMembershipService;
+import com.breeze.boot.bpm.service.impl.BpmIdentitySynchronizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -44,72 +46,51 @@ public class FlowableManager {
 
     private final IMembershipService membershipService;
 
+    private final BpmIdentitySynchronizer identitySynchronizer;
+
     /**
-     * 同步用户信息
+     * 同步用户信息，只写入与 ACT_ID_* 当前数据的差异
+     *
+     * @param flowUserBOList 用户
+     * @param roles          角色
+     * @return {@link BpmIdentitySyncVO}
      */
-    public void syncUser(List<FlowUserBO> flowUserBOList, List<SysRole> roles) {
-        this.groupService.saveOrUpdateBatch(roles.stream().map(sysRole ->
-                Group.builder()
+    public BpmIdentitySyncVO syncUser(List<FlowUserBO> flowUserBOList, List<SysRole> roles) {
+        List<Group> groups = roles.stream()
+                .map(sysRole -> Group.builder()
                         .id(sysRole.getRoleCode())
                         .name(sysRole.getRoleName())
+                        .rev(1)
                         .build())
-                .collect(Collectors.toList()));
-        List<User> userList = this.userService.list();
-        List<User> deleteUser = userList.stream()
-                .filter(item -> flowUserBOList.stream()
-                        .noneMatch(userBO -> userBO.getUsername().equals(item.getId())))
-                .toList();
-        for (User user : deleteUser) {
-            this.membershipService.remove(Wrappers.<Membership>lambdaQuery().eq(Membership::getUserId, user.getId()));
-            this.userService.remove(Wrappers.<User>lambdaQuery().eq(User::getId, user.getId()));
-        }
-        for (FlowUserBO flowUserBO : flowUserBOList) {
-            User user = this.userService.getById(flowUserBO.getUsername());
-            if (Objects.nonNull(user)) {
-                user.setId(flowUserBO.getUsername());
-                user.setEmail(flowUserBO.getEmail());
-                user.setDisplayName(flowUserBO.getDisplayName());
-                userService.updateById(user);
-            } else {
-                userService.save(User.builder()
+                .collect(Collectors.toList());
+        List<User> users = flowUserBOList.stream()
+                .map(flowUserBO -> User.builder()
                         .id(flowUserBO.getUsername())
                         .displayName(flowUserBO.getDisplayName())
                         .first(flowUserBO.getUsername())
                         .rev(1)
                         .last(flowUserBO.getUsername())
                         .email(flowUserBO.getEmail())
-                        .build());
-            }
-            syncGroupShip(flowUserBO);
-        }
+                        .build())
+                .collect(Collectors.toList());
+        List<Membership> memberships = flowUserBOList.stream()
+                .filter(flowUserBO -> Objects.nonNull(flowUserBO.getRoleList()))
+                .flatMap(flowUserBO -> flowUserBO.getRoleList().stream()
+                        .map(sysRole -> Membership.builder()
+                                .userId(flowUserBO.getUsername())
+                                .groupId(sysRole.getRoleCode())
+                                .build()))
+                .collect(Collectors.toList());
+        return this.identitySynchronizer.sync(users, groups, memberships);
     }
 
     /**
-     * 同步用户-角色信息
+     * 获取最近一次同步的进度
+     *
+     * @return {@link BpmIdentitySyncVO}
      */
-    public void syncGroupShip(FlowUserBO flowUserBO) {
-        List<SysRole> roleList = flowUserBO.getRoleList();
-        for (SysRole sysRole : roleList) {
-            Group group = groupService.getOne(Wrappers.<Group>lambdaQuery().eq(Group::getId, sysRole.getRoleCode()));
-            if (Objects.nonNull(group)) {
-                this.saveMembership(flowUserBO, sysRole);
-                this.groupService.updateById(Group.builder().name(sysRole.getRoleName()).build());
-            } else {
-                this.groupService.save(Group.builder().id(sysRole.getRoleCode()).name(sysRole.getRoleName())
-                        .rev(1).build());
-                this.saveMembership(flowUserBO, sysRole);
-            }
-        }
-    }
-
-    private void saveMembership(FlowUserBO flowUserBO, SysRole sysRole) {
-        Membership membership = this.membershipService.getOne(Wrappers.<Membership>lambdaQuery().eq(Membership::getUserId, flowUserBO.getUsername()).eq(Membership::getGroupId, sysRole.getRoleCode()));
-        if (Objects.nonNull(membership)) {
-            this.membershipService.remove(Wrappers.<Membership>lambdaQuery().eq(Membership::getUserId, flowUserBO.getUsername()).eq(Membership::getGroupId, sysRole.getRoleCode()));
-        }
-        this.membershipService.save(Membership.builder().groupId(sysRole.getRoleCode())
-                .userId(flowUserBO.getUsername())
-                .build());
+    public BpmIdentitySyncVO getSyncProgress() {
+        return this.identitySynchronizer.getProgress();
     }
 
     public void createUser(SysUser sysUser, String password, List<SysRole> sysRoles) {
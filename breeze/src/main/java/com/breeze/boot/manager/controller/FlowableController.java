@@ -16,6 +16,8 @@
 
 package com.breeze.boot.manager.controller;
 
+import com.breeze.boot.bpm.model.vo.BpmIdentitySyncVO;
+import com.breeze.boot.core.utils.Result;
 import com.breeze.boot.manager.service.FlowableService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -47,8 +49,17 @@ public class FlowableController {
      */
     @Operation(summary = "同步用户角色和用户角色关系")
     @GetMapping("/syncFlowableUser")
-    public void syncFlowableUser() {
-        this.flowableService.syncFlowableUser();
+    public Result<BpmIdentitySyncVO> syncFlowableUser() {
+        return Result.ok(this.flowableService.syncFlowableUser());
+    }
+
+    /**
+     * 获取同步进度
+     */
+    @Operation(summary = "获取同步进度")
+    @GetMapping("/syncFlowableUser/progress")
+    public Result<BpmIdentitySyncVO> getSyncProgress() {
+        return Result.ok(this.flowableService.getSyncProgress());
     }
 
 }
@@ -16,11 +16,22 @@
 
 package com.breeze.boot.manager.service;
 
+import com.breeze.boot.bpm.model.vo.BpmIdentitySyncVO;
+
 public interface FlowableService {
 
     /**
      * 同步用户角色和用户角色关系
+     *
+     * @return {@link BpmIdentitySyncVO}
+     */
+    BpmIdentitySyncVO syncFlowableUser();
+
+    /**
+     * 获取最近一次同步的进度
+     *
+     * @return {@link BpmIdentitySyncVO}
      */
-    void syncFlowableUser();
+    BpmIdentitySyncVO getSyncProgress();
 
 }
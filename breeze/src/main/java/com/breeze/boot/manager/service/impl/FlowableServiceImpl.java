@@ -16,19 +16,22 @@
 
 package com.breeze.boot.manager.service.impl;
 
-import cn.hutool.core.collection.CollUtil;
 import com.breeze.boot.auth.model.bo.FlowUserBO;
 import com.breeze.boot.auth.model.entity.SysRole;
 import com.breeze.boot.auth.model.entity.SysUser;
+import com.breeze.boot.auth.model.entity.SysUserRole;
 import com.breeze.boot.auth.service.SysRoleService;
 import com.breeze.boot.auth.service.SysUserRoleService;
 import com.breeze.boot.auth.service.SysUserService;
+import com.breeze.boot.bpm.model.vo.BpmIdentitySyncVO;
 import com.breeze.boot.manager.FlowableManager;
 import com.breeze.boot.manager.service.FlowableService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,27 +44,33 @@ public class FlowableServiceImpl implements FlowableService {
     private final SysUserRoleService sysUserRoleService;
 
     /**
-     * 同步审批流用户
+     * 同步审批流用户，用户、角色、用户角色关系各一次查询
      */
     @Override
-    public void syncFlowableUser() {
+    public BpmIdentitySyncVO syncFlowableUser() {
         List<SysUser> sysUserList = this.sysUserService.list();
         List<SysRole> roles = this.sysRoleService.list();
-        List<FlowUserBO> syncUser = sysUserList.stream().map(item -> {
-            FlowUserBO flowUserBO = FlowUserBO.builder()
-                    .userId(item.getId())
-                    .username(item.getUsername())
-                    .displayName(item.getDisplayName())
-                    .email(item.getEmail())
-                    .build();
-            List<SysRole> userRoleList = this.sysUserRoleService.getSysRoleByUserId(item.getId());
-            if (CollUtil.isNotEmpty(userRoleList)) {
-                List<SysRole> sysRoleList = this.sysRoleService.listByIds(userRoleList.stream().map(SysRole::getId).collect(Collectors.toList()));
-                flowUserBO.setRoleList(sysRoleList);
-            }
-            return flowUserBO;
-        }).collect(Collectors.toList());
-        this.flowableManager.syncUser(syncUser, roles);
+        Map<Long, SysRole> roleMap = roles.stream().collect(Collectors.toMap(SysRole::getId, Function.identity()));
+        Map<Long, List<SysRole>> userRoleMap = this.sysUserRoleService.list().stream()
+                .filter(userRole -> roleMap.containsKey(userRole.getRoleId()))
+                .collect(Collectors.groupingBy(SysUserRole::getUserId,
+                        Collectors.mapping(userRole -> roleMap.get(userRole.getRoleId()), Collectors.toList())));
+        List<FlowUserBO> syncUser = sysUserList.stream().map(item -> FlowUserBO.builder()
+                .userId(item.getId())
+                .username(item.getUsername())
+                .displayName(item.getDisplayName())
+                .email(item.getEmail())
+                .roleList(userRoleMap.get(item.getId()))
+                .build()).collect(Collectors.toList());
+        return this.flowableManager.syncUser(syncUser, roles);
+    }
+
+    /**
+     * 获取最近一次同步的进度
+     */
+    @Override
+    public BpmIdentitySyncVO getSyncProgress() {
+        return this.flowableManager.getSyncProgress();
     }
 
 }